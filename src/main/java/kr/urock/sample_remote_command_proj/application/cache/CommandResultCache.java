@@ -1,16 +1,20 @@
 package kr.urock.sample_remote_command_proj.application.cache;
 
+import kr.urock.sample_remote_command_proj.application.cache.dto.CommandResultCacheStats;
 import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
 
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
  * 명령어 실행 결과 캐시 인터페이스
  *
  * 캐싱 전략 추상화
- * - NoOp 구현 (캐싱 안함)
+ * - NoOp 구현 (캐싱 안함, app.cache.type=none)
+ * - 메모리 캐시 구현 (W-TinyLFU, app.cache.type=memory)
  * - Redis 구현 (추후)
- * - 메모리 캐시 구현 (추후)
  */
 public interface CommandResultCache {
 
@@ -30,6 +34,15 @@ public interface CommandResultCache {
      */
     void put(String key, CommandResult result);
 
+    /**
+     * 만료 기간을 지정하여 캐시에 결과 저장
+     *
+     * @param key 캐시 키
+     * @param result 결과
+     * @param ttl 만료 기간
+     */
+    void put(String key, CommandResult result, Duration ttl);
+
     /**
      * 캐시 무효화
      *
@@ -41,4 +54,18 @@ public interface CommandResultCache {
      * 전체 캐시 초기화
      */
     void clear();
+
+    /**
+     * 캐시 통계 (적중/미스/제거)
+     */
+    CommandResultCacheStats getStats();
+
+    /**
+     * 명령어 결과 캐시 키 (호스트 + 출력 보관 방식 + 명령어)
+     */
+    static String key(String targetHost, OutputCaptureMode outputMode, String commandText) {
+        return targetHost.toLowerCase(Locale.ROOT) + '\u0000'
+            + (outputMode != null ? outputMode : OutputCaptureMode.FULL) + '\u0000'
+            + commandText.trim();
+    }
 }
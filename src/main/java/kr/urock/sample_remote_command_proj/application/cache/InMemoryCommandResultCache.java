@@ -0,0 +1,144 @@
+package kr.urock.sample_remote_command_proj.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import kr.urock.sample_remote_command_proj.application.cache.dto.CommandResultCacheStats;
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 메모리 캐시 구현 (Caffeine)
+ *
+ * 명령어 결과를 바이트 예산 안에서 보관
+ * - W-TinyLFU 제거 정책: 자주 조회되는 결과를 우선 유지, 한 번만 조회된 큰 결과가 밀어내지 못함
+ * - 결과 크기(추정 바이트) 기준 가중치, 전체 합이 max-bytes를 넘지 않음
+ * - 항목마다 만료 기간 (화이트리스트 @ttl)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.type", havingValue = "memory")
+public class InMemoryCommandResultCache implements CommandResultCache {
+
+    // 항목당 고정 오버헤드 추정치 (객체 헤더, 참조, 맵 노드)
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final Cache<String, CachedResult> cache;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final Duration defaultTtl;
+
+    public InMemoryCommandResultCache(
+        @Value("${app.cache.memory.max-bytes:67108864}") long maxBytes,
+        @Value("${app.cache.memory.max-entry-bytes:1048576}") long maxEntryBytes,
+        @Value("${app.cache.memory.default-ttl-seconds:60}") long defaultTtlSeconds
+    ) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, CachedResult value) -> value.weight())
+            .expireAfter(new PerEntryExpiry())
+            .recordStats()
+            .build();
+        log.info("In-memory command result cache initialized. maxBytes={}, maxEntryBytes={}",
+            maxBytes, maxEntryBytes);
+    }
+
+    @Override
+    public Optional<CommandResult> get(String key) {
+        CachedResult cached = cache.getIfPresent(key);
+        return cached != null ? Optional.of(cached.result()) : Optional.empty();
+    }
+
+    @Override
+    public void put(String key, CommandResult result) {
+        put(key, result, defaultTtl);
+    }
+
+    @Override
+    public void put(String key, CommandResult result, Duration ttl) {
+        int weight = estimateBytes(key, result);
+        if (weight > maxEntryBytes) {
+            // 너무 큰 결과는 다른 항목을 밀어내지 않도록 저장하지 않음
+            log.debug("Result too large to cache ({} bytes): {}", weight, key);
+            return;
+        }
+        cache.put(key, new CachedResult(result, ttl.toNanos(), weight));
+    }
+
+    @Override
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public CommandResultCacheStats getStats() {
+        // 대기 중인 유지 작업(크기 반영/만료) 처리 후 집계
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+        return CommandResultCacheStats.builder()
+            .type("memory")
+            .entries(cache.estimatedSize())
+            .usedBytes(cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+            .maxBytes(maxBytes)
+            .hitCount(stats.hitCount())
+            .missCount(stats.missCount())
+            .hitRate(stats.hitRate())
+            .evictionCount(stats.evictionCount())
+            .evictedBytes(stats.evictionWeight())
+            .build();
+    }
+
+    /**
+     * 결과 크기 추정 (Java 문자열 UTF-16 기준)
+     */
+    static int estimateBytes(String key, CommandResult result) {
+        long chars = key.length()
+            + length(result.getOutput())
+            + length(result.getErrorOutput())
+            + length(result.getErrorMessage());
+        return (int) Math.min(Integer.MAX_VALUE, chars * 2 + ENTRY_OVERHEAD_BYTES);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private record CachedResult(CommandResult result, long ttlNanos, int weight) {
+    }
+
+    /**
+     * 항목별 만료 (저장 시점부터 ttl, 조회는 만료를 연장하지 않음)
+     */
+    private static final class PerEntryExpiry implements Expiry<String, CachedResult> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResult value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResult value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResult value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package kr.urock.sample_remote_command_proj.application.cache;
 
+import kr.urock.sample_remote_command_proj.application.cache.dto.CommandResultCacheStats;
 import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -15,6 +18,7 @@ import java.util.Optional;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "app.cache.type", havingValue = "none", matchIfMissing = true)
 public class NoOpCommandResultCache implements CommandResultCache {
 
     @Override
@@ -29,6 +33,12 @@ public class NoOpCommandResultCache implements CommandResultCache {
         // No operation
     }
 
+    @Override
+    public void put(String key, CommandResult result, Duration ttl) {
+        log.trace("Cache put (NoOp): {}", key);
+        // No operation
+    }
+
     @Override
     public void invalidate(String key) {
         log.trace("Cache invalidate (NoOp): {}", key);
@@ -40,4 +50,9 @@ public class NoOpCommandResultCache implements CommandResultCache {
         log.trace("Cache clear (NoOp)");
         // No operation
     }
+
+    @Override
+    public CommandResultCacheStats getStats() {
+        return CommandResultCacheStats.disabled();
+    }
 }
@@ -0,0 +1,341 @@
+package kr.urock.sample_remote_command_proj.application.cache;
+
+import kr.urock.sample_remote_command_proj.application.cache.dto.CommandResultCacheStats;
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 힙 밖(off-heap) 명령어 결과 캐시
+ *
+ * 결과 바이트를 고정 크기 세그먼트(direct 버퍼 또는 파일 매핑)에 순서대로 기록
+ * - 힙에는 키 → (세그먼트, 위치, 길이, 만료 시각) 인덱스만 보관 (GC 대상 최소화)
+ * - 세그먼트를 원형으로 사용, 모두 차면 가장 오래된 세그먼트를 비우고 재사용 (FIFO 제거)
+ * - 세그먼트 재사용 중에는 해당 세그먼트 읽기를 막음 (세그먼트별 ReadWriteLock)
+ * - 기록은 하나의 락으로 직렬화, 조회는 세그먼트 읽기 락만 사용
+ */
+@Slf4j
+public class OffHeapCommandResultCache implements CommandResultCache, AutoCloseable {
+
+    /**
+     * 세그먼트 저장 방식
+     */
+    public enum Storage {
+        DIRECT,     // ByteBuffer.allocateDirect (-XX:MaxDirectMemorySize 범위)
+        MAPPED      // 로컬 파일 메모리 매핑 (페이지 캐시 사용)
+    }
+
+    private final Segment[] segments;
+    private final int segmentBytes;
+    private final Storage storage;
+    private final Path file;
+    private final FileChannel channel;
+    private final Duration defaultTtl;
+
+    private final ConcurrentMap<String, Slot> index = new ConcurrentHashMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private int currentSegment = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictedBytes = new LongAdder();
+
+    public OffHeapCommandResultCache(
+        Storage storage,
+        long maxBytes,
+        int segmentBytes,
+        Path file,
+        Duration defaultTtl
+    ) {
+        if (segmentBytes <= 0 || maxBytes < segmentBytes) {
+            throw new IllegalArgumentException(
+                "maxBytes must be at least segmentBytes: maxBytes=" + maxBytes + ", segmentBytes=" + segmentBytes
+            );
+        }
+        int segmentCount = (int) Math.min(Integer.MAX_VALUE, maxBytes / segmentBytes);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment();
+        }
+        this.segmentBytes = segmentBytes;
+        this.storage = storage;
+        this.file = file;
+        this.defaultTtl = defaultTtl;
+        this.channel = storage == Storage.MAPPED ? openFile(file, (long) segmentCount * segmentBytes) : null;
+        log.info("Off-heap command result cache initialized. storage={}, segments={} x {} bytes{}",
+            storage, segmentCount, segmentBytes, file != null && storage == Storage.MAPPED ? ", file=" + file : "");
+    }
+
+    /**
+     * 한 항목의 최대 크기 (세그먼트 크기)
+     */
+    public int getMaxEntryBytes() {
+        return segmentBytes;
+    }
+
+    @Override
+    public Optional<CommandResult> get(String key) {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (slot.expiresAt() - System.nanoTime() <= 0) {
+            index.remove(key, slot);
+            misses.increment();
+            return Optional.empty();
+        }
+
+        Segment segment = segments[slot.segment()];
+        byte[] bytes = new byte[slot.length()];
+        segment.lock.readLock().lock();
+        try {
+            if (segment.generation != slot.generation()) {
+                // 읽기 전에 세그먼트가 재사용됨
+                index.remove(key, slot);
+                misses.increment();
+                return Optional.empty();
+            }
+            segment.buffer.get(slot.offset(), bytes);
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+
+        hits.increment();
+        return Optional.of(decode(bytes));
+    }
+
+    @Override
+    public void put(String key, CommandResult result) {
+        put(key, result, defaultTtl);
+    }
+
+    @Override
+    public void put(String key, CommandResult result, Duration ttl) {
+        byte[] bytes = encode(result);
+        if (bytes.length > segmentBytes) {
+            log.debug("Result too large for off-heap segment ({} bytes): {}", bytes.length, key);
+            return;
+        }
+        long expiresAt = System.nanoTime() + ttl.toNanos();
+
+        appendLock.lock();
+        try {
+            Segment segment = segments[currentSegment];
+            if (segment.buffer != null && segment.writePosition + bytes.length > segmentBytes) {
+                currentSegment = (currentSegment + 1) % segments.length;
+                segment = segments[currentSegment];
+                recycle(currentSegment, segment);
+            }
+            if (segment.buffer == null) {
+                segment.buffer = allocate(currentSegment);
+            }
+
+            int offset = segment.writePosition;
+            segment.buffer.put(offset, bytes);
+            segment.writePosition += bytes.length;
+            segment.entries++;
+            index.put(key, new Slot(currentSegment, segment.generation, offset, bytes.length, expiresAt));
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        index.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+    }
+
+    @Override
+    public CommandResultCacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        long usedBytes = index.values().stream().mapToLong(Slot::length).sum();
+        return CommandResultCacheStats.builder()
+            .type("off-heap-" + storage.name().toLowerCase(Locale.ROOT))
+            .entries(index.size())
+            .usedBytes(usedBytes)
+            .maxBytes((long) segments.length * segmentBytes)
+            .hitCount(hitCount)
+            .missCount(missCount)
+            .hitRate(requests == 0 ? 1.0 : (double) hitCount / requests)
+            .evictionCount(evictions.sum())
+            .evictedBytes(evictedBytes.sum())
+            .build();
+    }
+
+    /**
+     * 매핑 파일 정리 (direct 버퍼는 GC 시 해제)
+     */
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to close off-heap cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 가장 오래된 세그먼트 비우기 (appendLock 보유 상태에서 호출)
+     */
+    private void recycle(int segmentIndex, Segment segment) {
+        if (segment.buffer == null || segment.entries == 0) {
+            return;
+        }
+        long previousGeneration = segment.generation;
+        segment.lock.writeLock().lock();
+        try {
+            segment.generation++;
+            segment.writePosition = 0;
+            segment.entries = 0;
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+
+        long now = System.nanoTime();
+        for (Map.Entry<String, Slot> entry : index.entrySet()) {
+            Slot slot = entry.getValue();
+            if (slot.segment() == segmentIndex && slot.generation() == previousGeneration
+                && index.remove(entry.getKey(), slot) && slot.expiresAt() - now > 0) {
+                evictions.increment();
+                evictedBytes.add(slot.length());
+            }
+        }
+    }
+
+    private ByteBuffer allocate(int segmentIndex) {
+        if (storage == Storage.DIRECT) {
+            return ByteBuffer.allocateDirect(segmentBytes);
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, (long) segmentIndex * segmentBytes, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map off-heap cache segment " + segmentIndex, e);
+        }
+    }
+
+    private static FileChannel openFile(Path file, long size) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(size);
+            }
+            return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open off-heap cache file: " + file, e);
+        }
+    }
+
+    /**
+     * 결과 직렬화 (성공/타임아웃 여부, 종료 코드, 출력)
+     */
+    private static byte[] encode(CommandResult result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(estimateSize(result));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeBoolean(result.isSuccess());
+            out.writeBoolean(result.isTimedOut());
+            out.writeInt(result.getExitCode() != null ? result.getExitCode() : Integer.MIN_VALUE);
+            writeString(out, result.getOutput());
+            writeString(out, result.getErrorOutput());
+            writeString(out, result.getErrorMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static CommandResult decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            boolean success = in.readBoolean();
+            boolean timedOut = in.readBoolean();
+            int exitCode = in.readInt();
+            return CommandResult.builder()
+                .success(success)
+                .timedOut(timedOut)
+                .exitCode(exitCode != Integer.MIN_VALUE ? exitCode : null)
+                .output(readString(in))
+                .errorOutput(readString(in))
+                .errorMessage(readString(in))
+                .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static int estimateSize(CommandResult result) {
+        long chars = (result.getOutput() != null ? result.getOutput().length() : 0)
+            + (result.getErrorOutput() != null ? result.getErrorOutput().length() : 0);
+        return (int) Math.min(Integer.MAX_VALUE - 8, chars + 32);
+    }
+
+    /**
+     * 인덱스 항목 (힙에 남는 유일한 데이터)
+     */
+    private record Slot(int segment, long generation, int offset, int length, long expiresAt) {
+    }
+
+    /**
+     * 세그먼트 상태 (writePosition/entries는 appendLock, generation 변경은 쓰기 락으로 보호)
+     */
+    private static final class Segment {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile ByteBuffer buffer;
+        private volatile long generation;
+        private int writePosition;
+        private int entries;
+    }
+}
@@ -0,0 +1,121 @@
+package kr.urock.sample_remote_command_proj.application.cache;
+
+import jakarta.annotation.PreDestroy;
+import kr.urock.sample_remote_command_proj.application.cache.dto.CommandResultCacheStats;
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기별 계층 캐시
+ *
+ * 결과 크기에 따라 저장 위치 분리
+ * - 작은 결과: 힙 캐시 (InMemoryCommandResultCache, W-TinyLFU)
+ * - 임계값보다 큰 결과: off-heap 세그먼트 (OffHeapCommandResultCache, 힙에는 인덱스만)
+ * - 큰 출력(디렉토리 목록, 로그)을 많이 보관해도 GC 대상 힙이 늘지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.type", havingValue = "tiered")
+public class TieredCommandResultCache implements CommandResultCache {
+
+    private final InMemoryCommandResultCache heapTier;
+    private final OffHeapCommandResultCache offHeapTier;
+    private final long offHeapThresholdBytes;
+    private final Duration defaultTtl;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TieredCommandResultCache(
+        @Value("${app.cache.memory.max-bytes:67108864}") long heapMaxBytes,
+        @Value("${app.cache.memory.default-ttl-seconds:60}") long defaultTtlSeconds,
+        @Value("${app.cache.tiered.off-heap-threshold-bytes:65536}") long offHeapThresholdBytes,
+        @Value("${app.cache.tiered.off-heap.storage:direct}") String storage,
+        @Value("${app.cache.tiered.off-heap.max-bytes:1073741824}") long offHeapMaxBytes,
+        @Value("${app.cache.tiered.off-heap.segment-bytes:67108864}") int segmentBytes,
+        @Value("${app.cache.tiered.off-heap.file:${java.io.tmpdir}/command-result-cache.dat}") String file
+    ) {
+        this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+        this.offHeapThresholdBytes = offHeapThresholdBytes;
+        this.heapTier = new InMemoryCommandResultCache(heapMaxBytes, offHeapThresholdBytes, defaultTtlSeconds);
+        this.offHeapTier = new OffHeapCommandResultCache(
+            OffHeapCommandResultCache.Storage.valueOf(storage.toUpperCase(Locale.ROOT)),
+            offHeapMaxBytes,
+            segmentBytes,
+            Path.of(file),
+            defaultTtl
+        );
+    }
+
+    @Override
+    public Optional<CommandResult> get(String key) {
+        Optional<CommandResult> result = heapTier.get(key).or(() -> offHeapTier.get(key));
+        (result.isPresent() ? hits : misses).increment();
+        return result;
+    }
+
+    @Override
+    public void put(String key, CommandResult result) {
+        put(key, result, defaultTtl);
+    }
+
+    @Override
+    public void put(String key, CommandResult result, Duration ttl) {
+        // 크기가 바뀐 결과가 이전 계층에 남지 않도록 반대쪽 계층은 무효화
+        if (InMemoryCommandResultCache.estimateBytes(key, result) > offHeapThresholdBytes) {
+            heapTier.invalidate(key);
+            offHeapTier.put(key, result, ttl);
+        } else {
+            offHeapTier.invalidate(key);
+            heapTier.put(key, result, ttl);
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        heapTier.invalidate(key);
+        offHeapTier.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        heapTier.clear();
+        offHeapTier.clear();
+    }
+
+    @Override
+    public CommandResultCacheStats getStats() {
+        CommandResultCacheStats heap = heapTier.getStats();
+        CommandResultCacheStats offHeap = offHeapTier.getStats();
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return CommandResultCacheStats.builder()
+            .type("tiered")
+            .entries(heap.getEntries() + offHeap.getEntries())
+            .usedBytes(heap.getUsedBytes() + offHeap.getUsedBytes())
+            .maxBytes(heap.getMaxBytes() + offHeap.getMaxBytes())
+            .hitCount(hitCount)
+            .missCount(missCount)
+            .hitRate(requests == 0 ? 1.0 : (double) hitCount / requests)
+            .evictionCount(heap.getEvictionCount() + offHeap.getEvictionCount())
+            .evictedBytes(heap.getEvictedBytes() + offHeap.getEvictedBytes())
+            .tiers(List.of(heap, offHeap))
+            .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        offHeapTier.close();
+    }
+}
@@ -0,0 +1,31 @@
+package kr.urock.sample_remote_command_proj.application.cache.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 명령어 결과 캐시 통계
+ *
+ * 불변 객체 (캡슐화)
+ */
+@Getter
+@Builder
+public class CommandResultCacheStats {
+
+    private final String type;          // 캐시 구현 (none / memory / tiered)
+    private final long entries;
+    private final long usedBytes;       // 저장된 결과의 추정 크기
+    private final long maxBytes;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;   // 용량 초과로 제거된 수 (만료 제외)
+    private final long evictedBytes;
+    private final List<CommandResultCacheStats> tiers;  // 계층별 통계 (tiered만)
+
+    public static CommandResultCacheStats disabled() {
+        return CommandResultCacheStats.builder().type("none").build();
+    }
+}
@@ -0,0 +1,209 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import kr.urock.sample_remote_command_proj.infrastructure.config.AsyncConfig;
+import kr.urock.sample_remote_command_proj.infrastructure.util.BoundedVirtualThreadExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 명령어 접수 및 실행 용량 제어 (Backpressure)
+ *
+ * 접수 단계 (admit)
+ * - 명령어를 저장하기 전에 대기열(PENDING) 크기를 확인하여 초과 시 즉시 거부
+ * - 거부 시 최근 처리량(EWMA)으로 Retry-After 추정
+ *
+ * 실행 단계 (tryAcquire / release)
+ * - 디스패처는 이 노드의 빈 실행 슬롯만큼만 작업 큐에서 선점
+ * - 실행기 큐가 넘치지 않으므로 선점한 명령어가 거부되지 않음
+ */
+@Slf4j
+@Component
+public class CommandAdmissionController {
+
+    // 처리량 측정 주기
+    private static final long SAMPLE_INTERVAL_MS = 1000;
+
+    private final int maxInFlight;
+    private final long maxPending;
+    private final double ewmaAlpha;
+    private final long maxRetryAfterSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong pendingBacklog = new AtomicLong();
+    private final LongAdder completions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private volatile double throughputPerSecond;
+    private long lastSampleNanos = System.nanoTime();
+
+    public CommandAdmissionController(
+        @Qualifier(AsyncConfig.COMMAND_TASK_EXECUTOR) TaskExecutor commandTaskExecutor,
+        @Value("${app.executor.admission.max-in-flight:0}") int maxInFlight,
+        @Value("${app.executor.admission.max-pending:1000}") long maxPending,
+        @Value("${app.executor.admission.ewma-alpha:0.3}") double ewmaAlpha,
+        @Value("${app.executor.admission.max-retry-after-seconds:60}") long maxRetryAfterSeconds
+    ) {
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : defaultCapacity(commandTaskExecutor);
+        this.maxPending = maxPending;
+        this.ewmaAlpha = ewmaAlpha;
+        this.maxRetryAfterSeconds = maxRetryAfterSeconds;
+        log.info("Command admission control initialized. maxInFlight={}, maxPending={}",
+            this.maxInFlight, maxPending);
+    }
+
+    /**
+     * 명령어 접수
+     *
+     * @throws CommandAdmissionRejectedException 대기열 용량 초과
+     */
+    public void admit() {
+        admit(1);
+    }
+
+    /**
+     * 명령어 일괄 접수 (전부 수용 가능할 때만 접수)
+     *
+     * @param count 접수할 명령어 수
+     * @throws CommandAdmissionRejectedException 대기열 용량 초과
+     */
+    public void admit(int count) {
+        while (true) {
+            long backlog = pendingBacklog.get();
+            if (backlog + count > maxPending) {
+                rejections.increment();
+                long retryAfterSeconds = estimateRetryAfterSeconds(backlog + count - 1);
+                log.warn("Command rejected: {} commands pending, {} requested (max {}). Retry after {}s",
+                    backlog, count, maxPending, retryAfterSeconds);
+                throw new CommandAdmissionRejectedException(
+                    "Server is busy: too many pending commands (" + backlog + "+" + count + "/" + maxPending + ")",
+                    retryAfterSeconds
+                );
+            }
+            // 다음 대기열 갱신 전까지 접수분 반영 (동시 접수 시 한도 초과 방지)
+            if (pendingBacklog.compareAndSet(backlog, backlog + count)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기열 크기 갱신 (디스패처가 DB 기준으로 주기적으로 보정)
+     *
+     * @param pendingCount PENDING 명령어 수
+     */
+    public void updatePendingBacklog(long pendingCount) {
+        pendingBacklog.set(pendingCount);
+    }
+
+    /**
+     * 실행 슬롯 확보
+     *
+     * @param requested 요청 슬롯 수
+     * @return 확보한 슬롯 수 (0 ~ requested)
+     */
+    public int tryAcquire(int requested) {
+        while (true) {
+            int current = inFlight.get();
+            int granted = Math.min(requested, maxInFlight - current);
+            if (granted <= 0) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * 실행 슬롯 반환 (명령어 완료, 성공/실패 무관)
+     */
+    public void release() {
+        release(1);
+        completions.increment();
+    }
+
+    /**
+     * 사용하지 않은 실행 슬롯 반환
+     *
+     * @param slots 반환할 슬롯 수
+     */
+    public void release(int slots) {
+        inFlight.addAndGet(-slots);
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public long getPendingBacklog() {
+        return pendingBacklog.get();
+    }
+
+    public long getRejectedCount() {
+        return rejections.sum();
+    }
+
+    /**
+     * 최근 처리량 (초당 완료 수, EWMA)
+     */
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    /**
+     * 처리량 표본 갱신
+     */
+    @Scheduled(fixedRate = SAMPLE_INTERVAL_MS)
+    public void sampleThroughput() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastSampleNanos) / 1_000_000_000.0;
+        lastSampleNanos = now;
+        if (elapsedSeconds <= 0) {
+            return;
+        }
+        double rate = completions.sumThenReset() / elapsedSeconds;
+        throughputPerSecond = ewmaAlpha * rate + (1 - ewmaAlpha) * throughputPerSecond;
+    }
+
+    /**
+     * 대기열에 빈 자리가 생길 때까지 걸리는 시간 추정
+     *
+     * (초과 명령어 수 + 1) / 초당 완료 수, 처리량이 없으면 최대값
+     */
+    private long estimateRetryAfterSeconds(long backlog) {
+        double throughput = throughputPerSecond;
+        if (throughput <= 0) {
+            return maxRetryAfterSeconds;
+        }
+        long excess = Math.max(0, backlog - maxPending) + 1;
+        long seconds = (long) Math.ceil(excess / throughput);
+        return Math.max(1, Math.min(seconds, maxRetryAfterSeconds));
+    }
+
+    /**
+     * 실행기 설정에서 노드별 기본 실행 슬롯 수 계산
+     * - Thread Pool: 최대 스레드 수 + 큐 용량
+     * - 가상 스레드: 동시 실행 수의 2배 (나머지는 허가 대기)
+     */
+    private static int defaultCapacity(TaskExecutor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            return pool.getMaxPoolSize() + pool.getQueueCapacity();
+        }
+        if (executor instanceof BoundedVirtualThreadExecutor virtual) {
+            return virtual.getMaxConcurrency() * 2;
+        }
+        return Integer.MAX_VALUE;
+    }
+}
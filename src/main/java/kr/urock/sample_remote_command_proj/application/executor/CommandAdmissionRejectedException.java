@@ -0,0 +1,21 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import lombok.Getter;
+
+/**
+ * 실행 용량 초과로 명령어 접수 거부
+ *
+ * HTTP 429 (Too Many Requests) + Retry-After로 응답
+ */
+@Getter
+public class CommandAdmissionRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public CommandAdmissionRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
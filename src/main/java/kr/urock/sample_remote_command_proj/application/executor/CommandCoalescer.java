@@ -0,0 +1,100 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+import kr.urock.sample_remote_command_proj.domain.command.Command;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 동일 명령어 실행 공유 (Single-flight)
+ *
+ * 같은 호스트에서 같은 명령어가 실행 중이면 새로 실행하지 않고 그 결과를 공유
+ * - 화이트리스트 @coalesce 패턴의 명령어만 대상 (읽기 전용 명령어)
+ * - 호스트 샤딩으로 한 호스트의 명령어는 한 노드에서 실행되므로 노드 로컬 맵으로 충분
+ * - 실행이 끝나면 즉시 제거 (결과 캐시가 아님)
+ * - 합류 시 실제 실행 중인 명령어(리더) ID를 알려 상태/출력 스트림을 맞출 수 있게 함
+ */
+@Slf4j
+@Component
+public class CommandCoalescer {
+
+    private final ConcurrentMap<Key, Flight> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 실행 또는 실행 중인 결과에 합류
+     *
+     * @param command 실행할 명령어
+     * @param execution 실제 실행 (실행 중인 동일 명령어가 없을 때만 호출)
+     * @return 이 명령어 ID의 실행 결과
+     */
+    public CompletableFuture<CommandResult> execute(Command command, Supplier<CompletableFuture<CommandResult>> execution) {
+        return execute(command, execution, leaderId -> { });
+    }
+
+    /**
+     * 실행 또는 실행 중인 결과에 합류 (합류 시 알림)
+     *
+     * @param command 실행할 명령어
+     * @param execution 실제 실행 (실행 중인 동일 명령어가 없을 때만 호출)
+     * @param onAttach 합류 시 리더 명령어 ID로 호출 (예외를 던지면 합류하지 않고 그대로 전파)
+     * @return 이 명령어 ID의 실행 결과
+     */
+    public CompletableFuture<CommandResult> execute(
+        Command command,
+        Supplier<CompletableFuture<CommandResult>> execution,
+        Consumer<Long> onAttach
+    ) {
+        if (!command.isCoalescible()) {
+            return execution.get();
+        }
+
+        Key key = Key.of(command);
+        Flight flight = new Flight(command.getId(), new CompletableFuture<>());
+        CompletableFuture<CommandResult> shared = flight.result();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            onAttach.accept(existing.leaderId());
+            log.info("Command [id={}] attached to in-flight execution [id={}] on host [{}]: {}",
+                command.getId(), existing.leaderId(), command.getTargetHost(), command.getCommandText());
+            return existing.result().thenApply(result -> result.withCommandId(command.getId()));
+        }
+
+        try {
+            execution.get().whenComplete((result, throwable) -> {
+                // 완료 전에 제거하여 이후 요청은 새로 실행
+                inFlight.remove(key, flight);
+                if (throwable != null) {
+                    shared.completeExceptionally(throwable);
+                } else {
+                    shared.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            shared.completeExceptionally(e);
+        }
+        return shared;
+    }
+
+    private record Flight(Long leaderId, CompletableFuture<CommandResult> result) {
+    }
+
+    private record Key(String host, String commandText, OutputCaptureMode outputMode) {
+
+        static Key of(Command command) {
+            return new Key(
+                command.getTargetHost().toLowerCase(Locale.ROOT),
+                command.getCommandText().trim(),
+                command.getOutputMode() != null ? command.getOutputMode() : OutputCaptureMode.FULL
+            );
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import jakarta.annotation.PreDestroy;
+import kr.urock.sample_remote_command_proj.application.cache.CommandResultCache;
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandRequest;
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import kr.urock.sample_remote_command_proj.application.stream.CommandStreamRegistry;
+import kr.urock.sample_remote_command_proj.domain.client.ClientService;
+import kr.urock.sample_remote_command_proj.domain.cluster.ClusterMembership;
+import kr.urock.sample_remote_command_proj.domain.command.Command;
+import kr.urock.sample_remote_command_proj.domain.command.CommandService;
+import kr.urock.sample_remote_command_proj.domain.command.CommandSubmittedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * DB 작업 큐 디스패처
+ *
+ * commands 테이블의 PENDING 행을 작업 큐로 사용
+ * - 빈 실행 슬롯만큼 SKIP LOCKED로 선점 후 실행 (EXECUTING은 실제 실행 시작 시 기록)
+ * - 빈 슬롯은 API Key별 가중치로 공정 분배 (WeightedFairScheduler)
+ * - 호스트별 동시 실행 한도를 넘는 명령어는 PENDING으로 남김 (HostBulkhead)
+ * - @coalesce 명령어는 실행 중인 동일 명령어의 결과를 공유 (CommandCoalescer)
+ *   합류한 명령어는 호스트/실행 슬롯을 즉시 반환하고, EXECUTING 기록과 출력 스트림은 리더와 같이 진행
+ * - @ttl 명령어는 캐시된 성공 결과가 있으면 SSH 없이 완료 (CommandResultCache)
+ * - 재시작 시 PENDING 명령어가 유실되지 않음
+ * - 여러 노드가 같은 큐를 중복 실행 없이 병렬 처리
+ * - 호스트 샤딩 시 이 노드가 담당하는 호스트의 명령어만 선점 (ClusterMembership)
+ * - 명령어 접수(커밋 후)와 실행 완료 시 즉시 깨어나고, 주기적으로도 확인
+ */
+@Slf4j
+@Component
+public class CommandDispatcher {
+
+    private final CommandService commandService;
+    private final CommandExecutor commandExecutor;
+    private final CommandAdmissionController admissionController;
+    private final ClusterMembership clusterMembership;
+    private final WeightedFairScheduler fairScheduler;
+    private final ClientService clientService;
+    private final HostBulkhead hostBulkhead;
+    private final CommandCoalescer commandCoalescer;
+    private final CommandResultCache commandResultCache;
+    private final CommandStreamRegistry commandStreamRegistry;
+    private final int batchSize;
+
+    // 선점은 노드당 한 스레드에서만 수행 (깨우기 요청은 하나로 합침)
+    private final ExecutorService dispatchThread =
+        Executors.newSingleThreadExecutor(Thread.ofPlatform().name("command-dispatcher").daemon().factory());
+    private final AtomicBoolean dispatchQueued = new AtomicBoolean();
+
+    public CommandDispatcher(
+        CommandService commandService,
+        CommandExecutor commandExecutor,
+        CommandAdmissionController admissionController,
+        ClusterMembership clusterMembership,
+        WeightedFairScheduler fairScheduler,
+        ClientService clientService,
+        HostBulkhead hostBulkhead,
+        CommandCoalescer commandCoalescer,
+        CommandResultCache commandResultCache,
+        CommandStreamRegistry commandStreamRegistry,
+        @Value("${app.command.dispatcher.batch-size:20}") int batchSize
+    ) {
+        this.commandService = commandService;
+        this.commandExecutor = commandExecutor;
+        this.admissionController = admissionController;
+        this.clusterMembership = clusterMembership;
+        this.fairScheduler = fairScheduler;
+        this.clientService = clientService;
+        this.hostBulkhead = hostBulkhead;
+        this.commandCoalescer = commandCoalescer;
+        this.commandResultCache = commandResultCache;
+        this.commandStreamRegistry = commandStreamRegistry;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 명령어 접수 트랜잭션 커밋 후 즉시 디스패치
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommandSubmitted(CommandSubmittedEvent event) {
+        wake();
+    }
+
+    /**
+     * 주기적 디스패치 (다른 노드가 접수한 명령어, 재시작 후 남은 명령어 처리)
+     */
+    @Scheduled(
+        initialDelayString = "${app.command.dispatcher.initial-delay-ms:5000}",
+        fixedDelayString = "${app.command.dispatcher.poll-interval-ms:1000}"
+    )
+    public void poll() {
+        try {
+            admissionController.updatePendingBacklog(commandService.countPendingCommands());
+        } catch (Exception e) {
+            log.warn("Failed to count pending commands: {}", e.getMessage());
+        }
+        wake();
+    }
+
+    /**
+     * 디스패치 요청 (이미 대기 중이면 무시)
+     */
+    public void wake() {
+        if (!dispatchQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatchThread.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            dispatchQueued.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchThread.shutdownNow();
+    }
+
+    /**
+     * 빈 슬롯이 없거나 큐가 빌 때까지 선점 및 실행
+     */
+    private void dispatch() {
+        dispatchQueued.set(false);
+        while (true) {
+            int slots = admissionController.tryAcquire(batchSize);
+            if (slots == 0) {
+                return;
+            }
+
+            List<Command> claimed;
+            try {
+                claimed = claim(slots);
+            } catch (Exception e) {
+                admissionController.release(slots);
+                log.error("Failed to claim pending commands: {}", e.getMessage());
+                return;
+            }
+
+            // 사용하지 않은 슬롯 반환
+            if (claimed.size() < slots) {
+                admissionController.release(slots - claimed.size());
+            }
+            if (!claimed.isEmpty()) {
+                log.debug("Claimed {} pending command(s)", claimed.size());
+            }
+
+            for (Command command : claimed) {
+                execute(command);
+            }
+            if (claimed.size() < slots) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 빈 슬롯을 API Key별로 공정하게 나누어 선점
+     *
+     * 샤딩 활성화 시 이 노드가 담당하는 호스트의 명령어만 대상
+     */
+    private List<Command> claim(int limit) {
+        List<Integer> buckets = null;
+        if (clusterMembership.isShardingEnabled()) {
+            buckets = clusterMembership.getOwnedBuckets();
+            if (buckets.isEmpty()) {
+                // 클러스터 참여 전이거나 하트비트 실패
+                return List.of();
+            }
+        }
+
+        // 동시 실행 한도에 도달한 호스트의 명령어는 PENDING으로 대기
+        List<String> saturatedHosts = hostBulkhead.getSaturatedHosts();
+        Map<String, Long> pending = commandService.countPendingByApiKey(buckets, saturatedHosts);
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Integer> weights = clientService.getSchedulingWeights(pending.keySet());
+        Map<String, Integer> quotas = fairScheduler.allocate(pending, weights, limit);
+
+        List<Command> permitted = new ArrayList<>();
+        List<Command> claimed;
+        try {
+            claimed = commandService.claimPendingCommands(quotas, buckets, saturatedHosts, command -> {
+                if (!hostBulkhead.tryAcquire(command.getTargetHost())) {
+                    return false;
+                }
+                permitted.add(command);
+                return true;
+            });
+        } catch (RuntimeException e) {
+            // 커밋 실패: 확보한 호스트 허가 반환
+            permitted.forEach(command -> hostBulkhead.release(command.getTargetHost()));
+            throw e;
+        }
+
+        // 다른 노드와 경합하여 선점하지 못한 몫은 다음 라운드로 이월
+        Map<String, Integer> claimedPerKey = new HashMap<>();
+        claimed.forEach(command -> claimedPerKey.merge(command.getApiKey(), 1, Integer::sum));
+        quotas.forEach((apiKey, quota) ->
+            fairScheduler.refund(apiKey, quota - claimedPerKey.getOrDefault(apiKey, 0)));
+        return claimed;
+    }
+
+    private void execute(Command command) {
+        final Long commandId = command.getId();
+        CommandRequest request = CommandRequest.of(
+            commandId,
+            command.getTargetHost(),
+            command.getCommandText(),
+            command.getApiKey(),
+            command.getOutputMode()
+        );
+
+        // 호스트/실행 슬롯 반환 (합류한 명령어는 합류 즉시, 그 외에는 완료 시 한 번만)
+        AtomicBoolean slotReleased = new AtomicBoolean();
+        Runnable releaseSlot = () -> {
+            if (slotReleased.compareAndSet(false, true)) {
+                hostBulkhead.release(command.getTargetHost());
+                admissionController.release();
+                wake();
+            }
+        };
+
+        run(command, request, releaseSlot)
+            .whenComplete((result, throwable) -> releaseSlot.run())
+            .thenAccept(commandService::handleCommandResult)
+            .exceptionally(throwable -> {
+                commandService.handleCommandFailure(commandId, throwable.getMessage());
+                return null;
+            });
+    }
+
+    /**
+     * 캐시된 결과로 응답하거나 실행 (실행 중인 동일 명령어가 있으면 합류)
+     */
+    private CompletableFuture<CommandResult> run(Command command, CommandRequest request, Runnable releaseSlot) {
+        Optional<Duration> cacheTtl = command.getCacheTtl();
+        if (cacheTtl.isEmpty()) {
+            return coalesce(command, () -> commandExecutor.execute(request), releaseSlot);
+        }
+
+        String cacheKey = CommandResultCache.key(command.getTargetHost(), command.getOutputMode(), command.getCommandText());
+        Optional<CommandResult> cached = commandResultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("Command [id={}] served from cache: {}", command.getId(), command.getCommandText());
+            return CompletableFuture.completedFuture(cached.get().withCommandId(command.getId()));
+        }
+
+        return coalesce(command, () -> commandExecutor.execute(request)
+            .thenApply(result -> {
+                if (result.isSuccess()) {
+                    commandResultCache.put(cacheKey, result, cacheTtl.get());
+                }
+                return result;
+            }), releaseSlot);
+    }
+
+    /**
+     * 실행 또는 실행 중인 동일 명령어에 합류
+     *
+     * 합류한 명령어는 SSH를 실행하지 않으므로
+     * - 호스트/실행 슬롯을 즉시 반환
+     * - 리더와 같이 EXECUTING 기록 및 스트림 시작 (handleExecutionStarted)
+     * - 리더의 출력을 자신의 스트림으로 전달받음
+     * - 실행 시작이 거부되면 (선점 해제 등) 합류하지 않고 상태를 바꾸지 않음
+     */
+    private CompletableFuture<CommandResult> coalesce(
+        Command command,
+        Supplier<CompletableFuture<CommandResult>> execution,
+        Runnable releaseSlot
+    ) {
+        try {
+            return commandCoalescer.execute(command, execution, leaderId -> {
+                releaseSlot.run();
+                commandService.handleExecutionStarted(new CommandExecutionStartedEvent(command.getId()));
+                commandStreamRegistry.follow(leaderId, command.getId());
+            });
+        } catch (IllegalStateException e) {
+            log.warn("Command [id={}] not started: {}", command.getId(), e.getMessage());
+            return CompletableFuture.completedFuture(CommandResult.notStarted(command.getId(), e.getMessage()));
+        }
+    }
+}
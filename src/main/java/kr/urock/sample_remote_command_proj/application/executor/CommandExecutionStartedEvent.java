@@ -0,0 +1,18 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 명령어 실행 시작 이벤트
+ *
+ * 원격 실행 직전에 발행
+ * - 실행 시작 시각(EXECUTING)을 실행 시점에 기록하기 위해 사용
+ * - 선점된 PENDING 상태가 아니면 (선점 해제, 이미 완료 등) 리스너가 예외를 던져 실행하지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommandExecutionStartedEvent {
+
+    private final Long commandId;
+}
@@ -0,0 +1,191 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import kr.urock.sample_remote_command_proj.application.executor.dto.HostBulkheadStats;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialChangedEvent;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialRepository;
+import kr.urock.sample_remote_command_proj.domain.command.CommandService;
+import kr.urock.sample_remote_command_proj.domain.command.CommandStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 호스트별 동시 실행 제한 (Bulkhead)
+ *
+ * 한 대상 호스트에 동시에 실행되는 명령어 수 제한
+ * - 허가는 대기 없이 즉시 성공/실패 (tryAcquire)
+ * - 한도를 넘는 명령어는 선점하지 않고 PENDING으로 남김 (호스트별 대기열, 스레드 점유 없음)
+ * - 한도는 ClientCredential.maxConcurrentCommands, 없으면 기본값
+ * - 클라이언트 변경 커밋 후 해당 호스트 한도 다시 읽기 (ClientCredentialChangedEvent), 그 외에는 주기적으로 전체 갱신
+ * - 호스트 샤딩으로 한 호스트는 한 노드에서만 실행되므로 노드 로컬 카운트로 제한
+ */
+@Slf4j
+@Component
+public class HostBulkhead {
+
+    private final ClientCredentialRepository clientCredentialRepository;
+    private final CommandService commandService;
+    private final int defaultLimit;
+
+    private final ConcurrentMap<String, AtomicInteger> active = new ConcurrentHashMap<>();
+    private volatile Map<String, Integer> hostLimits = Map.of();
+
+    public HostBulkhead(
+        ClientCredentialRepository clientCredentialRepository,
+        CommandService commandService,
+        @Value("${app.executor.host-concurrency.default-limit:4}") int defaultLimit
+    ) {
+        this.clientCredentialRepository = clientCredentialRepository;
+        this.commandService = commandService;
+        this.defaultLimit = defaultLimit;
+    }
+
+    /**
+     * 실행 허가 (대기하지 않음)
+     *
+     * @param host 대상 호스트
+     * @return 허가 여부 (허가 시 실행 후 release 호출 필요)
+     */
+    public boolean tryAcquire(String host) {
+        int limit = limitFor(host);
+        AtomicInteger counter = active.computeIfAbsent(key(host), k -> new AtomicInteger());
+        while (true) {
+            int current = counter.get();
+            if (limit > 0 && current >= limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 실행 허가 반환
+     */
+    public void release(String host) {
+        AtomicInteger counter = active.get(key(host));
+        if (counter != null) {
+            counter.decrementAndGet();
+        }
+    }
+
+    /**
+     * 한도에 도달한 호스트 목록 (선점 대상에서 제외)
+     */
+    public List<String> getSaturatedHosts() {
+        return active.entrySet().stream()
+            .filter(entry -> {
+                int limit = limitFor(entry.getKey());
+                return limit > 0 && entry.getValue().get() >= limit;
+            })
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /**
+     * 이 노드에서 실행 중인 명령어 수
+     */
+    public int getActive(String host) {
+        AtomicInteger counter = active.get(key(host));
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * 호스트별 동시 실행 제한 상태
+     *
+     * @param hosts 등록된 클라이언트 호스트
+     * @return 호스트별 한도와 실행/대기 현황
+     */
+    public List<HostBulkheadStats> getStats(List<String> hosts) {
+        Map<String, Map<CommandStatus, Long>> counts = commandService.countByTargetHostAndStatus(
+            hosts, List.of(CommandStatus.PENDING, CommandStatus.EXECUTING));
+        return hosts.stream()
+            .map(host -> {
+                Map<CommandStatus, Long> byStatus = counts.getOrDefault(host, Map.of());
+                return HostBulkheadStats.builder()
+                    .host(host)
+                    .limit(limitFor(host))
+                    .active(getActive(host))
+                    .queued(byStatus.getOrDefault(CommandStatus.PENDING, 0L))
+                    .executing(byStatus.getOrDefault(CommandStatus.EXECUTING, 0L))
+                    .build();
+            })
+            .toList();
+    }
+
+    /**
+     * 호스트 동시 실행 한도 (0이면 무제한)
+     */
+    public int limitFor(String host) {
+        return hostLimits.getOrDefault(key(host), defaultLimit);
+    }
+
+    /**
+     * 클라이언트별 한도 다시 읽기 (정책 변경 반영)
+     */
+    @Scheduled(
+        initialDelay = 0,
+        fixedDelayString = "${app.executor.host-concurrency.refresh-interval-ms:30000}"
+    )
+    public synchronized void refreshLimits() {
+        try {
+            Map<String, Integer> limits = new HashMap<>();
+            for (ClientCredential credential : clientCredentialRepository.findAll()) {
+                if (credential.getMaxConcurrentCommands() != null) {
+                    limits.put(key(credential.getHost()), credential.getMaxConcurrentCommands());
+                }
+            }
+            hostLimits = Map.copyOf(limits);
+        } catch (Exception e) {
+            log.warn("Failed to refresh host concurrency limits: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 클라이언트 변경 커밋 후 해당 호스트 한도 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClientCredentialChanged(ClientCredentialChangedEvent event) {
+        try {
+            Integer limit = clientCredentialRepository.findByHost(event.getHost())
+                .map(ClientCredential::getMaxConcurrentCommands)
+                .orElse(null);
+            updateLimit(event.getHost(), limit);
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh concurrency limit for host [{}]: {}", event.getHost(), e.getMessage());
+        }
+    }
+
+    /**
+     * 한 호스트의 한도 즉시 반영
+     *
+     * @param host 대상 호스트
+     * @param limit 한도 (null이면 기본값)
+     */
+    public synchronized void updateLimit(String host, Integer limit) {
+        Map<String, Integer> limits = new HashMap<>(hostLimits);
+        if (limit != null) {
+            limits.put(key(host), limit);
+        } else {
+            limits.remove(key(host));
+        }
+        hostLimits = Map.copyOf(limits);
+    }
+
+    private static String key(String host) {
+        return host.toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,113 +3,214 @@ package kr.urock.sample_remote_command_proj.application.executor;
 import kr.urock.sample_remote_command_proj.application.executor.dto.CommandRequest;
 import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
 import kr.urock.sample_remote_command_proj.application.ssh.SshConnectionManager;
+import kr.urock.sample_remote_command_proj.application.ssh.SshConnectionResolver;
 import kr.urock.sample_remote_command_proj.application.ssh.dto.ConnectionInfo;
 import kr.urock.sample_remote_command_proj.application.ssh.dto.SshExecutionResult;
-import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
-import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialRepository;
-import kr.urock.sample_remote_command_proj.infrastructure.util.PasswordEncryptor;
-import lombok.RequiredArgsConstructor;
+import kr.urock.sample_remote_command_proj.application.stream.CommandStreamRegistry;
+import kr.urock.sample_remote_command_proj.infrastructure.config.AsyncConfig;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SSH 기반 명령어 실행기
  *
  * SSH를 통해 원격 서버에 명령어 실행
- * - 비동기 실행 (@Async)
- * - 클라이언트 인증 정보 조회
+ * - 비동기 실행 (commandTaskExecutor에 시도 단위로 제출)
+ * - 일시적인 연결 오류는 Full Jitter 백오프로 재시도 예약 (대기 중 스레드 점유 없음)
+ * - 연결 정보는 SshConnectionResolver 캐시에서 조회 (명령어마다 DB 조회/복호화 없음)
  * - SSH 연결 관리자 사용
+ * - 실행 중 출력 및 상태를 스트림으로 발행
+ * - 실행 시작 시 CommandExecutionStartedEvent 발행 (EXECUTING 기록)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SshCommandExecutor implements CommandExecutor {
 
     private final SshConnectionManager sshConnectionManager;
-    private final ClientCredentialRepository clientCredentialRepository;
-    private final PasswordEncryptor passwordEncryptor;
+    private final SshConnectionResolver sshConnectionResolver;
+    private final CommandStreamRegistry commandStreamRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor commandTaskExecutor;
+    private final int timeoutSeconds;
+    private final int connectTimeoutSeconds;
+    private final int maxRetryAttempts;
+    private final long retryBackoffMs;
+    private final long retryMaxBackoffMs;
 
-    @Value("${app.ssh.timeout-seconds}")
-    private int timeoutSeconds;
+    // 재시도 예약 전용 (대기 중인 재시도는 스레드를 점유하지 않음)
+    private final ScheduledExecutorService retryScheduler =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("command-retry").daemon().factory());
 
-    @Value("${app.ssh.connect-timeout-seconds}")
-    private int connectTimeoutSeconds;
+    public SshCommandExecutor(
+        SshConnectionManager sshConnectionManager,
+        SshConnectionResolver sshConnectionResolver,
+        CommandStreamRegistry commandStreamRegistry,
+        ApplicationEventPublisher eventPublisher,
+        @Qualifier(AsyncConfig.COMMAND_TASK_EXECUTOR) Executor commandTaskExecutor,
+        @Value("${app.ssh.timeout-seconds}") int timeoutSeconds,
+        @Value("${app.ssh.connect-timeout-seconds}") int connectTimeoutSeconds,
+        @Value("${app.ssh.retry.max-attempts}") int maxRetryAttempts,
+        @Value("${app.ssh.retry.backoff-ms}") long retryBackoffMs,
+        @Value("${app.ssh.retry.max-backoff-ms:30000}") long retryMaxBackoffMs
+    ) {
+        this.sshConnectionManager = sshConnectionManager;
+        this.sshConnectionResolver = sshConnectionResolver;
+        this.commandStreamRegistry = commandStreamRegistry;
+        this.eventPublisher = eventPublisher;
+        this.commandTaskExecutor = commandTaskExecutor;
+        this.timeoutSeconds = timeoutSeconds;
+        this.connectTimeoutSeconds = connectTimeoutSeconds;
+        this.maxRetryAttempts = maxRetryAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.retryMaxBackoffMs = retryMaxBackoffMs;
+    }
 
     @Override
-    @Async
     public CompletableFuture<CommandResult> execute(CommandRequest request) {
-        log.info("Executing command [id={}] on host [{}]: {}",
-            request.getCommandId(), request.getTargetHost(), request.getCommand());
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        submitAttempt(request, 1, future);
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+    }
 
+    /**
+     * 실행 시도를 실행 스레드 풀에 제출
+     */
+    private void submitAttempt(CommandRequest request, int attempt, CompletableFuture<CommandResult> future) {
         try {
-            // 클라이언트 인증 정보 조회
-            ClientCredential credential = clientCredentialRepository.findByHost(request.getTargetHost())
-                .orElseThrow(() -> new IllegalArgumentException(
-                    "Client credential not found for host: " + request.getTargetHost()
-                ));
-
-            // 클라이언트 활성 상태 확인
-            if (!credential.isActive()) {
-                throw new IllegalStateException(
-                    "Client is not active: " + request.getTargetHost()
-                );
-            }
+            commandTaskExecutor.execute(() -> runAttempt(request, attempt, future));
+        } catch (RejectedExecutionException e) {
+            log.error("Command [id={}] attempt {} rejected by executor: {}",
+                request.getCommandId(), attempt, e.getMessage());
+            future.complete(CommandResult.failure(request.getCommandId(), "Command executor rejected the task"));
+        }
+    }
 
-            // 패스워드 복호화
-            String decryptedPassword = passwordEncryptor.decrypt(credential.getEncryptedPassword());
+    /**
+     * 실행 1회 시도
+     *
+     * 일시적인 연결 오류는 대기 없이 반환하고, 다음 시도를 retryScheduler에 예약
+     */
+    private void runAttempt(CommandRequest request, int attempt, CompletableFuture<CommandResult> future) {
+        log.info("Executing command [id={}] on host [{}] (attempt {}/{}): {}",
+            request.getCommandId(), request.getTargetHost(), attempt, maxRetryAttempts, request.getCommand());
 
-            // 연결 정보 생성
-            ConnectionInfo connectionInfo = ConnectionInfo.builder()
-                .host(credential.getHost())
-                .port(credential.getPort())
-                .username(credential.getUsername())
-                .password(decryptedPassword)
-                .connectTimeoutSeconds(connectTimeoutSeconds)
-                .commandTimeoutSeconds(timeoutSeconds)
-                .build();
+        try {
+            // 연결 정보 조회 (호스트별 캐시, 비활성/미등록 클라이언트는 예외)
+            ConnectionInfo connectionInfo = sshConnectionResolver.resolve(
+                request.getTargetHost(),
+                connectTimeoutSeconds,
+                timeoutSeconds
+            );
 
-            // SSH 명령어 실행
+            // SSH 명령어 실행 (출력은 실행 중 스트림으로 발행)
+            if (attempt == 1) {
+                try {
+                    eventPublisher.publishEvent(new CommandExecutionStartedEvent(request.getCommandId()));
+                } catch (IllegalStateException e) {
+                    // 선점 해제 등으로 시작 거부: 실행하지 않고 상태도 바꾸지 않음
+                    log.warn("Command [id={}] not started: {}", request.getCommandId(), e.getMessage());
+                    future.complete(CommandResult.notStarted(request.getCommandId(), e.getMessage()));
+                    return;
+                }
+            }
             SshExecutionResult sshResult = sshConnectionManager.executeCommand(
                 connectionInfo,
-                request.getCommand()
+                request.getCommand(),
+                request.getOutputMode(),
+                commandStreamRegistry.outputListener(request.getCommandId())
             );
 
-            // 마지막 연결 시간 업데이트
-            credential.updateLastConnectedAt();
-            clientCredentialRepository.save(credential);
-
-            // 결과 변환
-            if (sshResult.isSuccess()) {
-                log.info("Command [id={}] completed successfully", request.getCommandId());
-                return CompletableFuture.completedFuture(
-                    CommandResult.success(
-                        request.getCommandId(),
-                        sshResult.getOutput(),
-                        sshResult.getErrorOutput(),
-                        sshResult.getExitCode()
-                    )
-                );
-            } else {
-                log.error("Command [id={}] failed: {}", request.getCommandId(), sshResult.getErrorMessage());
-                return CompletableFuture.completedFuture(
-                    CommandResult.failure(
-                        request.getCommandId(),
-                        sshResult.getErrorMessage()
-                    )
-                );
+            // 일시적인 연결 오류: 대기 후 재시도 예약
+            if (sshResult.isRetryable() && attempt < maxRetryAttempts) {
+                long delayMs = backoffDelayMs(attempt);
+                log.info("Command [id={}] attempt {} failed ({}). Retrying in {} ms",
+                    request.getCommandId(), attempt, sshResult.getErrorMessage(), delayMs);
+                scheduleRetry(request, attempt + 1, future, delayMs);
+                return;
+            }
+
+            // 마지막 연결 시간 업데이트 (일정 간격으로만 DB 반영)
+            if (sshResult.isSuccess() || sshResult.isTimedOut()) {
+                sshConnectionResolver.recordConnected(request.getTargetHost());
+            } else if (!sshResult.isRetryable()) {
+                // 인증 실패 등: 다른 노드에서 변경되었을 수 있으므로 다음 실행 시 다시 조회
+                sshConnectionResolver.invalidate(request.getTargetHost());
             }
 
+            future.complete(toCommandResult(request, sshResult));
+
         } catch (Exception e) {
             log.error("Command [id={}] execution error: {}", request.getCommandId(), e.getMessage(), e);
-            return CompletableFuture.completedFuture(
-                CommandResult.failure(
-                    request.getCommandId(),
-                    e.getMessage()
-                )
+            future.complete(CommandResult.failure(request.getCommandId(), e.getMessage()));
+        }
+    }
+
+    private void scheduleRetry(
+        CommandRequest request,
+        int attempt,
+        CompletableFuture<CommandResult> future,
+        long delayMs
+    ) {
+        try {
+            retryScheduler.schedule(() -> submitAttempt(request, attempt, future), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            future.complete(CommandResult.failure(request.getCommandId(), "Retry scheduler is shut down"));
+        }
+    }
+
+    /**
+     * Full Jitter Exponential Backoff
+     *
+     * 0 ~ min(maxBackoff, backoff * 2^(attempt-1)) 범위에서 무작위 선택
+     * - 같은 호스트로의 재시도가 동시에 몰리지 않도록 분산
+     */
+    private long backoffDelayMs(int attempt) {
+        long exponential = retryBackoffMs << Math.min(attempt - 1, 30);
+        long cap = Math.min(retryMaxBackoffMs, exponential);
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    /**
+     * SSH 실행 결과 변환
+     */
+    private CommandResult toCommandResult(CommandRequest request, SshExecutionResult sshResult) {
+        if (sshResult.isSuccess()) {
+            log.info("Command [id={}] completed successfully", request.getCommandId());
+            return CommandResult.success(
+                request.getCommandId(),
+                sshResult.getOutput(),
+                sshResult.getErrorOutput(),
+                sshResult.getExitCode()
+            );
+        } else if (sshResult.isTimedOut()) {
+            log.warn("Command [id={}] timed out after {} seconds", request.getCommandId(), timeoutSeconds);
+            return CommandResult.timeout(
+                request.getCommandId(),
+                sshResult.getOutput(),
+                sshResult.getErrorOutput()
+            );
+        } else {
+            log.error("Command [id={}] failed: {}", request.getCommandId(), sshResult.getErrorMessage());
+            return CommandResult.failure(
+                request.getCommandId(),
+                sshResult.getErrorMessage()
             );
         }
     }
@@ -0,0 +1,134 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * API Key 간 가중치 기반 공정 분배 (Deficit Round Robin)
+ *
+ * 빈 실행 슬롯을 API Key별 대기열(PENDING)에 나누어 배정
+ * - 라운드마다 각 Key의 deficit에 quantum x weight를 더하고, deficit만큼 배정
+ * - 대기열이 빈 Key는 deficit 초기화 (몰아서 쓰지 못함)
+ * - 선점하지 못해 반환한 슬롯은 deficit에 돌려주되 quantum x weight를 넘지 않음
+ * - 라운드 순서는 호출 사이에 유지되어 대량 요청 Key가 앞자리를 독점하지 못함
+ * - 명령어 하나의 비용은 1로 계산
+ */
+@Slf4j
+@Component
+public class WeightedFairScheduler {
+
+    private final int quantum;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 대기열이 있는 API Key의 라운드 순서와 남은 deficit
+    private final Deque<String> roundOrder = new ArrayDeque<>();
+    private final Map<String, Long> deficits = new HashMap<>();
+    // 마지막 배정 시의 라운드당 몫 (quantum x weight, 반환 상한)
+    private final Map<String, Long> shares = new HashMap<>();
+
+    public WeightedFairScheduler(@Value("${app.executor.fair-share.quantum:1}") int quantum) {
+        if (quantum < 1) {
+            throw new IllegalArgumentException("Fair-share quantum must be positive: " + quantum);
+        }
+        this.quantum = quantum;
+    }
+
+    /**
+     * 빈 슬롯 배정
+     *
+     * @param pending API Key → 대기 명령어 수
+     * @param weights API Key → 가중치 (없으면 1)
+     * @param slots 배정할 슬롯 수
+     * @return API Key → 배정 슬롯 수 (라운드 순서)
+     */
+    public Map<String, Integer> allocate(Map<String, Long> pending, Map<String, Integer> weights, int slots) {
+        lock.lock();
+        try {
+            syncActiveKeys(pending);
+
+            Map<String, Integer> grants = new LinkedHashMap<>();
+            Map<String, Long> backlog = new HashMap<>(pending);
+            int remaining = slots;
+
+            while (remaining > 0 && !roundOrder.isEmpty()) {
+                boolean anyBacklog = false;
+                for (int i = roundOrder.size(); i > 0 && remaining > 0; i--) {
+                    String apiKey = roundOrder.pollFirst();
+                    roundOrder.addLast(apiKey);
+
+                    long left = backlog.getOrDefault(apiKey, 0L);
+                    if (left <= 0) {
+                        continue;
+                    }
+                    anyBacklog = true;
+
+                    long share = (long) quantum * Math.max(1, weights.getOrDefault(apiKey, 1));
+                    shares.put(apiKey, share);
+                    long deficit = deficits.getOrDefault(apiKey, 0L) + share;
+                    int granted = (int) Math.min(Math.min(deficit, left), remaining);
+
+                    grants.merge(apiKey, granted, Integer::sum);
+                    backlog.put(apiKey, left - granted);
+                    remaining -= granted;
+                    // 대기열을 비운 Key는 남은 deficit을 이월하지 않음
+                    deficits.put(apiKey, left - granted > 0 ? deficit - granted : 0L);
+                }
+                if (!anyBacklog) {
+                    break;
+                }
+            }
+            return grants;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 배정했지만 선점하지 못한 슬롯 반환 (다른 노드가 먼저 선점한 경우, 호스트 한도로 거부된 경우 등)
+     *
+     * 반복해서 반환되어도 deficit은 라운드당 몫(quantum x weight)을 넘지 않음
+     *
+     * @param apiKey API Key
+     * @param unused 사용하지 못한 슬롯 수
+     */
+    public void refund(String apiKey, int unused) {
+        if (unused <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            long share = shares.getOrDefault(apiKey, (long) quantum);
+            deficits.computeIfPresent(apiKey, (key, deficit) -> Math.min(deficit + unused, Math.max(deficit, share)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기열이 생긴 Key는 라운드 끝에 추가, 대기열이 빈 Key는 제거
+     */
+    private void syncActiveKeys(Map<String, Long> pending) {
+        roundOrder.removeIf(apiKey -> {
+            if (pending.getOrDefault(apiKey, 0L) <= 0) {
+                deficits.remove(apiKey);
+                shares.remove(apiKey);
+                return true;
+            }
+            return false;
+        });
+        pending.forEach((apiKey, count) -> {
+            if (count > 0 && !deficits.containsKey(apiKey)) {
+                deficits.put(apiKey, 0L);
+                roundOrder.addLast(apiKey);
+            }
+        });
+    }
+}
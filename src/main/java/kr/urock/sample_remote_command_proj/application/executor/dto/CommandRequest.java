@@ -1,5 +1,6 @@
 package kr.urock.sample_remote_command_proj.application.executor.dto;
 
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,16 +17,31 @@ public class CommandRequest {
     private final String targetHost;
     private final String command;
     private final String apiKey;
+    private final OutputCaptureMode outputMode;
 
     /**
      * 요청 생성
      */
     public static CommandRequest of(Long commandId, String targetHost, String command, String apiKey) {
+        return of(commandId, targetHost, command, apiKey, OutputCaptureMode.FULL);
+    }
+
+    /**
+     * 출력 보관 방식을 지정하여 요청 생성
+     */
+    public static CommandRequest of(
+        Long commandId,
+        String targetHost,
+        String command,
+        String apiKey,
+        OutputCaptureMode outputMode
+    ) {
         return CommandRequest.builder()
             .commandId(commandId)
             .targetHost(targetHost)
             .command(command)
             .apiKey(apiKey)
+            .outputMode(outputMode != null ? outputMode : OutputCaptureMode.FULL)
             .build();
     }
 }
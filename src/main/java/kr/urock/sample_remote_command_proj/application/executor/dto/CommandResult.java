@@ -9,11 +9,13 @@ import lombok.Getter;
  * 불변 객체 (캡슐화)
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class CommandResult {
 
     private final Long commandId;
     private final boolean success;
+    private final boolean timedOut;
+    private final boolean notStarted;
     private final String output;
     private final String errorOutput;
     private final Integer exitCode;
@@ -32,6 +34,20 @@ public class CommandResult {
             .build();
     }
 
+    /**
+     * 타임아웃 결과 생성 (종료 전까지 수신한 출력 포함)
+     */
+    public static CommandResult timeout(Long commandId, String output, String errorOutput) {
+        return CommandResult.builder()
+            .commandId(commandId)
+            .success(false)
+            .timedOut(true)
+            .output(output)
+            .errorOutput(errorOutput)
+            .errorMessage("Command execution timeout")
+            .build();
+    }
+
     /**
      * 실패 결과 생성
      */
@@ -42,4 +58,23 @@ public class CommandResult {
             .errorMessage(errorMessage)
             .build();
     }
+
+    /**
+     * 실행 시작 거부 결과 생성 (선점 해제 등, 명령어 상태를 바꾸지 않음)
+     */
+    public static CommandResult notStarted(Long commandId, String errorMessage) {
+        return CommandResult.builder()
+            .commandId(commandId)
+            .success(false)
+            .notStarted(true)
+            .errorMessage(errorMessage)
+            .build();
+    }
+
+    /**
+     * 다른 명령어 ID로 같은 결과 복사 (실행 결과 공유)
+     */
+    public CommandResult withCommandId(Long commandId) {
+        return toBuilder().commandId(commandId).build();
+    }
 }
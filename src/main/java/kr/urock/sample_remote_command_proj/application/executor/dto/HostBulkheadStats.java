@@ -0,0 +1,20 @@
+package kr.urock.sample_remote_command_proj.application.executor.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 호스트별 동시 실행 제한 상태
+ *
+ * 불변 객체 (캡슐화)
+ */
+@Getter
+@Builder
+public class HostBulkheadStats {
+
+    private final String host;
+    private final int limit;        // 동시 실행 한도 (0이면 무제한)
+    private final int active;       // 이 노드에서 실행 중인 명령어 수
+    private final long queued;      // 실행 대기(PENDING) 명령어 수
+    private final long executing;   // 실행 중(EXECUTING) 명령어 수 (전체 노드)
+}
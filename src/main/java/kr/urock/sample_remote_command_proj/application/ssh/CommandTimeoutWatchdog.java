@@ -0,0 +1,95 @@
+package kr.urock.sample_remote_command_proj.application.ssh;
+
+import jakarta.annotation.PreDestroy;
+import kr.urock.sample_remote_command_proj.infrastructure.util.HashedWheelTimer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 중인 명령어의 타임아웃 감시
+ *
+ * 모든 실행 중 명령어의 기한을 하나의 타이밍 휠로 관리
+ * - 명령어마다 타이머 스레드를 두지 않음 (실행 스레드 자체는 채널이 닫힐 때까지 대기)
+ * - 기한이 지나면 등록된 종료 작업(원격 프로세스 종료, 채널 닫기) 실행
+ */
+@Slf4j
+@Component
+public class CommandTimeoutWatchdog {
+
+    private final ExecutorService expiryExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("command-timeout-", 0).factory());
+    private final HashedWheelTimer timer;
+    private final AtomicInteger watching = new AtomicInteger();
+
+    public CommandTimeoutWatchdog(
+        @Value("${app.command.timeout-watchdog.tick-ms:100}") long tickMs,
+        @Value("${app.command.timeout-watchdog.ticks-per-wheel:512}") int ticksPerWheel
+    ) {
+        this.timer = new HashedWheelTimer("command-timeout-wheel", tickMs, TimeUnit.MILLISECONDS,
+            ticksPerWheel, expiryExecutor);
+        log.info("Command timeout watchdog started. tick={}ms, wheel={}", tickMs, ticksPerWheel);
+    }
+
+    /**
+     * 기한 등록
+     *
+     * @param timeoutSeconds 제한 시간 (초)
+     * @param onExpire 기한 초과 시 실행할 작업
+     * @return 기한 핸들 (정상 종료 시 cancel 호출)
+     */
+    public Deadline watch(long timeoutSeconds, Runnable onExpire) {
+        watching.incrementAndGet();
+        HashedWheelTimer.Timeout timeout = timer.schedule(() -> {
+            watching.decrementAndGet();
+            onExpire.run();
+        }, timeoutSeconds, TimeUnit.SECONDS);
+        return new Deadline(timeout);
+    }
+
+    /**
+     * 감시 중인 명령어 수
+     */
+    public int getWatchingCount() {
+        return watching.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.close();
+        expiryExecutor.shutdownNow();
+    }
+
+    /**
+     * 명령어 기한 핸들
+     */
+    public final class Deadline {
+
+        private final HashedWheelTimer.Timeout timeout;
+
+        private Deadline(HashedWheelTimer.Timeout timeout) {
+            this.timeout = timeout;
+        }
+
+        /**
+         * 기한 해제 (명령어 정상 종료)
+         */
+        public void cancel() {
+            if (timeout.cancel()) {
+                watching.decrementAndGet();
+            }
+        }
+
+        /**
+         * 기한 초과로 종료되었는지 여부
+         */
+        public boolean isExpired() {
+            return timeout.isExpired();
+        }
+    }
+}
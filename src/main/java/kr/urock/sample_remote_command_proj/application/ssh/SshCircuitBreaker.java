@@ -0,0 +1,287 @@
+package kr.urock.sample_remote_command_proj.application.ssh;
+
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshCircuitBreakerStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 호스트별 SSH 서킷 브레이커
+ *
+ * 최근 호출 결과(고정 크기 슬라이딩 윈도우)로 호스트 연결 상태 판단
+ * - CLOSED: 정상 호출, 실패율 또는 지연 호출 비율이 임계값을 넘으면 OPEN
+ * - OPEN: 즉시 실패 (연결 시도 없음), 대기 시간이 지나면 HALF_OPEN
+ * - HALF_OPEN: 제한된 수의 탐침 호출만 허용, 나머지 동시 호출은 즉시 실패
+ *   탐침이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class SshCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte OUTCOME_SUCCESS = 0;
+    private static final byte OUTCOME_FAILURE = 1;
+    private static final byte OUTCOME_SLOW = 2;
+    private static final byte OUTCOME_SLOW_FAILURE = 3;
+
+    private final String host;
+    private final int port;
+    private final Settings settings;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 슬라이딩 윈도우 (lock 보호)
+    private final byte[] outcomes;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    // 상태 (조회는 lock 없이, 변경은 lock 안에서)
+    private volatile State state = State.CLOSED;
+    private volatile long openUntilNanos;
+    private volatile Instant openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private final LongAdder notPermittedCalls = new LongAdder();
+    private final LongAdder openTransitions = new LongAdder();
+
+    SshCircuitBreaker(String host, int port, Settings settings) {
+        this.host = host;
+        this.port = port;
+        this.settings = settings;
+        this.outcomes = new byte[settings.slidingWindowSize()];
+    }
+
+    /**
+     * 호출 허용 여부 확인
+     *
+     * 허용된 경우 호출 후 반드시 onSuccess / onFailure / onIgnored 중 하나를 호출해야 함
+     *
+     * @return 호출 허용 여부
+     */
+    public boolean tryAcquirePermission() {
+        // CLOSED는 lock 없이 통과 (정상 경로)
+        if (state == State.CLOSED) {
+            return true;
+        }
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openUntilNanos < 0) {
+                    notPermittedCalls.increment();
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesInFlight >= settings.permittedCallsInHalfOpen()) {
+                    notPermittedCalls.increment();
+                    return false;
+                }
+                probesInFlight++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 성공 기록
+     *
+     * @param durationNanos 연결 획득에 걸린 시간 (지연 호출 판단 기준)
+     */
+    public void onSuccess(long durationNanos) {
+        record(false, durationNanos);
+    }
+
+    /**
+     * 호출 실패 기록 (연결/전송 오류)
+     *
+     * @param durationNanos 실패까지 걸린 시간
+     */
+    public void onFailure(long durationNanos) {
+        record(true, durationNanos);
+    }
+
+    /**
+     * 연결 상태와 무관한 결과 (세션 한도 초과 등)
+     *
+     * 결과를 기록하지 않고 탐침 권한만 반환
+     */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && probesInFlight > 0) {
+                probesInFlight--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 강제 초기화 (CLOSED)
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            transitionTo(State.CLOSED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 상태 조회
+     */
+    public SshCircuitBreakerStats getStats() {
+        lock.lock();
+        try {
+            Long retryAfterMs = null;
+            if (state == State.OPEN) {
+                retryAfterMs = Math.max(0, TimeUnit.NANOSECONDS.toMillis(openUntilNanos - System.nanoTime()));
+            }
+            return SshCircuitBreakerStats.builder()
+                .host(host)
+                .port(port)
+                .state(state.name())
+                .bufferedCalls(bufferedCalls)
+                .failedCalls(failedCalls)
+                .slowCalls(slowCalls)
+                .failureRate(rate(failedCalls))
+                .slowCallRate(rate(slowCalls))
+                .notPermittedCalls(notPermittedCalls.sum())
+                .openTransitions(openTransitions.sum())
+                .openedAt(state == State.CLOSED ? null : openedAt)
+                .retryAfterMs(retryAfterMs)
+                .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure, long durationNanos) {
+        boolean slow = durationNanos >= settings.slowCallDurationNanos();
+        lock.lock();
+        try {
+            switch (state) {
+                case HALF_OPEN -> {
+                    if (probesInFlight > 0) {
+                        probesInFlight--;
+                    }
+                    if (failure || slow) {
+                        log.warn("SSH circuit breaker probe to {}:{} failed (slow={}). Reopening.", host, port, slow);
+                        transitionTo(State.OPEN);
+                    } else if (++probeSuccesses >= settings.permittedCallsInHalfOpen()) {
+                        log.info("SSH circuit breaker probe to {}:{} succeeded. Closing.", host, port);
+                        transitionTo(State.CLOSED);
+                    }
+                }
+                case CLOSED -> {
+                    addOutcome(failure, slow);
+                    if (bufferedCalls >= settings.minimumCalls() && isOverThreshold()) {
+                        log.warn("SSH circuit breaker for {}:{} opened. failureRate={}%, slowCallRate={}%",
+                            host, port, rate(failedCalls), rate(slowCalls));
+                        transitionTo(State.OPEN);
+                    }
+                }
+                case OPEN -> {
+                    // OPEN 전환 전에 허용된 호출의 결과는 무시
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addOutcome(boolean failure, boolean slow) {
+        if (bufferedCalls == outcomes.length) {
+            byte evicted = outcomes[windowIndex];
+            if (evicted == OUTCOME_FAILURE || evicted == OUTCOME_SLOW_FAILURE) {
+                failedCalls--;
+            }
+            if (evicted == OUTCOME_SLOW || evicted == OUTCOME_SLOW_FAILURE) {
+                slowCalls--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+
+        byte outcome = failure
+            ? (slow ? OUTCOME_SLOW_FAILURE : OUTCOME_FAILURE)
+            : (slow ? OUTCOME_SLOW : OUTCOME_SUCCESS);
+        outcomes[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % outcomes.length;
+        if (failure) {
+            failedCalls++;
+        }
+        if (slow) {
+            slowCalls++;
+        }
+    }
+
+    private boolean isOverThreshold() {
+        return rate(failedCalls) >= settings.failureRateThreshold()
+            || rate(slowCalls) >= settings.slowCallRateThreshold();
+    }
+
+    private float rate(int calls) {
+        return bufferedCalls == 0 ? 0f : calls * 100f / bufferedCalls;
+    }
+
+    private void transitionTo(State newState) {
+        switch (newState) {
+            case OPEN -> {
+                openUntilNanos = System.nanoTime() + settings.openDurationNanos();
+                openedAt = Instant.now();
+                openTransitions.increment();
+            }
+            case HALF_OPEN -> {
+                probesInFlight = 0;
+                probeSuccesses = 0;
+            }
+            case CLOSED -> {
+                windowIndex = 0;
+                bufferedCalls = 0;
+                failedCalls = 0;
+                slowCalls = 0;
+                probesInFlight = 0;
+                probeSuccesses = 0;
+            }
+        }
+        state = newState;
+    }
+
+    /**
+     * 서킷 브레이커 설정
+     *
+     * @param slidingWindowSize 판단에 사용할 최근 호출 수
+     * @param minimumCalls 판단 전 최소 호출 수
+     * @param failureRateThreshold 실패율 임계값 (%)
+     * @param slowCallRateThreshold 지연 호출 비율 임계값 (%)
+     * @param slowCallDurationNanos 지연 호출 기준 시간
+     * @param openDurationNanos OPEN 유지 시간
+     * @param permittedCallsInHalfOpen HALF_OPEN 탐침 호출 수
+     */
+    record Settings(
+        int slidingWindowSize,
+        int minimumCalls,
+        float failureRateThreshold,
+        float slowCallRateThreshold,
+        long slowCallDurationNanos,
+        long openDurationNanos,
+        int permittedCallsInHalfOpen
+    ) {
+    }
+}
@@ -0,0 +1,105 @@
+package kr.urock.sample_remote_command_proj.application.ssh;
+
+import kr.urock.sample_remote_command_proj.application.ssh.dto.ConnectionInfo;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshCircuitBreakerStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트별 SSH 서킷 브레이커 보관소
+ *
+ * (host, port) 단위로 서킷 브레이커 생성 및 조회
+ * - 비활성화 시 모든 호출 허용
+ */
+@Slf4j
+@Component
+public class SshCircuitBreakerRegistry {
+
+    private final boolean enabled;
+    private final SshCircuitBreaker.Settings settings;
+    private final ConcurrentMap<String, SshCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public SshCircuitBreakerRegistry(
+        @Value("${app.ssh.circuit-breaker.enabled:true}") boolean enabled,
+        @Value("${app.ssh.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+        @Value("${app.ssh.circuit-breaker.minimum-calls:5}") int minimumCalls,
+        @Value("${app.ssh.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${app.ssh.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+        @Value("${app.ssh.circuit-breaker.slow-call-duration-ms:5000}") long slowCallDurationMs,
+        @Value("${app.ssh.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+        @Value("${app.ssh.circuit-breaker.permitted-calls-in-half-open:1}") int permittedCallsInHalfOpen
+    ) {
+        if (slidingWindowSize < 1 || permittedCallsInHalfOpen < 1) {
+            throw new IllegalArgumentException(
+                "Circuit breaker sliding-window-size and permitted-calls-in-half-open must be positive"
+            );
+        }
+        this.enabled = enabled;
+        this.settings = new SshCircuitBreaker.Settings(
+            slidingWindowSize,
+            Math.min(minimumCalls, slidingWindowSize),
+            failureRateThreshold,
+            slowCallRateThreshold,
+            TimeUnit.MILLISECONDS.toNanos(slowCallDurationMs),
+            TimeUnit.MILLISECONDS.toNanos(openDurationMs),
+            permittedCallsInHalfOpen
+        );
+        log.info("SSH circuit breaker {}. window={}, failureRate={}%, slowCall={}ms/{}%, open={}ms",
+            enabled ? "enabled" : "disabled", slidingWindowSize, failureRateThreshold,
+            slowCallDurationMs, slowCallRateThreshold, openDurationMs);
+    }
+
+    /**
+     * 호스트의 서킷 브레이커 조회 (없으면 생성)
+     *
+     * @param info 연결 정보
+     * @return 서킷 브레이커 (비활성화 시 empty)
+     */
+    public Optional<SshCircuitBreaker> forHost(ConnectionInfo info) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.of(breakers.computeIfAbsent(key(info.getHost(), info.getPort()),
+            k -> new SshCircuitBreaker(info.getHost(), info.getPort(), settings)));
+    }
+
+    /**
+     * 서킷 브레이커 초기화 (CLOSED)
+     *
+     * @param host 호스트
+     * @param port 포트
+     * @return 초기화 여부 (등록된 브레이커가 없으면 false)
+     */
+    public boolean reset(String host, int port) {
+        SshCircuitBreaker breaker = breakers.get(key(host, port));
+        if (breaker == null) {
+            return false;
+        }
+        breaker.reset();
+        log.info("SSH circuit breaker for {}:{} reset", host, port);
+        return true;
+    }
+
+    /**
+     * 호스트별 서킷 브레이커 상태
+     */
+    public List<SshCircuitBreakerStats> getStats() {
+        return breakers.values().stream()
+            .map(SshCircuitBreaker::getStats)
+            .sorted(Comparator.comparing(SshCircuitBreakerStats::getHost)
+                .thenComparing(SshCircuitBreakerStats::getPort))
+            .toList();
+    }
+
+    private static String key(String host, int port) {
+        return host + ":" + port;
+    }
+}
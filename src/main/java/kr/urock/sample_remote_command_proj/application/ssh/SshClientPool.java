@@ -0,0 +1,450 @@
+package kr.urock.sample_remote_command_proj.application.ssh;
+
+import jakarta.annotation.PreDestroy;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.ConnectionInfo;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshPoolStats;
+import lombok.extern.slf4j.Slf4j;
+import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.transport.verification.PromiscuousVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 호스트별 SSH 연결 풀
+ *
+ * 인증이 완료된 SSHClient를 (host, port, username) 단위로 보관하고 재사용
+ * - 재사용 시 TCP 연결, 키 교환, 패스워드 인증 생략
+ * - 하나의 연결에서 여러 Session 채널을 동시에 사용 (max-sessions-per-connection)
+ * - 세션 한도에 도달한 경우에만 새 연결 생성 (호스트별 max-total-per-host)
+ * - 대여 시 연결 상태 검증 (test-on-borrow)
+ * - 유휴 연결 주기적 정리 (min-idle-per-host 개수는 유지)
+ */
+@Slf4j
+@Component
+public class SshClientPool {
+
+    // 종료 처리 중인 연결의 lease 값 (새 세션 할당 차단)
+    private static final int CLOSING = -1;
+
+    private final int minIdlePerHost;
+    private final int maxTotalPerHost;
+    private final int maxSessionsPerConnection;
+    private final long maxWaitMs;
+    private final long idleTimeoutMs;
+    private final boolean testOnBorrow;
+    private final int keepAliveIntervalSeconds;
+
+    private final ConcurrentMap<PoolKey, HostPool> pools = new ConcurrentHashMap<>();
+
+    public SshClientPool(
+        @Value("${app.ssh.pool.min-idle-per-host:0}") int minIdlePerHost,
+        @Value("${app.ssh.pool.max-total-per-host:4}") int maxTotalPerHost,
+        @Value("${app.ssh.pool.max-sessions-per-connection:10}") int maxSessionsPerConnection,
+        @Value("${app.ssh.pool.max-wait-ms:5000}") long maxWaitMs,
+        @Value("${app.ssh.pool.idle-timeout-ms:300000}") long idleTimeoutMs,
+        @Value("${app.ssh.pool.test-on-borrow:true}") boolean testOnBorrow,
+        @Value("${app.ssh.pool.keep-alive-interval-seconds:30}") int keepAliveIntervalSeconds
+    ) {
+        this.minIdlePerHost = minIdlePerHost;
+        this.maxTotalPerHost = maxTotalPerHost;
+        this.maxSessionsPerConnection = maxSessionsPerConnection;
+        this.maxWaitMs = maxWaitMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.testOnBorrow = testOnBorrow;
+        this.keepAliveIntervalSeconds = keepAliveIntervalSeconds;
+        log.info("SSH client pool initialized. minIdle={}, maxTotal={}, maxSessions={}, idleTimeoutMs={}",
+            minIdlePerHost, maxTotalPerHost, maxSessionsPerConnection, idleTimeoutMs);
+    }
+
+    /**
+     * 세션 슬롯 대여
+     *
+     * 세션 여유가 있는 기존 연결을 우선 사용하고,
+     * 모든 연결이 세션 한도에 도달한 경우에만 새로 연결
+     *
+     * @param info 연결 정보
+     * @return 인증 완료된 연결 (세션 1개 사용 권한 포함)
+     * @throws IOException 연결 실패 또는 대기 시간 초과
+     */
+    public PooledSshClient borrow(ConnectionInfo info) throws IOException {
+        HostPool pool = pools.computeIfAbsent(PoolKey.of(info), HostPool::new);
+        pool.lastConnectionInfo = info;
+
+        try {
+            if (!pool.permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new IOException(String.format(
+                    "Timed out waiting for pooled SSH connection to %s:%d", info.getHost(), info.getPort()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for pooled SSH connection", e);
+        }
+
+        try {
+            PooledSshClient client = leaseExisting(pool);
+            if (client == null) {
+                // 동시에 여러 요청이 새 연결을 만들지 않도록 호스트 단위로 직렬화
+                pool.connectLock.lock();
+                try {
+                    client = leaseExisting(pool);
+                    if (client == null) {
+                        // 서버 MaxSessions로 세션 한도가 줄어든 경우에도 최대 연결 수는 유지
+                        if (pool.connections.size() >= maxTotalPerHost) {
+                            throw new IOException(String.format(
+                                "SSH connection limit reached for %s:%d", info.getHost(), info.getPort()));
+                        }
+                        client = create(pool, info);
+                        client.leases.incrementAndGet();
+                        pool.connections.add(client);
+                    }
+                } finally {
+                    pool.connectLock.unlock();
+                }
+            }
+
+            pool.borrowed.increment();
+            pool.activeSessions.incrementAndGet();
+            return client;
+        } catch (IOException | RuntimeException e) {
+            pool.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 세션 슬롯 반납
+     *
+     * 끊어진 연결은 마지막 세션이 반납될 때 종료
+     *
+     * @param client 반납할 연결
+     */
+    public void release(PooledSshClient client) {
+        HostPool pool = client.pool;
+        try {
+            client.lastUsedAt = System.currentTimeMillis();
+            client.leases.decrementAndGet();
+            pool.activeSessions.decrementAndGet();
+            if (client.broken || !isUsable(client)) {
+                client.broken = true;
+                retire(pool, client);
+            }
+        } finally {
+            pool.permits.release();
+        }
+    }
+
+    /**
+     * 연결 폐기
+     *
+     * 실행 중 오류가 발생한 연결에는 더 이상 세션을 할당하지 않음
+     *
+     * @param client 폐기할 연결
+     */
+    public void invalidate(PooledSshClient client) {
+        client.broken = true;
+        release(client);
+    }
+
+    /**
+     * 연결의 세션 한도 축소
+     *
+     * 서버가 채널 개설을 거부한 경우 (MaxSessions 초과)
+     * 현재 열려 있는 세션 수를 해당 연결의 한도로 사용
+     *
+     * @param client 세션 개설에 실패한 연결
+     */
+    public void limitSessions(PooledSshClient client) {
+        int openSessions = Math.max(1, client.leases.get() - 1);
+        if (openSessions < client.sessionLimit) {
+            client.sessionLimit = openSessions;
+            log.warn("SSH server {} refused new session. Session limit lowered to {}",
+                client.pool.key, openSessions);
+        }
+    }
+
+    /**
+     * 풀을 거치지 않는 단독 연결 생성 (연결 테스트용)
+     *
+     * @param info 연결 정보
+     * @return 인증 완료된 SSHClient (호출자가 종료 책임)
+     */
+    public SSHClient connect(ConnectionInfo info) throws IOException {
+        SSHClient ssh = new SSHClient();
+
+        // 호스트 키 검증 비활성화 (POC용, 운영에서는 적절한 검증 필요)
+        ssh.addHostKeyVerifier(new PromiscuousVerifier());
+
+        // 연결 타임아웃 설정
+        // 소켓 읽기 타임아웃은 설정하지 않음: 유휴 상태로 풀에 보관되는 동안 연결이 끊어지지 않도록
+        ssh.setConnectTimeout(info.getConnectTimeoutSeconds() * 1000);
+        ssh.getConnection().getKeepAlive().setKeepAliveInterval(keepAliveIntervalSeconds);
+
+        log.debug("Attempting SSH connection to {}:{}", info.getHost(), info.getPort());
+
+        try {
+            ssh.connect(info.getHost(), info.getPort());
+            ssh.authPassword(info.getUsername(), info.getPassword());
+        } catch (IOException e) {
+            disconnectQuietly(ssh);
+            throw e;
+        }
+
+        log.info("SSH connection established to {}:{}", info.getHost(), info.getPort());
+        return ssh;
+    }
+
+    /**
+     * 풀 통계 조회
+     *
+     * @return 호스트별 통계
+     */
+    public List<SshPoolStats> getStats() {
+        List<SshPoolStats> stats = new ArrayList<>();
+        for (HostPool pool : pools.values()) {
+            int idle = 0;
+            for (PooledSshClient client : pool.connections) {
+                if (client.leases.get() == 0) {
+                    idle++;
+                }
+            }
+
+            stats.add(SshPoolStats.builder()
+                .host(pool.key.host())
+                .port(pool.key.port())
+                .username(pool.key.username())
+                .connections(pool.connections.size())
+                .idle(idle)
+                .activeSessions(pool.activeSessions.get())
+                .maxTotal(maxTotalPerHost)
+                .maxSessionsPerConnection(maxSessionsPerConnection)
+                .waiting(pool.permits.getQueueLength())
+                .created(pool.created.sum())
+                .destroyed(pool.destroyed.sum())
+                .borrowed(pool.borrowed.sum())
+                .reused(pool.reused.sum())
+                .validationFailures(pool.validationFailures.sum())
+                .build());
+        }
+        return stats;
+    }
+
+    /**
+     * 유휴 연결 정리 (주기적)
+     *
+     * - idle-timeout을 초과한 유휴 연결 종료 (min-idle 개수는 유지)
+     * - 끊어진 연결 제거
+     * - min-idle 개수에 미달하면 미리 연결
+     */
+    @Scheduled(fixedDelayString = "${app.ssh.pool.eviction-interval-ms:30000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+
+        for (HostPool pool : pools.values()) {
+            for (PooledSshClient client : pool.connections) {
+                boolean expired = now - client.lastUsedAt > idleTimeoutMs
+                    && pool.connections.size() > minIdlePerHost;
+                if (expired || client.broken || !isUsable(client)) {
+                    if (retire(pool, client)) {
+                        log.debug("Evicted idle SSH connection to {}", pool.key);
+                    }
+                }
+            }
+
+            fillMinIdle(pool);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 연결 종료
+     */
+    @PreDestroy
+    public void close() {
+        for (HostPool pool : pools.values()) {
+            for (PooledSshClient client : pool.connections) {
+                pool.connections.remove(client);
+                destroy(pool, client);
+            }
+        }
+        log.info("SSH client pool closed");
+    }
+
+    /**
+     * 세션 여유가 있는 기존 연결에서 세션 슬롯 확보
+     *
+     * 앞쪽 연결부터 채워서 연결 수를 최소화
+     */
+    private PooledSshClient leaseExisting(HostPool pool) {
+        for (PooledSshClient client : pool.connections) {
+            if (testOnBorrow && !client.broken && !isUsable(client)) {
+                pool.validationFailures.increment();
+                client.broken = true;
+                retire(pool, client);
+                continue;
+            }
+            if (tryLease(client)) {
+                pool.reused.increment();
+                return client;
+            }
+        }
+        return null;
+    }
+
+    private boolean tryLease(PooledSshClient client) {
+        while (true) {
+            int leases = client.leases.get();
+            if (client.broken || leases < 0 || leases >= client.sessionLimit) {
+                return false;
+            }
+            if (client.leases.compareAndSet(leases, leases + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 사용 중인 세션이 없는 연결을 풀에서 제거하고 종료
+     *
+     * @return 종료 여부 (세션이 남아 있으면 마지막 반납 시 종료)
+     */
+    private boolean retire(HostPool pool, PooledSshClient client) {
+        if (client.leases.compareAndSet(0, CLOSING)) {
+            pool.connections.remove(client);
+            destroy(pool, client);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * min-idle 개수만큼 미리 연결 (최선 노력)
+     *
+     * borrow()와 같은 connectLock 안에서 개수를 다시 확인하고 생성 (호스트별 최대 연결 수 초과 방지)
+     */
+    private void fillMinIdle(HostPool pool) {
+        ConnectionInfo info = pool.lastConnectionInfo;
+        if (info == null) {
+            return;
+        }
+
+        int target = Math.min(minIdlePerHost, maxTotalPerHost);
+        while (pool.connections.size() < target) {
+            pool.connectLock.lock();
+            try {
+                if (pool.connections.size() >= target) {
+                    return;
+                }
+                pool.connections.add(create(pool, info));
+            } catch (IOException e) {
+                log.debug("Failed to pre-connect SSH to {}: {}", pool.key, e.getMessage());
+                return;
+            } finally {
+                pool.connectLock.unlock();
+            }
+        }
+    }
+
+    private PooledSshClient create(HostPool pool, ConnectionInfo info) throws IOException {
+        SSHClient ssh = connect(info);
+        pool.created.increment();
+        return new PooledSshClient(pool, ssh, maxSessionsPerConnection);
+    }
+
+    private void destroy(HostPool pool, PooledSshClient client) {
+        pool.destroyed.increment();
+        disconnectQuietly(client.client);
+    }
+
+    private boolean isUsable(PooledSshClient client) {
+        SSHClient ssh = client.client;
+        return ssh.isConnected() && ssh.isAuthenticated() && ssh.getTransport().isRunning();
+    }
+
+    private void disconnectQuietly(SSHClient ssh) {
+        if (ssh.isConnected()) {
+            try {
+                ssh.disconnect();
+            } catch (IOException e) {
+                log.warn("Failed to disconnect SSH: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 풀 키 (host, port, username)
+     */
+    private record PoolKey(String host, Integer port, String username) {
+
+        static PoolKey of(ConnectionInfo info) {
+            return new PoolKey(info.getHost(), info.getPort(), info.getUsername());
+        }
+
+        @Override
+        public String toString() {
+            return username + "@" + host + ":" + port;
+        }
+    }
+
+    /**
+     * 호스트별 풀 상태
+     */
+    private final class HostPool {
+
+        private final PoolKey key;
+        // 호스트 전체 동시 세션 수 제한 (연결 수 x 연결당 세션 수)
+        private final Semaphore permits = new Semaphore(maxTotalPerHost * maxSessionsPerConnection, true);
+        private final List<PooledSshClient> connections = new CopyOnWriteArrayList<>();
+        private final ReentrantLock connectLock = new ReentrantLock();
+        private final AtomicInteger activeSessions = new AtomicInteger();
+
+        private final LongAdder created = new LongAdder();
+        private final LongAdder destroyed = new LongAdder();
+        private final LongAdder borrowed = new LongAdder();
+        private final LongAdder reused = new LongAdder();
+        private final LongAdder validationFailures = new LongAdder();
+
+        // min-idle 유지를 위한 최근 연결 정보
+        private volatile ConnectionInfo lastConnectionInfo;
+
+        private HostPool(PoolKey key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * 풀에서 대여한 연결
+     *
+     * 여러 호출자가 동시에 대여하여 각자 Session 채널을 개설
+     */
+    public static final class PooledSshClient {
+
+        private final HostPool pool;
+        private final SSHClient client;
+        private final AtomicInteger leases = new AtomicInteger();
+        private volatile int sessionLimit;
+        private volatile boolean broken;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        private PooledSshClient(HostPool pool, SSHClient client, int sessionLimit) {
+            this.pool = pool;
+            this.client = client;
+            this.sessionLimit = sessionLimit;
+        }
+
+        public SSHClient getClient() {
+            return client;
+        }
+    }
+}
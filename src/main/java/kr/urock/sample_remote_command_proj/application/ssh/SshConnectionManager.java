@@ -1,7 +1,13 @@
 package kr.urock.sample_remote_command_proj.application.ssh;
 
 import kr.urock.sample_remote_command_proj.application.ssh.dto.ConnectionInfo;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshCircuitBreakerStats;
 import kr.urock.sample_remote_command_proj.application.ssh.dto.SshExecutionResult;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshPoolStats;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputListener;
+
+import java.util.List;
 
 /**
  * SSH 연결 관리 인터페이스
@@ -19,7 +25,28 @@ public interface SshConnectionManager {
      * @param command 실행할 명령어
      * @return 실행 결과
      */
-    SshExecutionResult executeCommand(ConnectionInfo connectionInfo, String command);
+    default SshExecutionResult executeCommand(ConnectionInfo connectionInfo, String command) {
+        return executeCommand(connectionInfo, command, OutputCaptureMode.FULL, OutputListener.NONE);
+    }
+
+    /**
+     * SSH를 통해 명령어 실행 (출력 실시간 수신)
+     *
+     * 연결은 한 번만 시도하며 대기(sleep)하지 않음
+     * - 일시적인 연결 오류는 SshExecutionResult.isRetryable()로 표시 (재시도는 호출자가 예약)
+     *
+     * @param connectionInfo 연결 정보
+     * @param command 실행할 명령어
+     * @param outputMode 출력 보관 방식
+     * @param listener 실행 중 출력 청크 수신 리스너
+     * @return 실행 결과
+     */
+    SshExecutionResult executeCommand(
+        ConnectionInfo connectionInfo,
+        String command,
+        OutputCaptureMode outputMode,
+        OutputListener listener
+    );
 
     /**
      * SSH 연결 테스트
@@ -28,4 +55,18 @@ public interface SshConnectionManager {
      * @return 연결 성공 여부
      */
     boolean testConnection(ConnectionInfo connectionInfo);
+
+    /**
+     * 연결 풀 통계 조회
+     *
+     * @return 호스트별 연결 풀 통계
+     */
+    List<SshPoolStats> getPoolStats();
+
+    /**
+     * 서킷 브레이커 상태 조회
+     *
+     * @return 호스트별 서킷 브레이커 상태
+     */
+    List<SshCircuitBreakerStats> getCircuitBreakerStats();
 }
@@ -0,0 +1,207 @@
+package kr.urock.sample_remote_command_proj.application.ssh;
+
+import kr.urock.sample_remote_command_proj.application.ssh.dto.ConnectionInfo;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialChangedEvent;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialRepository;
+import kr.urock.sample_remote_command_proj.infrastructure.util.PasswordEncryptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호스트별 SSH 연결 정보 캐시
+ *
+ * 명령어마다 DB를 조회하지 않도록 연결 정보를 보관
+ * - 패스워드는 DB와 같은 v2 암호문으로 보관하고 사용 시 복호화 (키 유도 없는 AES-GCM)
+ * - 클라이언트 변경 커밋 후 무효화 (ClientCredentialChangedEvent)
+ * - 다른 노드의 변경은 TTL과 인증 실패 시 무효화로 반영
+ * - DB 조회는 맵 밖에서 수행 (동시 미스는 각자 조회 후 먼저 등록된 항목 사용)
+ * - 이전 형식으로 암호화된 패스워드는 조회 시 v2 형식으로 전환
+ */
+@Slf4j
+@Component
+public class SshConnectionResolver {
+
+    private final ClientCredentialRepository clientCredentialRepository;
+    private final PasswordEncryptor passwordEncryptor;
+    private final long ttlNanos;
+    private final long lastConnectedUpdateIntervalNanos;
+
+    private final ConcurrentMap<String, ResolvedConnection> cache = new ConcurrentHashMap<>();
+
+    // 무효화 횟수 (조회 중 무효화되면 조회 결과를 캐시에 남기지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public SshConnectionResolver(
+        ClientCredentialRepository clientCredentialRepository,
+        PasswordEncryptor passwordEncryptor,
+        @Value("${app.ssh.credential-cache.ttl-seconds:300}") long ttlSeconds,
+        @Value("${app.ssh.credential-cache.last-connected-update-interval-seconds:60}") long lastConnectedUpdateIntervalSeconds
+    ) {
+        this.clientCredentialRepository = clientCredentialRepository;
+        this.passwordEncryptor = passwordEncryptor;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.lastConnectedUpdateIntervalNanos = TimeUnit.SECONDS.toNanos(lastConnectedUpdateIntervalSeconds);
+    }
+
+    /**
+     * 호스트의 연결 정보 조회
+     *
+     * @param host 대상 호스트
+     * @param connectTimeoutSeconds 연결 타임아웃
+     * @param commandTimeoutSeconds 명령어 타임아웃
+     * @return 연결 정보 (복호화된 패스워드 포함)
+     * @throws IllegalArgumentException 등록되지 않은 호스트
+     * @throws IllegalStateException 비활성 클라이언트
+     */
+    public ConnectionInfo resolve(String host, int connectTimeoutSeconds, int commandTimeoutSeconds) {
+        String key = key(host);
+        ResolvedConnection resolved = cache.get(key);
+        if (resolved != null && System.nanoTime() - resolved.loadedAt > ttlNanos) {
+            cache.remove(key, resolved);
+            resolved = null;
+        }
+        if (resolved == null) {
+            resolved = loadAndCache(key, host);
+        }
+
+        return ConnectionInfo.builder()
+            .host(resolved.host)
+            .port(resolved.port)
+            .username(resolved.username)
+            .password(passwordEncryptor.decrypt(resolved.encryptedPassword))
+            .connectTimeoutSeconds(connectTimeoutSeconds)
+            .commandTimeoutSeconds(commandTimeoutSeconds)
+            .build();
+    }
+
+    /**
+     * 연결 성공 기록 (lastConnectedAt, 호스트별로 일정 간격에 한 번만 DB 반영)
+     */
+    public void recordConnected(String host) {
+        ResolvedConnection resolved = cache.get(key(host));
+        if (resolved == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = resolved.lastConnectedRecordedAt.get();
+        if (now - last >= lastConnectedUpdateIntervalNanos
+            && resolved.lastConnectedRecordedAt.compareAndSet(last, now)) {
+            try {
+                clientCredentialRepository.updateLastConnectedAt(resolved.clientId, LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.warn("Failed to update last connected time for host [{}]: {}", host, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 캐시된 연결 정보 무효화 (다음 조회 시 DB에서 다시 로드)
+     */
+    public void invalidate(String host) {
+        invalidations.incrementAndGet();
+        if (cache.remove(key(host)) != null) {
+            log.debug("Connection info invalidated for host [{}]", host);
+        }
+    }
+
+    /**
+     * 클라이언트 변경 커밋 후 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClientCredentialChanged(ClientCredentialChangedEvent event) {
+        invalidate(event.getHost());
+    }
+
+    /**
+     * DB에서 조회 후 캐시 등록 (블로킹 조회는 맵 잠금 밖에서 수행)
+     */
+    private ResolvedConnection loadAndCache(String key, String host) {
+        long version = invalidations.get();
+        ResolvedConnection loaded = load(host);
+        ResolvedConnection existing = cache.putIfAbsent(key, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        if (invalidations.get() != version) {
+            // 조회 중 변경 커밋: 이번 요청에만 사용하고 캐시에는 남기지 않음
+            cache.remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    private ResolvedConnection load(String host) {
+        ClientCredential credential = clientCredentialRepository.findByHost(host)
+            .orElseThrow(() -> new IllegalArgumentException("Client credential not found for host: " + host));
+        if (!credential.isActive()) {
+            throw new IllegalStateException("Client is not active: " + host);
+        }
+
+        String encryptedPassword = credential.getEncryptedPassword();
+        if (passwordEncryptor.needsMigration(encryptedPassword)) {
+            encryptedPassword = migratePassword(credential);
+        }
+
+        log.debug("Connection info loaded for host [{}]", host);
+        return new ResolvedConnection(
+            credential.getId(), credential.getHost(), credential.getPort(), credential.getUsername(), encryptedPassword
+        );
+    }
+
+    /**
+     * 이전 형식(Jasypt)으로 저장된 패스워드를 v2 형식으로 재암호화 (DB 반영에 실패해도 조회는 계속)
+     *
+     * @return v2 형식 암호문
+     */
+    private String migratePassword(ClientCredential credential) {
+        String migrated = passwordEncryptor.encrypt(passwordEncryptor.decrypt(credential.getEncryptedPassword()));
+        try {
+            int updated = clientCredentialRepository.migrateEncryptedPassword(
+                credential.getId(), credential.getEncryptedPassword(), migrated
+            );
+            if (updated > 0) {
+                log.info("Client password migrated to v2 format [id={}]", credential.getId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to migrate client password [id={}]: {}", credential.getId(), e.getMessage());
+        }
+        return migrated;
+    }
+
+    private static String key(String host) {
+        return host.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시 항목 (패스워드는 v2 암호문으로 보관)
+     */
+    private static final class ResolvedConnection {
+
+        private final Long clientId;
+        private final String host;
+        private final Integer port;
+        private final String username;
+        private final String encryptedPassword;
+        private final long loadedAt = System.nanoTime();
+        private final AtomicLong lastConnectedRecordedAt = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+        private ResolvedConnection(Long clientId, String host, Integer port, String username,
+                                   String encryptedPassword) {
+            this.clientId = clientId;
+            this.host = host;
+            this.port = port;
+            this.username = username;
+            this.encryptedPassword = encryptedPassword;
+        }
+    }
+}
@@ -1,104 +1,196 @@
 package kr.urock.sample_remote_command_proj.application.ssh;
 
+import kr.urock.sample_remote_command_proj.application.ssh.SshClientPool.PooledSshClient;
 import kr.urock.sample_remote_command_proj.application.ssh.dto.ConnectionInfo;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshCircuitBreakerStats;
 import kr.urock.sample_remote_command_proj.application.ssh.dto.SshExecutionResult;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshPoolStats;
+import kr.urock.sample_remote_command_proj.application.ssh.output.HeadTailOutputCapture;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCapture;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputListener;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputStreamDrainer;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputType;
+import kr.urock.sample_remote_command_proj.application.ssh.output.SpillingOutputCapture;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import net.schmizz.sshj.SSHClient;
-import net.schmizz.sshj.common.IOUtils;
+import net.schmizz.sshj.common.DisconnectReason;
+import net.schmizz.sshj.connection.ConnectionException;
+import net.schmizz.sshj.connection.channel.OpenFailException;
 import net.schmizz.sshj.connection.channel.direct.Session;
-import net.schmizz.sshj.transport.verification.PromiscuousVerifier;
+import net.schmizz.sshj.connection.channel.direct.Signal;
+import net.schmizz.sshj.transport.TransportException;
+import net.schmizz.sshj.userauth.UserAuthException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
  * sshj 기반 SSH 연결 관리자
  *
  * SSH 연결 및 명령어 실행
- * - 연결 실패 시 재시도 (Exponential Backoff)
- * - 타임아웃 설정 지원
+ * - 호스트별 연결 풀 재사용 (핸드셰이크 생략)
+ * - 하나의 연결에서 여러 세션을 동시에 실행 (채널 다중화)
+ * - 실행 중 stdout/stderr 동시 수신 및 실시간 전달
+ * - 대용량 출력은 임시 파일로 넘기고 최대 크기에서 잘라냄 (또는 앞/뒤만 보관)
+ * - 연결 실패 시 재시도 가능 여부를 예외 타입으로 판단 (재시도는 실행기가 예약)
+ * - 호스트별 서킷 브레이커 (연결/전송 오류만 집계, 연결 불가 호스트는 즉시 실패)
+ * - 타임아웃 초과 시 원격 프로세스 종료 (CommandTimeoutWatchdog)
+ * - 실행 스레드는 채널이 닫힐 때까지 점유됨 (명령어 실행 시간 + 최대 KILL_GRACE_SECONDS)
  */
 @Slf4j
 @Component
 public class SshjConnectionManager implements SshConnectionManager {
 
-    private final int maxRetryAttempts;
-    private final long retryBackoffMs;
+    // 워치독이 채널을 닫은 뒤 종료를 기다리는 추가 시간
+    private static final int KILL_GRACE_SECONDS = 5;
+
+    private final SshClientPool sshClientPool;
+    private final CommandTimeoutWatchdog commandTimeoutWatchdog;
+    private final SshCircuitBreakerRegistry circuitBreakerRegistry;
+    private final int maxSessionOpenAttempts;
     private final String defaultOutputEncoding;
+    private final int memoryThresholdChars;
+    private final long maxOutputChars;
+    private final Path spillDirectory;
+    private final Duration spillRetention;
+    private final int headChars;
+    private final int tailChars;
+
+    // stdout/stderr 수신 전용 (블로킹 I/O이므로 가상 스레드 사용)
+    private final ExecutorService outputDrainExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ssh-output-", 0).factory());
 
     public SshjConnectionManager(
-        @Value("${app.ssh.retry.max-attempts}") int maxRetryAttempts,
-        @Value("${app.ssh.retry.backoff-ms}") long retryBackoffMs,
-        @Value("${app.ssh.output-encoding:UTF-8}") String defaultOutputEncoding
+        SshClientPool sshClientPool,
+        CommandTimeoutWatchdog commandTimeoutWatchdog,
+        SshCircuitBreakerRegistry circuitBreakerRegistry,
+        @Value("${app.ssh.retry.max-attempts}") int maxSessionOpenAttempts,
+        @Value("${app.ssh.output-encoding:UTF-8}") String defaultOutputEncoding,
+        @Value("${app.ssh.output.memory-threshold-chars:65536}") int memoryThresholdChars,
+        @Value("${app.ssh.output.max-chars:4194304}") long maxOutputChars,
+        @Value("${app.ssh.output.spill-directory:${java.io.tmpdir}}") String spillDirectory,
+        @Value("${app.ssh.output.spill-retention-minutes:1440}") long spillRetentionMinutes,
+        @Value("${app.ssh.output.head-tail.head-chars:16384}") int headChars,
+        @Value("${app.ssh.output.head-tail.tail-chars:16384}") int tailChars
     ) {
-        this.maxRetryAttempts = maxRetryAttempts;
-        this.retryBackoffMs = retryBackoffMs;
+        this.sshClientPool = sshClientPool;
+        this.commandTimeoutWatchdog = commandTimeoutWatchdog;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.maxSessionOpenAttempts = maxSessionOpenAttempts;
         this.defaultOutputEncoding = defaultOutputEncoding;
+        this.memoryThresholdChars = memoryThresholdChars;
+        this.maxOutputChars = maxOutputChars;
+        this.spillDirectory = Path.of(spillDirectory);
+        this.spillRetention = Duration.ofMinutes(spillRetentionMinutes);
+        this.headChars = headChars;
+        this.tailChars = tailChars;
         log.info("SSH Connection Manager initialized. Default output encoding: {}", defaultOutputEncoding);
     }
 
     @Override
-    public SshExecutionResult executeCommand(ConnectionInfo connectionInfo, String command) {
-        SSHClient ssh = null;
+    public SshExecutionResult executeCommand(
+        ConnectionInfo connectionInfo,
+        String command,
+        OutputCaptureMode outputMode,
+        OutputListener listener
+    ) {
+        SshCircuitBreaker breaker = circuitBreakerRegistry.forHost(connectionInfo).orElse(null);
         int attempt = 0;
 
-        while (attempt < maxRetryAttempts) {
+        // 세션 한도 초과(OpenFailException)만 즉시 재시도, 연결 오류 재시도는 호출자가 예약
+        while (attempt < maxSessionOpenAttempts) {
             attempt++;
+
+            // 연결 불가 호스트는 연결 시도 없이 즉시 실패
+            if (breaker != null && !breaker.tryAcquirePermission()) {
+                log.warn("SSH circuit breaker for {}:{} is {}. Failing fast.",
+                    connectionInfo.getHost(), connectionInfo.getPort(), breaker.getState());
+                return SshExecutionResult.failure(String.format(
+                    "SSH circuit breaker is %s for host %s:%d",
+                    breaker.getState(), connectionInfo.getHost(), connectionInfo.getPort()
+                ));
+            }
+
+            PooledSshClient pooled = null;
+            long borrowStart = System.nanoTime();
+            long borrowNanos = 0;
             try {
-                ssh = connectWithRetry(connectionInfo, attempt);
-                return executeCommandInternal(
-                    ssh,
+                log.debug("Borrowing SSH connection to {}:{}", connectionInfo.getHost(), connectionInfo.getPort());
+                pooled = sshClientPool.borrow(connectionInfo);
+                borrowNanos = System.nanoTime() - borrowStart;
+
+                SshExecutionResult result = executeCommandInternal(
+                    pooled.getClient(),
                     command,
                     connectionInfo.getCommandTimeoutSeconds(),
-                    connectionInfo.getOutputEncoding()
+                    connectionInfo.getOutputEncoding(),
+                    outputMode,
+                    listener
                 );
+
+                // 정상 실행된 연결은 풀에 반납하여 재사용
+                sshClientPool.release(pooled);
+                if (breaker != null) {
+                    breaker.onSuccess(borrowNanos);
+                }
+                return result;
+            } catch (OpenFailException e) {
+                // 서버 MaxSessions 초과: 연결은 정상이므로 세션 한도만 낮추고 다른 연결로 즉시 재시도
+                log.warn("SSH session open refused (attempt {}/{}): {}",
+                    attempt, maxSessionOpenAttempts, e.getMessage());
+                if (breaker != null) {
+                    breaker.onIgnored();
+                }
+                sshClientPool.limitSessions(pooled);
+                sshClientPool.release(pooled);
+                if (attempt >= maxSessionOpenAttempts) {
+                    return SshExecutionResult.failure(e.getMessage(), true);
+                }
             } catch (Exception e) {
-                log.error("SSH command execution failed (attempt {}/{}): {}",
-                    attempt, maxRetryAttempts, e.getMessage());
-
-                // 연결 종료
-                if (ssh != null && ssh.isConnected()) {
-                    try {
-                        ssh.disconnect();
-                    } catch (IOException ex) {
-                        log.warn("Failed to disconnect SSH: {}", ex.getMessage());
+                log.error("SSH command execution failed: {}", e.getMessage());
+                if (breaker != null) {
+                    // 호스트 상태와 무관한 오류(인증 실패, 로컬 출력 처리 오류 등)는 서킷 브레이커에 반영하지 않음
+                    if (isHostFailure(e)) {
+                        breaker.onFailure(pooled != null ? borrowNanos : System.nanoTime() - borrowStart);
+                    } else {
+                        breaker.onIgnored();
                     }
                 }
 
-                // 재시도 여부 결정
-                if (attempt < maxRetryAttempts && isRetryableException(e)) {
-                    long backoff = retryBackoffMs * (1L << (attempt - 1)); // Exponential backoff
-                    log.info("Retrying in {} ms...", backoff);
-                    try {
-                        Thread.sleep(backoff);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        return SshExecutionResult.failure("Command execution interrupted");
-                    }
-                } else {
-                    return SshExecutionResult.failure(e.getMessage());
-                }
-            } finally {
-                if (ssh != null && ssh.isConnected()) {
-                    try {
-                        ssh.disconnect();
-                    } catch (IOException e) {
-                        log.warn("Failed to disconnect SSH: {}", e.getMessage());
-                    }
+                // 오류가 발생한 연결은 재사용하지 않음
+                if (pooled != null) {
+                    sshClientPool.invalidate(pooled);
                 }
+                return SshExecutionResult.failure(e.getMessage(), isRetryableException(e));
             }
         }
 
-        return SshExecutionResult.failure("Max retry attempts exceeded");
+        return SshExecutionResult.failure("Max session open attempts exceeded", true);
     }
 
     @Override
     public boolean testConnection(ConnectionInfo connectionInfo) {
         SSHClient ssh = null;
         try {
-            ssh = connectWithRetry(connectionInfo, 1);
+            // 풀을 거치지 않고 실제 핸드셰이크 수행
+            ssh = sshClientPool.connect(connectionInfo);
             return ssh.isConnected() && ssh.isAuthenticated();
         } catch (Exception e) {
             log.error("SSH connection test failed: {}", e.getMessage());
@@ -114,61 +206,71 @@ public class SshjConnectionManager implements SshConnectionManager {
         }
     }
 
-    /**
-     * SSH 연결 시도
-     */
-    private SSHClient connectWithRetry(ConnectionInfo info, int attempt) throws IOException {
-        SSHClient ssh = new SSHClient();
-
-        // 호스트 키 검증 비활성화 (POC용, 운영에서는 적절한 검증 필요)
-        ssh.addHostKeyVerifier(new PromiscuousVerifier());
-
-        // 타임아웃 설정
-        ssh.setConnectTimeout(info.getConnectTimeoutSeconds() * 1000);
-        ssh.setTimeout(info.getCommandTimeoutSeconds() * 1000);
-
-        log.debug("Attempting SSH connection to {}:{} (attempt {})",
-            info.getHost(), info.getPort(), attempt);
-
-        ssh.connect(info.getHost(), info.getPort());
-        ssh.authPassword(info.getUsername(), info.getPassword());
+    @Override
+    public List<SshPoolStats> getPoolStats() {
+        return sshClientPool.getStats();
+    }
 
-        log.info("SSH connection established to {}:{}", info.getHost(), info.getPort());
-        return ssh;
+    @Override
+    public List<SshCircuitBreakerStats> getCircuitBreakerStats() {
+        return circuitBreakerRegistry.getStats();
     }
 
     /**
      * 명령어 실행 (내부)
+     *
+     * stdout/stderr를 실행 중에 동시에 읽어 리스너로 전달
      */
     private SshExecutionResult executeCommandInternal(
         SSHClient ssh,
         String command,
         Integer timeoutSeconds,
-        String outputEncoding
+        String outputEncoding,
+        OutputCaptureMode outputMode,
+        OutputListener listener
     ) throws IOException {
         Session session = null;
+        OutputCapture stdoutCapture = null;
+        OutputCapture stderrCapture = null;
         try {
             session = ssh.startSession();
             Session.Command cmd = session.exec(command);
 
-            // 타임아웃 대기
-            cmd.join(timeoutSeconds, TimeUnit.SECONDS);
-
             // 인코딩 결정: ConnectionInfo에 지정된 값 우선, 없으면 기본값 사용
             String encoding = (outputEncoding != null && !outputEncoding.isEmpty())
                 ? outputEncoding : defaultOutputEncoding;
+            Charset charset = Charset.forName(encoding);
 
-            // 결과 읽기 (올바른 인코딩 사용)
-            String output = new String(
-                IOUtils.readFully(cmd.getInputStream()).toByteArray(),
-                encoding
-            );
-            String errorOutput = new String(
-                IOUtils.readFully(cmd.getErrorStream()).toByteArray(),
-                encoding
-            );
-            Integer exitCode = cmd.getExitStatus();
+            // 출력 동시 수신 (채널 윈도우가 가득 차 원격 프로세스가 멈추지 않도록)
+            stdoutCapture = newOutputCapture(outputMode);
+            stderrCapture = newOutputCapture(outputMode);
+            Future<OutputCapture> stdout = outputDrainExecutor.submit(new OutputStreamDrainer(
+                cmd.getInputStream(), charset, OutputType.STDOUT, stdoutCapture, listener));
+            Future<OutputCapture> stderr = outputDrainExecutor.submit(new OutputStreamDrainer(
+                cmd.getErrorStream(), charset, OutputType.STDERR, stderrCapture, listener));
+
+            // 기한 등록: 초과 시 워치독이 원격 프로세스를 종료하고 채널을 닫음
+            CommandTimeoutWatchdog.Deadline deadline =
+                commandTimeoutWatchdog.watch(timeoutSeconds, () -> killRemoteCommand(cmd, timeoutSeconds));
+
+            // 채널 종료 대기 (정상 종료 또는 워치독에 의한 종료)
+            // 실행 스레드는 채널이 닫힐 때까지 여기서 대기 (워치독은 기한 확인만 대신하고 스레드를 풀어주지 않음)
+            // 대기 상한은 timeout + KILL_GRACE_SECONDS, 플랫폼 스레드를 점유하지 않으려면 app.executor.mode=virtual
+            cmd.join(timeoutSeconds + KILL_GRACE_SECONDS, TimeUnit.SECONDS);
+            deadline.cancel();
+            if (cmd.isOpen()) {
+                log.warn("SSH channel still open after kill. Closing session.");
+                session.close();
+            }
+
+            String output = awaitCapture(stdout).getContent();
+            String errorOutput = awaitCapture(stderr).getContent();
+
+            if (deadline.isExpired()) {
+                return SshExecutionResult.timeout(output, errorOutput);
+            }
 
+            Integer exitCode = cmd.getExitStatus();
             log.debug("Command executed successfully. Exit code: {}, Encoding: {}", exitCode, encoding);
 
             return SshExecutionResult.success(output, errorOutput, exitCode);
@@ -181,26 +283,157 @@ public class SshjConnectionManager implements SshConnectionManager {
                     log.warn("Failed to close SSH session: {}", e.getMessage());
                 }
             }
+            closeQuietly(stdoutCapture);
+            closeQuietly(stderrCapture);
+        }
+    }
+
+    /**
+     * 기한 초과 명령어 종료 (워치독 스레드에서 호출)
+     *
+     * KILL 신호 전송 후 채널을 닫음
+     * - Windows OpenSSH 등 신호를 지원하지 않는 서버도 채널 종료로 프로세스가 정리됨
+     * - 채널이 닫히면 출력 수신과 실행 스레드의 대기가 즉시 끝남
+     */
+    private void killRemoteCommand(Session.Command cmd, int timeoutSeconds) {
+        log.warn("Command did not finish within {} seconds. Killing remote process.", timeoutSeconds);
+        try {
+            cmd.signal(Signal.KILL);
+        } catch (IOException e) {
+            log.debug("Failed to send KILL signal: {}", e.getMessage());
+        }
+        try {
+            cmd.close();
+        } catch (IOException e) {
+            log.warn("Failed to close timed out SSH channel: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 출력 버퍼 생성
+     *
+     * - FULL: 메모리 임계치를 넘으면 임시 파일로 옮기고, 최대 크기를 넘으면 잘라냄 (결과는 앞/뒤 + 파일 위치)
+     * - HEAD_TAIL: 앞/뒤 고정 크기만 보관
+     */
+    private OutputCapture newOutputCapture(OutputCaptureMode mode) {
+        if (mode == OutputCaptureMode.HEAD_TAIL) {
+            return new HeadTailOutputCapture(headChars, tailChars);
+        }
+        return new SpillingOutputCapture(memoryThresholdChars, maxOutputChars, spillDirectory);
+    }
+
+    private void closeQuietly(OutputCapture capture) {
+        if (capture == null) {
+            return;
+        }
+        try {
+            capture.close();
+        } catch (IOException e) {
+            log.warn("Failed to release output buffer: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 출력 수신 완료 대기
+     */
+    private OutputCapture awaitCapture(Future<OutputCapture> drain) throws IOException {
+        try {
+            return drain.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drain.cancel(true);
+            throw new IOException("Interrupted while reading command output", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Failed to read command output: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 전체 출력 파일 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.ssh.output.spill-cleanup-interval-ms:600000}")
+    public void deleteExpiredSpillFiles() {
+        try {
+            int deleted = SpillingOutputCapture.deleteExpired(spillDirectory, spillRetention);
+            if (deleted > 0) {
+                log.info("Deleted {} expired command output files from {}", deleted, spillDirectory);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up command output files in {}: {}", spillDirectory, e.getMessage());
         }
     }
 
+    /**
+     * 종료 시 출력 수신 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        outputDrainExecutor.shutdownNow();
+    }
+
     /**
      * 재시도 가능한 예외인지 확인
      *
      * 연결 실패만 재시도, 인증 실패는 재시도하지 않음
      */
     private boolean isRetryableException(Exception e) {
-        String message = e.getMessage() != null ? e.getMessage().toLowerCase() : "";
+        // 인증 실패는 재시도해도 결과가 같음
+        if (e instanceof UserAuthException) {
+            return false;
+        }
+
+        // 전송 계층 오류는 원인에 따라 판단 (호스트 키, 프로토콜 불일치 등은 재시도 안함)
+        if (e instanceof TransportException te) {
+            return isRetryableDisconnect(te.getDisconnectReason());
+        }
 
-        // 인증 실패는 재시도 안함
-        if (message.contains("auth") || message.contains("password")) {
+        // 일시적인 네트워크 오류 (연결 거부, 응답 지연, 연결 끊김)
+        if (e instanceof ConnectException
+            || e instanceof SocketTimeoutException
+            || e instanceof ConnectionException) {
+            return true;
+        }
+
+        // 잘못된 호스트 이름은 재시도 안함
+        if (e instanceof UnknownHostException) {
             return false;
         }
 
-        // 연결 관련 오류는 재시도
-        return message.contains("connection") ||
-               message.contains("timeout") ||
-               message.contains("network") ||
-               e instanceof IOException;
+        // 그 외 I/O 오류 (소켓 종료, 풀 대기 시간 초과 등)
+        return e instanceof IOException;
+    }
+
+    /**
+     * 호스트 연결/전송 계층 오류인지 확인 (서킷 브레이커 실패 집계 대상)
+     *
+     * 인증 실패는 클라이언트별 설정 문제이므로 제외 (한 클라이언트의 잘못된 패스워드로 호스트 전체가 차단되지 않도록)
+     * 로컬 I/O 오류(출력 임시 파일, 풀 대기 시간 초과)도 제외
+     */
+    private boolean isHostFailure(Exception e) {
+        if (e instanceof UserAuthException) {
+            return false;
+        }
+        return e instanceof TransportException
+            || e instanceof ConnectionException
+            || e instanceof SocketException
+            || e instanceof SocketTimeoutException
+            || e instanceof UnknownHostException;
+    }
+
+    private boolean isRetryableDisconnect(DisconnectReason reason) {
+        return switch (reason) {
+            case HOST_KEY_NOT_VERIFIABLE,
+                 HOST_NOT_ALLOWED_TO_CONNECT,
+                 PROTOCOL_ERROR,
+                 PROTOCOL_VERSION_NOT_SUPPORTED,
+                 KEY_EXCHANGE_FAILED,
+                 AUTH_CANCELLED_BY_USER,
+                 NO_MORE_AUTH_METHODS_AVAILABLE,
+                 ILLEGAL_USER_NAME -> false;
+            default -> true;
+        };
     }
 }
@@ -0,0 +1,31 @@
+package kr.urock.sample_remote_command_proj.application.ssh.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 호스트별 SSH 서킷 브레이커 상태
+ *
+ * 불변 객체 (캡슐화)
+ */
+@Getter
+@Builder
+public class SshCircuitBreakerStats {
+
+    private final String host;
+    private final Integer port;
+    private final String state;            // CLOSED / OPEN / HALF_OPEN
+
+    private final int bufferedCalls;       // 윈도우에 기록된 호출 수
+    private final int failedCalls;         // 윈도우 내 실패 호출 수
+    private final int slowCalls;           // 윈도우 내 지연 호출 수
+    private final float failureRate;       // 실패율 (%)
+    private final float slowCallRate;      // 지연 호출 비율 (%)
+
+    private final long notPermittedCalls;  // 즉시 실패 처리된 호출 수
+    private final long openTransitions;    // OPEN 전환 횟수
+    private final Instant openedAt;        // 마지막 OPEN 전환 시각 (CLOSED이면 null)
+    private final Long retryAfterMs;       // HALF_OPEN 전환까지 남은 시간 (OPEN일 때만)
+}
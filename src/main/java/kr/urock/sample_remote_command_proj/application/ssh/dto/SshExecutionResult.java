@@ -16,6 +16,8 @@ public class SshExecutionResult {
     private final String errorOutput;
     private final Integer exitCode;
     private final boolean success;
+    private final boolean timedOut;
+    private final boolean retryable;
     private final String errorMessage;
 
     /**
@@ -30,6 +32,19 @@ public class SshExecutionResult {
             .build();
     }
 
+    /**
+     * 타임아웃 결과 생성 (종료 전까지 수신한 출력 포함)
+     */
+    public static SshExecutionResult timeout(String output, String errorOutput) {
+        return SshExecutionResult.builder()
+            .output(output)
+            .errorOutput(errorOutput)
+            .success(false)
+            .timedOut(true)
+            .errorMessage("Command execution timeout")
+            .build();
+    }
+
     /**
      * 실패 결과 생성
      */
@@ -39,4 +54,17 @@ public class SshExecutionResult {
             .errorMessage(errorMessage)
             .build();
     }
+
+    /**
+     * 실패 결과 생성 (재시도 가능 여부 지정)
+     *
+     * @param retryable 일시적인 연결 오류로 재시도 가능한 경우 true
+     */
+    public static SshExecutionResult failure(String errorMessage, boolean retryable) {
+        return SshExecutionResult.builder()
+            .success(false)
+            .retryable(retryable)
+            .errorMessage(errorMessage)
+            .build();
+    }
 }
@@ -0,0 +1,31 @@
+package kr.urock.sample_remote_command_proj.application.ssh.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 호스트별 SSH 연결 풀 통계
+ *
+ * 불변 객체 (캡슐화)
+ */
+@Getter
+@Builder
+public class SshPoolStats {
+
+    private final String host;
+    private final Integer port;
+    private final String username;
+
+    private final int connections;              // 열린 연결(전송 계층) 수
+    private final int idle;                     // 세션이 없는 연결 수
+    private final int activeSessions;           // 사용 중인 세션 수
+    private final int maxTotal;                 // 호스트별 최대 연결 수
+    private final int maxSessionsPerConnection; // 연결당 최대 세션 수
+    private final int waiting;                  // 세션 대기 중인 요청 수
+
+    private final long created;           // 생성된 연결 수 (핸드셰이크 수행)
+    private final long destroyed;         // 종료된 연결 수
+    private final long borrowed;          // 대여 횟수
+    private final long reused;            // 재사용 횟수 (핸드셰이크 생략)
+    private final long validationFailures; // 대여 시 검증 실패 횟수
+}
@@ -0,0 +1,110 @@
+package kr.urock.sample_remote_command_proj.application.ssh.output;
+
+/**
+ * 앞/뒤 고정 크기 출력 버퍼
+ *
+ * 출력 양과 무관하게 메모리 사용량이 일정
+ * - 처음 headChars 문자는 그대로 보관
+ * - 이후 출력은 tailChars 크기의 링 버퍼에 보관 (가장 최근 출력만 유지)
+ * - 전체 바이트/문자/줄 수를 집계하여 생략된 구간 표시
+ */
+public class HeadTailOutputCapture implements OutputCapture {
+
+    private final char[] head;
+    private final char[] tail;
+
+    private int headLength;
+    private int tailPosition;   // 다음에 기록할 위치
+    private boolean tailWrapped;
+
+    private long totalChars;
+    private long totalLines;
+    private long totalBytes = -1;
+
+    public HeadTailOutputCapture(int headChars, int tailChars) {
+        this.head = new char[headChars];
+        this.tail = new char[tailChars];
+    }
+
+    @Override
+    public void append(char[] chunk, int offset, int length) {
+        totalChars += length;
+        for (int i = offset; i < offset + length; i++) {
+            if (chunk[i] == '\n') {
+                totalLines++;
+            }
+        }
+
+        // 1. 앞부분 채우기
+        int toHead = Math.min(length, head.length - headLength);
+        System.arraycopy(chunk, offset, head, headLength, toHead);
+        headLength += toHead;
+        offset += toHead;
+        length -= toHead;
+
+        if (length == 0 || tail.length == 0) {
+            return;
+        }
+
+        // 2. 나머지는 링 버퍼에 기록 (버퍼보다 긴 청크는 마지막 부분만 필요)
+        if (length >= tail.length) {
+            System.arraycopy(chunk, offset + length - tail.length, tail, 0, tail.length);
+            tailPosition = 0;
+            tailWrapped = true;
+            return;
+        }
+
+        int firstPart = Math.min(length, tail.length - tailPosition);
+        System.arraycopy(chunk, offset, tail, tailPosition, firstPart);
+        System.arraycopy(chunk, offset + firstPart, tail, 0, length - firstPart);
+        if (tailPosition + length >= tail.length) {
+            tailWrapped = true;
+        }
+        tailPosition = (tailPosition + length) % tail.length;
+    }
+
+    @Override
+    public void complete(long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    @Override
+    public String getContent() {
+        String headText = new String(head, 0, headLength);
+        String tailText = tailWrapped
+            ? new String(tail, tailPosition, tail.length - tailPosition) + new String(tail, 0, tailPosition)
+            : new String(tail, 0, tailPosition);
+
+        if (!isTruncated()) {
+            return headText + tailText;
+        }
+
+        long omittedChars = totalChars - headText.length() - tailText.length();
+        long omittedLines = Math.max(0, totalLines - countLines(headText) - countLines(tailText));
+        String marker = String.format(
+            "%n... [%d chars, ~%d lines omitted | total: %d chars, %d lines%s] ...%n",
+            omittedChars, omittedLines, totalChars, totalLines,
+            totalBytes >= 0 ? ", " + totalBytes + " bytes" : "");
+
+        return headText + marker + tailText;
+    }
+
+    @Override
+    public long getTotalChars() {
+        return totalChars;
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return totalChars > head.length + tail.length;
+    }
+
+    @Override
+    public void close() {
+        // 메모리 버퍼만 사용하므로 정리할 자원 없음
+    }
+
+    private static long countLines(String text) {
+        return text.chars().filter(c -> c == '\n').count();
+    }
+}
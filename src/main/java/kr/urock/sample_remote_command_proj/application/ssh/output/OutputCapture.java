@@ -0,0 +1,49 @@
+package kr.urock.sample_remote_command_proj.application.ssh.output;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 명령어 출력 누적 버퍼
+ *
+ * 스트림에서 읽은 청크를 점진적으로 누적
+ * - 구현체별 메모리 상한 적용
+ * - 하나의 스트림 전용 (단일 스레드에서 append)
+ * - 사용 후 close()로 임시 자원 정리
+ */
+public interface OutputCapture extends Closeable {
+
+    /**
+     * 청크 추가
+     *
+     * @param chunk 문자 배열
+     * @param offset 시작 위치
+     * @param length 길이
+     */
+    void append(char[] chunk, int offset, int length) throws IOException;
+
+    /**
+     * 스트림 수신 완료 통지
+     *
+     * @param totalBytes 수신한 전체 바이트 수 (디코딩 전)
+     */
+    default void complete(long totalBytes) {
+    }
+
+    /**
+     * 누적된 출력 조회
+     *
+     * @return 출력 문자열 (잘린 경우 표시 포함)
+     */
+    String getContent() throws IOException;
+
+    /**
+     * 수신한 전체 문자 수 (버려진 문자 포함)
+     */
+    long getTotalChars();
+
+    /**
+     * 출력이 잘렸는지 여부
+     */
+    boolean isTruncated();
+}
@@ -0,0 +1,16 @@
+package kr.urock.sample_remote_command_proj.application.ssh.output;
+
+/**
+ * 명령어 출력 보관 방식
+ */
+public enum OutputCaptureMode {
+    /**
+     * 전체 보관 - 최대 크기까지 보관 (메모리 임계치 초과 시 임시 파일 사용)
+     */
+    FULL,
+
+    /**
+     * 앞/뒤 보관 - 처음 N자와 마지막 N자만 보관 (메모리 사용량 고정)
+     */
+    HEAD_TAIL
+}
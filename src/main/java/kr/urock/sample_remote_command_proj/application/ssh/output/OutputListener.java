@@ -0,0 +1,26 @@
+package kr.urock.sample_remote_command_proj.application.ssh.output;
+
+/**
+ * 명령어 출력 수신 리스너
+ *
+ * 명령어 실행 중 stdout/stderr 청크를 실시간으로 전달받음
+ * - 청크는 디코딩된 문자열 (멀티바이트 문자가 잘리지 않음)
+ * - stdout과 stderr는 서로 다른 스레드에서 동시에 호출될 수 있음
+ * - 구현체는 빠르게 반환해야 함 (느리면 원격 채널 수신이 지연됨)
+ */
+@FunctionalInterface
+public interface OutputListener {
+
+    /**
+     * 아무 작업도 하지 않는 리스너
+     */
+    OutputListener NONE = (type, chunk) -> { };
+
+    /**
+     * 출력 청크 수신
+     *
+     * @param type 스트림 종류
+     * @param chunk 출력 청크
+     */
+    void onOutput(OutputType type, String chunk);
+}
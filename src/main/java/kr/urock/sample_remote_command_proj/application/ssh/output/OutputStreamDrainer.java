@@ -0,0 +1,102 @@
+package kr.urock.sample_remote_command_proj.application.ssh.output;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.concurrent.Callable;
+
+/**
+ * 채널 출력 스트림 소비자
+ *
+ * 명령어 실행 중 스트림을 EOF까지 계속 읽어 채널 윈도우가 가득 차지 않도록 함
+ * - 읽은 청크는 캡처 버퍼에 누적하고 리스너에 전달
+ * - 문자 단위 디코딩으로 청크 경계에서 멀티바이트 문자가 깨지지 않음
+ */
+@Slf4j
+public class OutputStreamDrainer implements Callable<OutputCapture> {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final InputStream inputStream;
+    private final Charset charset;
+    private final OutputType type;
+    private final OutputCapture capture;
+    private final OutputListener listener;
+
+    public OutputStreamDrainer(
+        InputStream inputStream,
+        Charset charset,
+        OutputType type,
+        OutputCapture capture,
+        OutputListener listener
+    ) {
+        this.inputStream = inputStream;
+        this.charset = charset;
+        this.type = type;
+        this.capture = capture;
+        this.listener = listener;
+    }
+
+    @Override
+    public OutputCapture call() throws IOException {
+        ByteCountingInputStream counter = new ByteCountingInputStream(inputStream);
+        Reader reader = new InputStreamReader(counter, charset);
+        char[] chunk = new char[CHUNK_SIZE];
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            if (read == 0) {
+                continue;
+            }
+            capture.append(chunk, 0, read);
+            publish(new String(chunk, 0, read));
+        }
+        capture.complete(counter.count);
+        return capture;
+    }
+
+    /**
+     * 리스너 전달 (리스너 오류가 출력 수집을 중단시키지 않도록 격리)
+     */
+    private void publish(String chunk) {
+        try {
+            listener.onOutput(type, chunk);
+        } catch (RuntimeException e) {
+            log.warn("Output listener failed for {}: {}", type, e.getMessage());
+        }
+    }
+
+    /**
+     * 디코딩 전 바이트 수 집계
+     */
+    private static final class ByteCountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private ByteCountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
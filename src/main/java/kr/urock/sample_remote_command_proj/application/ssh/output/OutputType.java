@@ -0,0 +1,16 @@
+package kr.urock.sample_remote_command_proj.application.ssh.output;
+
+/**
+ * 명령어 출력 스트림 종류
+ */
+public enum OutputType {
+    /**
+     * 표준 출력
+     */
+    STDOUT,
+
+    /**
+     * 표준 오류
+     */
+    STDERR
+}
@@ -0,0 +1,153 @@
+package kr.urock.sample_remote_command_proj.application.ssh.output;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 임시 파일로 넘치는 출력 버퍼
+ *
+ * - 메모리 임계치까지는 힙에 보관
+ * - 임계치를 넘으면 임시 파일로 옮기고 이후 청크는 파일에 기록 (실행 중 힙 사용량은 임계치 이내)
+ * - 파일로 옮긴 출력의 결과는 앞/뒤(각 임계치의 절반)와 파일 위치만 반환 (완료 시에도 파일 전체를 힙으로 읽지 않음)
+ * - 전체 출력(최대 문자 수까지)은 파일로 남기고 보관 기간 후 삭제 (deleteExpired)
+ * - 최대 문자 수를 넘는 출력은 파일에 기록하지 않음
+ */
+@Slf4j
+public class SpillingOutputCapture implements OutputCapture {
+
+    static final String SPILL_FILE_PREFIX = "ssh-output-";
+    static final String SPILL_FILE_SUFFIX = ".log";
+
+    private final int memoryThresholdChars;
+    private final long maxChars;
+    private final Path spillDirectory;
+
+    private final StringBuilder memory = new StringBuilder();
+    // 파일로 옮긴 경우의 결과 (앞/뒤만 보관)
+    private final HeadTailOutputCapture headTail;
+    private Path spillFile;
+    private Writer spillWriter;
+
+    private long storedChars;
+    private long totalChars;
+
+    public SpillingOutputCapture(int memoryThresholdChars, long maxChars, Path spillDirectory) {
+        this.memoryThresholdChars = memoryThresholdChars;
+        this.maxChars = maxChars;
+        this.spillDirectory = spillDirectory;
+        this.headTail = new HeadTailOutputCapture(memoryThresholdChars / 2, memoryThresholdChars - memoryThresholdChars / 2);
+    }
+
+    @Override
+    public void append(char[] chunk, int offset, int length) throws IOException {
+        totalChars += length;
+        headTail.append(chunk, offset, length);
+        int writable = (int) Math.min(length, maxChars - storedChars);
+        if (writable <= 0) {
+            return;
+        }
+
+        if (spillWriter == null && memory.length() + writable > memoryThresholdChars) {
+            spill();
+        }
+
+        if (spillWriter != null) {
+            spillWriter.write(chunk, offset, writable);
+        } else {
+            memory.append(chunk, offset, writable);
+        }
+        storedChars += writable;
+    }
+
+    @Override
+    public void complete(long totalBytes) {
+        headTail.complete(totalBytes);
+    }
+
+    /**
+     * 보관된 출력 조회
+     *
+     * 파일로 옮긴 경우 앞/뒤와 전체 출력 파일 위치만 반환 (힙 사용량은 메모리 임계치 이내)
+     */
+    @Override
+    public String getContent() throws IOException {
+        if (spillWriter == null) {
+            String content = memory.toString();
+            if (!isTruncated()) {
+                return content;
+            }
+            return content + String.format("%n... [output truncated: %d of %d chars kept]", storedChars, totalChars);
+        }
+
+        spillWriter.flush();
+        return headTail.getContent() + String.format("%n... [full output: %d of %d chars kept in %s]",
+            storedChars, totalChars, spillFile.toAbsolutePath());
+    }
+
+    @Override
+    public long getTotalChars() {
+        return totalChars;
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return spillWriter != null || totalChars > storedChars;
+    }
+
+    /**
+     * 파일 닫기 (전체 출력 파일은 보관 기간까지 유지)
+     */
+    @Override
+    public void close() {
+        if (spillWriter == null) {
+            return;
+        }
+        try {
+            spillWriter.close();
+        } catch (IOException e) {
+            log.warn("Failed to close output spill file {}: {}", spillFile, e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 출력 파일 삭제
+     *
+     * @param spillDirectory 출력 파일 디렉토리
+     * @param retention 보관 기간 (마지막 기록 시각 기준)
+     * @return 삭제한 파일 수
+     */
+    public static int deleteExpired(Path spillDirectory, Duration retention) throws IOException {
+        Instant cutoff = Instant.now().minus(retention);
+        int deleted = 0;
+        try (DirectoryStream<Path> files =
+                 Files.newDirectoryStream(spillDirectory, SPILL_FILE_PREFIX + "*" + SPILL_FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 메모리 버퍼를 임시 파일로 이동
+     */
+    private void spill() throws IOException {
+        spillFile = Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+        spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+        spillWriter.append(memory);
+
+        log.debug("Command output exceeded {} chars. Spilled to {}", memoryThresholdChars, spillFile);
+        memory.setLength(0);
+        memory.trimToSize();
+    }
+}
@@ -0,0 +1,218 @@
+package kr.urock.sample_remote_command_proj.application.stream;
+
+import kr.urock.sample_remote_command_proj.application.stream.dto.CommandStreamEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 명령어 하나의 실행 이벤트 스트림
+ *
+ * 발행된 이벤트를 재생 버퍼에 보관하고 구독자는 각자의 위치(sequence)부터 읽음
+ * - 발행자는 버퍼에 추가만 하므로 느린 구독자가 SSH 출력 수신을 막지 않음
+ * - 재생 버퍼가 한도를 넘으면 오래된 이벤트부터 버림 (늦은 구독자는 건너뜀 표시 수신)
+ * - 스트림별 한도와 함께 전체 스트림 합계 한도도 적용 (대량 실행 시 힙 사용량 상한)
+ * - 가상 스레드 고정(pinning)을 피하기 위해 synchronized 대신 ReentrantLock 사용
+ * - 실행을 공유하는 명령어(팔로워)의 스트림에 출력(STDOUT/STDERR)을 그대로 전달
+ */
+public class CommandStream {
+
+    private final Long commandId;
+    private final long maxBufferedChars;
+    private final AtomicLong totalBufferedChars;
+    private final long maxTotalBufferedChars;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Deque<CommandStreamEvent> events = new ArrayDeque<>();
+    private final List<CommandStream> followers = new ArrayList<>();
+
+    private long nextSequence = 0;
+    private long bufferedChars = 0;
+    private boolean completed = false;
+    private volatile long lastActivityAt = System.currentTimeMillis();
+
+    /**
+     * @param commandId 명령어 ID
+     * @param maxBufferedChars 스트림별 재생 버퍼 한도
+     * @param totalBufferedChars 전체 스트림이 공유하는 버퍼 사용량
+     * @param maxTotalBufferedChars 전체 스트림 재생 버퍼 한도
+     */
+    public CommandStream(Long commandId, long maxBufferedChars,
+                         AtomicLong totalBufferedChars, long maxTotalBufferedChars) {
+        this.commandId = commandId;
+        this.maxBufferedChars = maxBufferedChars;
+        this.totalBufferedChars = totalBufferedChars;
+        this.maxTotalBufferedChars = maxTotalBufferedChars;
+    }
+
+    /**
+     * 이벤트 발행
+     *
+     * @param type 이벤트 종류
+     * @param data 데이터
+     */
+    public void publish(CommandStreamEvent.Type type, String data) {
+        lock.lock();
+        try {
+            if (completed) {
+                return;
+            }
+            append(type, data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 상태 이벤트를 발행하고 스트림 종료
+     *
+     * @param finalStatus 최종 상태 데이터
+     */
+    public void complete(String finalStatus) {
+        lock.lock();
+        try {
+            if (completed) {
+                return;
+            }
+            append(CommandStreamEvent.Type.STATUS, finalStatus);
+            completed = true;
+            // 팔로워는 각자의 결과 처리에서 종료
+            followers.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 출력을 전달받을 스트림 등록 (실행 중인 동일 명령어에 합류한 명령어)
+     *
+     * 재생 버퍼에 남은 출력을 먼저 전달한 뒤 이후 출력을 전달 (누락/중복 없음)
+     *
+     * @param follower 합류한 명령어의 스트림
+     */
+    public void addFollower(CommandStream follower) {
+        lock.lock();
+        try {
+            for (CommandStreamEvent event : events) {
+                if (event.getType() != CommandStreamEvent.Type.STATUS) {
+                    follower.publish(event.getType(), event.getData());
+                }
+            }
+            if (!completed) {
+                followers.add(follower);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 순번 이후의 이벤트 조회 (새 이벤트가 없으면 대기)
+     *
+     * @param fromSequence 읽을 첫 순번
+     * @param timeoutMs 최대 대기 시간
+     * @return 이벤트 묶음
+     */
+    public Batch awaitEvents(long fromSequence, long timeoutMs) throws InterruptedException {
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (fromSequence >= nextSequence && !completed && remainingNanos > 0) {
+                remainingNanos = changed.awaitNanos(remainingNanos);
+            }
+
+            long firstBuffered = nextSequence - events.size();
+            boolean skipped = fromSequence < firstBuffered;
+
+            List<CommandStreamEvent> result = new ArrayList<>();
+            for (CommandStreamEvent event : events) {
+                if (event.getSequence() >= fromSequence) {
+                    result.add(event);
+                }
+            }
+            return new Batch(result, skipped, completed, nextSequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재생 버퍼 해제 (스트림 제거 시, 전체 사용량에서 차감)
+     */
+    public void release() {
+        lock.lock();
+        try {
+            totalBufferedChars.addAndGet(-bufferedChars);
+            bufferedChars = 0;
+            events.clear();
+            followers.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Long getCommandId() {
+        return commandId;
+    }
+
+    public boolean isCompleted() {
+        lock.lock();
+        try {
+            return completed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    private void append(CommandStreamEvent.Type type, String data) {
+        events.addLast(CommandStreamEvent.builder()
+            .sequence(nextSequence++)
+            .type(type)
+            .data(data)
+            .timestamp(LocalDateTime.now())
+            .build());
+        bufferedChars += data.length();
+        totalBufferedChars.addAndGet(data.length());
+
+        // 재생 버퍼 한도 초과 시 오래된 이벤트 제거 (최소 1개는 유지)
+        while ((bufferedChars > maxBufferedChars || totalBufferedChars.get() > maxTotalBufferedChars)
+            && events.size() > 1) {
+            int removed = events.removeFirst().getData().length();
+            bufferedChars -= removed;
+            totalBufferedChars.addAndGet(-removed);
+        }
+
+        lastActivityAt = System.currentTimeMillis();
+        changed.signalAll();
+
+        // 팔로워 스트림은 항상 이 스트림의 잠금 이후에 잠금 (순서 고정)
+        if (type != CommandStreamEvent.Type.STATUS) {
+            for (CommandStream follower : followers) {
+                follower.publish(type, data);
+            }
+        }
+    }
+
+    /**
+     * 구독자에게 전달할 이벤트 묶음
+     *
+     * @param events 이벤트 목록
+     * @param skipped 재생 버퍼에서 이미 제거되어 건너뛴 이벤트가 있는지 여부
+     * @param completed 스트림 종료 여부
+     * @param nextSequence 다음에 읽을 순번
+     */
+    public record Batch(List<CommandStreamEvent> events, boolean skipped, boolean completed, long nextSequence) {
+    }
+}
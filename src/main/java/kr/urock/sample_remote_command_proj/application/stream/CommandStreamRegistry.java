@@ -0,0 +1,140 @@
+package kr.urock.sample_remote_command_proj.application.stream;
+
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputListener;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputType;
+import kr.urock.sample_remote_command_proj.application.stream.dto.CommandStreamEvent;
+import kr.urock.sample_remote_command_proj.domain.command.CommandStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 명령어 실행 스트림 저장소
+ *
+ * 실행 중인 명령어의 출력 및 상태 변화를 구독자에게 전달
+ * - 스트림은 실행 시작 시 생성 (늦은 구독자에게 시작 이후 출력 재생), 대기 중에는 구독 시에만 생성
+ * - SSH 채널 출력 청크를 실시간으로 발행
+ * - 실행 중인 동일 명령어에 합류한 명령어는 그 출력을 자신의 스트림으로 전달받음 (follow)
+ * - 완료된 스트림은 일정 시간 보관 (재연결 시 이어받기용)
+ * - 전체 재생 버퍼 합계 한도 (max-total-buffered-chars, 초과 시 오래된 출력부터 제거)
+ */
+@Slf4j
+@Component
+public class CommandStreamRegistry {
+
+    private final long replayBufferChars;
+    private final long maxTotalBufferedChars;
+    private final long retentionMs;
+    private final long staleTimeoutMs;
+
+    private final ConcurrentMap<Long, CommandStream> streams = new ConcurrentHashMap<>();
+    private final AtomicLong totalBufferedChars = new AtomicLong();
+
+    public CommandStreamRegistry(
+        @Value("${app.command.stream.replay-buffer-chars:262144}") long replayBufferChars,
+        @Value("${app.command.stream.max-total-buffered-chars:16777216}") long maxTotalBufferedChars,
+        @Value("${app.command.stream.retention-ms:60000}") long retentionMs,
+        @Value("${app.command.stream.stale-timeout-ms:3600000}") long staleTimeoutMs
+    ) {
+        this.replayBufferChars = replayBufferChars;
+        this.maxTotalBufferedChars = maxTotalBufferedChars;
+        this.retentionMs = retentionMs;
+        this.staleTimeoutMs = staleTimeoutMs;
+    }
+
+    /**
+     * 스트림 조회 (없으면 생성)
+     *
+     * @param commandId 명령어 ID
+     * @return 스트림
+     */
+    public CommandStream open(Long commandId) {
+        return streams.computeIfAbsent(commandId, id ->
+            new CommandStream(id, replayBufferChars, totalBufferedChars, maxTotalBufferedChars));
+    }
+
+    /**
+     * 스트림 조회
+     *
+     * @param commandId 명령어 ID
+     * @return 스트림 (Optional)
+     */
+    public Optional<CommandStream> find(Long commandId) {
+        return Optional.ofNullable(streams.get(commandId));
+    }
+
+    /**
+     * 실행 시작 발행 (스트림이 없으면 생성)
+     *
+     * @param commandId 명령어 ID
+     */
+    public void start(Long commandId) {
+        open(commandId).publish(CommandStreamEvent.Type.STATUS, CommandStatus.EXECUTING.name());
+    }
+
+    /**
+     * 실행 중인 명령어의 출력을 다른 명령어 스트림으로 전달 (실행 공유)
+     *
+     * @param leaderId 실제 실행 중인 명령어 ID
+     * @param followerId 합류한 명령어 ID
+     */
+    public void follow(Long leaderId, Long followerId) {
+        open(leaderId).addFollower(open(followerId));
+    }
+
+    /**
+     * SSH 출력을 스트림으로 발행하는 리스너 생성
+     *
+     * @param commandId 명령어 ID
+     * @return 출력 리스너
+     */
+    public OutputListener outputListener(Long commandId) {
+        CommandStream stream = open(commandId);
+        return (type, chunk) -> stream.publish(
+            type == OutputType.STDERR ? CommandStreamEvent.Type.STDERR : CommandStreamEvent.Type.STDOUT,
+            chunk
+        );
+    }
+
+    /**
+     * 상태 변화 발행 (스트림이 있을 때만, 대기 중 명령어는 구독자가 있을 때만 스트림 존재)
+     *
+     * @param commandId 명령어 ID
+     * @param status 변경된 상태
+     */
+    public void publishStatus(Long commandId, CommandStatus status) {
+        find(commandId).ifPresent(stream -> stream.publish(CommandStreamEvent.Type.STATUS, status.name()));
+    }
+
+    /**
+     * 최종 상태 발행 및 스트림 종료 (스트림이 있을 때만)
+     *
+     * @param commandId 명령어 ID
+     * @param status 최종 상태
+     */
+    public void complete(Long commandId, CommandStatus status) {
+        find(commandId).ifPresent(stream -> stream.complete(status.name()));
+    }
+
+    /**
+     * 보관 기간이 지난 스트림 정리 (주기적)
+     */
+    @Scheduled(fixedDelayString = "${app.command.stream.cleanup-interval-ms:30000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        streams.values().removeIf(stream -> {
+            long idle = now - stream.getLastActivityAt();
+            boolean expired = stream.isCompleted() ? idle > retentionMs : idle > staleTimeoutMs;
+            if (expired) {
+                stream.release();
+            }
+            return expired;
+        });
+    }
+}
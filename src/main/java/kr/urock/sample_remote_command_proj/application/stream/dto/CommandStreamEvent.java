@@ -0,0 +1,30 @@
+package kr.urock.sample_remote_command_proj.application.stream.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 명령어 실행 스트림 이벤트
+ *
+ * 불변 객체 (캡슐화)
+ */
+@Getter
+@Builder
+public class CommandStreamEvent {
+
+    /**
+     * 이벤트 종류
+     */
+    public enum Type {
+        STATUS,
+        STDOUT,
+        STDERR
+    }
+
+    private final long sequence;   // 명령어별 이벤트 순번 (SSE id)
+    private final Type type;
+    private final String data;
+    private final LocalDateTime timestamp;
+}
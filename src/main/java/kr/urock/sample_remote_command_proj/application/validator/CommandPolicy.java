@@ -0,0 +1,94 @@
+package kr.urock.sample_remote_command_proj.application.validator;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 화이트리스트 패턴별 실행 정책
+ *
+ * 화이트리스트 줄 끝의 @ 주석으로 지정 (예: "^hostname$  @coalesce @ttl=1h")
+ * - @coalesce: 같은 호스트에서 실행 중인 동일 명령어가 있으면 그 결과를 공유 (읽기 전용 명령어만)
+ * - @ttl=기간: 성공 결과를 기간 동안 캐시하여 SSH 없이 응답 (예: 5s, 10m, 1h)
+ *
+ * 불변 객체 (캡슐화)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class CommandPolicy {
+
+    public static final CommandPolicy DEFAULT = new CommandPolicy(false, null);
+
+    private static final String COALESCE = "coalesce";
+    private static final String TTL_PREFIX = "ttl=";
+
+    private final boolean coalesce;
+    private final Duration cacheTtl;    // null이면 캐시하지 않음
+
+    private CommandPolicy(boolean coalesce, Duration cacheTtl) {
+        this.coalesce = coalesce;
+        this.cacheTtl = cacheTtl;
+    }
+
+    /**
+     * 주석 목록으로 정책 생성
+     *
+     * @param annotations @를 제외한 주석 (예: "coalesce", "ttl=1h")
+     * @throws IllegalArgumentException 알 수 없는 주석 또는 잘못된 기간
+     */
+    public static CommandPolicy parse(List<String> annotations) {
+        boolean coalesce = false;
+        Duration cacheTtl = null;
+        for (String annotation : annotations) {
+            if (COALESCE.equalsIgnoreCase(annotation)) {
+                coalesce = true;
+            } else if (annotation.regionMatches(true, 0, TTL_PREFIX, 0, TTL_PREFIX.length())) {
+                cacheTtl = parseTtl(annotation.substring(TTL_PREFIX.length()));
+            } else {
+                throw new IllegalArgumentException("Unknown policy annotation: @" + annotation);
+            }
+        }
+        return of(coalesce, cacheTtl);
+    }
+
+    /**
+     * 캐시 대상 여부
+     */
+    public boolean isCacheable() {
+        return cacheTtl != null;
+    }
+
+    /**
+     * 여러 패턴이 매칭된 경우 병합 (모든 패턴이 허용해야 허용)
+     *
+     * - coalesce: 모두 허용하는 경우만 허용
+     * - cacheTtl: 모두 캐시 대상이면 가장 짧은 기간, 하나라도 아니면 캐시하지 않음
+     */
+    public CommandPolicy merge(CommandPolicy other) {
+        Duration mergedTtl = this.cacheTtl == null || other.cacheTtl == null ? null
+            : this.cacheTtl.compareTo(other.cacheTtl) <= 0 ? this.cacheTtl : other.cacheTtl;
+        return of(this.coalesce && other.coalesce, mergedTtl);
+    }
+
+    private static CommandPolicy of(boolean coalesce, Duration cacheTtl) {
+        return !coalesce && cacheTtl == null ? DEFAULT : new CommandPolicy(coalesce, cacheTtl);
+    }
+
+    private static Duration parseTtl(String value) {
+        Duration ttl;
+        try {
+            ttl = DurationStyle.SIMPLE.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid ttl: @ttl=" + value);
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive: @ttl=" + value);
+        }
+        return ttl;
+    }
+}
@@ -1,5 +1,6 @@
 package kr.urock.sample_remote_command_proj.application.validator;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -26,6 +27,15 @@ public interface CommandPolicyLoader {
      */
     Set<String> getBlacklist();
 
+    /**
+     * 화이트리스트 패턴별 실행 정책 조회
+     *
+     * @return 패턴 → 실행 정책 (주석이 있는 패턴만)
+     */
+    default Map<String, CommandPolicy> getWhitelistPolicies() {
+        return Map.of();
+    }
+
     /**
      * 정책 리로드
      *
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -33,7 +34,7 @@ public class FileBasedCommandValidator implements CommandValidator {
         // 1. 화이트리스트 확인
         if (matchesAnyPattern(trimmedCommand, policyLoader.getWhitelist())) {
             log.debug("Command allowed by whitelist: {}", trimmedCommand);
-            return ValidationResult.allowed();
+            return ValidationResult.allowed(resolvePolicy(trimmedCommand));
         }
 
         // 2. 블랙리스트 확인
@@ -47,6 +48,26 @@ public class FileBasedCommandValidator implements CommandValidator {
         return ValidationResult.rejected("Command not in whitelist");
     }
 
+    /**
+     * 매칭되는 모든 화이트리스트 패턴의 실행 정책 병합
+     *
+     * 주석이 없는 패턴도 기본 정책으로 병합하므로 모든 매칭 패턴이 허용한 정책만 적용
+     *
+     * @param command 명령어
+     * @return 실행 정책 (매칭 패턴 중 주석이 없는 패턴이 있으면 기본 정책)
+     */
+    private CommandPolicy resolvePolicy(String command) {
+        Map<String, CommandPolicy> policies = policyLoader.getWhitelistPolicies();
+        CommandPolicy policy = null;
+        for (String pattern : policyLoader.getWhitelist()) {
+            if (matchesAnyPattern(command, Set.of(pattern))) {
+                CommandPolicy patternPolicy = policies.getOrDefault(pattern, CommandPolicy.DEFAULT);
+                policy = policy == null ? patternPolicy : policy.merge(patternPolicy);
+            }
+        }
+        return policy != null ? policy : CommandPolicy.DEFAULT;
+    }
+
     /**
      * 명령어가 패턴 집합 중 하나라도 매칭되는지 확인
      *
@@ -12,16 +12,24 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * 파일 기반 명령어 정책 로더
  *
  * 화이트리스트/블랙리스트를 파일에서 로드
+ * - 줄 끝의 @ 주석은 패턴의 실행 정책으로 분리 (예: "^hostname$  @coalesce @ttl=1h")
  * - 주기적으로 파일 변경 확인 및 리로드
  * - Thread-safe 구현 (ReadWriteLock)
  */
@@ -29,6 +37,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @Component
 public class FileBasedPolicyLoader implements CommandPolicyLoader {
 
+    // 줄 끝의 공백으로 구분된 @ 주석 (예: "  @coalesce @ttl=1h")
+    private static final Pattern ANNOTATIONS = Pattern.compile("(\\s+@\\w+(=\\w+)?)+\\s*$");
+
     private final ResourceLoader resourceLoader;
     private final String whitelistPath;
     private final String blacklistPath;
@@ -36,6 +47,7 @@ public class FileBasedPolicyLoader implements CommandPolicyLoader {
 
     private Set<String> whitelist;
     private Set<String> blacklist;
+    private Map<String, CommandPolicy> whitelistPolicies = Map.of();
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     // 파일 변경 감지를 위한 타임스탬프
@@ -106,15 +118,28 @@ public class FileBasedPolicyLoader implements CommandPolicyLoader {
         }
     }
 
+    @Override
+    public Map<String, CommandPolicy> getWhitelistPolicies() {
+        lock.readLock().lock();
+        try {
+            return whitelistPolicies;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @Override
     public void reload() {
         lock.writeLock().lock();
         try {
-            Set<String> newWhitelist = loadPatternsFromFile(whitelistPath);
-            Set<String> newBlacklist = loadPatternsFromFile(blacklistPath);
+            Map<String, CommandPolicy> newWhitelist = loadPatternsFromFile(whitelistPath);
+            Map<String, CommandPolicy> newBlacklist = loadPatternsFromFile(blacklistPath);
 
-            this.whitelist = newWhitelist;
-            this.blacklist = newBlacklist;
+            this.whitelist = new HashSet<>(newWhitelist.keySet());
+            this.blacklist = new HashSet<>(newBlacklist.keySet());
+            this.whitelistPolicies = newWhitelist.entrySet().stream()
+                .filter(entry -> !CommandPolicy.DEFAULT.equals(entry.getValue()))
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
 
             // 타임스탬프 업데이트
             this.whitelistLastModified = getFileLastModified(whitelistPath);
@@ -131,10 +156,10 @@ public class FileBasedPolicyLoader implements CommandPolicyLoader {
      * 파일에서 패턴 로드
      *
      * @param path 파일 경로
-     * @return 패턴 집합
+     * @return 패턴 → 실행 정책
      */
-    private Set<String> loadPatternsFromFile(String path) {
-        Set<String> patterns = new HashSet<>();
+    private Map<String, CommandPolicy> loadPatternsFromFile(String path) {
+        Map<String, CommandPolicy> patterns = new HashMap<>();
 
         try {
             Resource resource = resourceLoader.getResource(path);
@@ -155,7 +180,22 @@ public class FileBasedPolicyLoader implements CommandPolicyLoader {
                         continue;
                     }
 
-                    patterns.add(line);
+                    // 줄 끝의 @ 주석 분리
+                    Matcher matcher = ANNOTATIONS.matcher(line);
+                    if (matcher.find()) {
+                        String pattern = line.substring(0, matcher.start()).trim();
+                        List<String> annotations = Arrays.stream(matcher.group().trim().split("\\s+"))
+                            .map(annotation -> annotation.substring(1))
+                            .toList();
+                        try {
+                            patterns.put(pattern, CommandPolicy.parse(annotations));
+                        } catch (IllegalArgumentException e) {
+                            log.warn("{} in {}: {}", e.getMessage(), path, line);
+                            patterns.put(pattern, CommandPolicy.DEFAULT);
+                        }
+                    } else {
+                        patterns.put(line, CommandPolicy.DEFAULT);
+                    }
                 }
             }
 
@@ -12,17 +12,28 @@ public class ValidationResult {
 
     private final boolean valid;
     private final String reason;
+    private final CommandPolicy policy;
 
-    private ValidationResult(boolean valid, String reason) {
+    private ValidationResult(boolean valid, String reason, CommandPolicy policy) {
         this.valid = valid;
         this.reason = reason;
+        this.policy = policy;
     }
 
     /**
      * 허용된 명령어
      */
     public static ValidationResult allowed() {
-        return new ValidationResult(true, null);
+        return allowed(CommandPolicy.DEFAULT);
+    }
+
+    /**
+     * 허용된 명령어 (매칭된 화이트리스트 패턴의 실행 정책)
+     *
+     * @param policy 실행 정책
+     */
+    public static ValidationResult allowed(CommandPolicy policy) {
+        return new ValidationResult(true, null, policy);
     }
 
     /**
@@ -31,7 +42,7 @@ public class ValidationResult {
      * @param reason 거부 사유
      */
     public static ValidationResult rejected(String reason) {
-        return new ValidationResult(false, reason);
+        return new ValidationResult(false, reason, CommandPolicy.DEFAULT);
     }
 
     /**
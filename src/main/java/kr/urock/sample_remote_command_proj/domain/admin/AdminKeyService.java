@@ -4,6 +4,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.UUID;
 
 /**
@@ -71,7 +74,8 @@ public class AdminKeyService {
             return false;
         }
 
-        return keyToValidate.equals(getCurrentAdminKey());
+        // 상수 시간 비교 (해시 비교로 길이 차이도 노출하지 않음)
+        return MessageDigest.isEqual(sha256(keyToValidate), sha256(getCurrentAdminKey()));
     }
 
     /**
@@ -84,4 +88,12 @@ public class AdminKeyService {
     public String getCurrentAdminKey() {
         return (runtimeAdminKey != null) ? runtimeAdminKey : adminApiKey;
     }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
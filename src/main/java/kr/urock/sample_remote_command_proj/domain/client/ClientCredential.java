@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -25,6 +26,9 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ClientCredential {
 
+    // 명령어 소유자 키 접두사 (API Key 형식 client-UUID와 구분)
+    private static final String OWNER_KEY_PREFIX = "client:";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -57,6 +61,36 @@ public class ClientCredential {
     @Column(name = "active", nullable = false)
     private Boolean active;
 
+    /**
+     * 스케줄링 가중치 - API Key 간 공정 분배 비율 (null이면 1)
+     */
+    @Column(name = "scheduling_weight")
+    private Integer schedulingWeight;
+
+    /**
+     * 호스트 동시 실행 한도 (null이면 기본값)
+     */
+    @Column(name = "max_concurrent_commands")
+    private Integer maxConcurrentCommands;
+
+    /**
+     * 초당 요청 한도 (null이면 기본값)
+     */
+    @Column(name = "rate_limit_per_second")
+    private Integer rateLimitPerSecond;
+
+    /**
+     * 순간 최대 요청 수 - 토큰 버킷 크기 (null이면 기본값)
+     */
+    @Column(name = "rate_limit_burst")
+    private Integer rateLimitBurst;
+
+    /**
+     * 액세스 토큰 폐기 세대 - 토큰의 값과 다르면 거부 (null이면 0)
+     */
+    @Column(name = "token_epoch")
+    private Integer tokenEpoch;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -95,6 +129,35 @@ public class ClientCredential {
         return credential;
     }
 
+    /**
+     * 명령어 소유자 키
+     *
+     * 명령어는 평문 API Key 대신 클라이언트 ID로 소유자를 기록 (API Key 재발급 후에도 같은 소유자)
+     *
+     * @param clientId 클라이언트 ID
+     * @return 소유자 키 (client:{id})
+     */
+    public static String ownerKey(Long clientId) {
+        return OWNER_KEY_PREFIX + clientId;
+    }
+
+    /**
+     * 소유자 키의 클라이언트 ID
+     *
+     * @param ownerKey 명령어 소유자 키
+     * @return 클라이언트 ID (관리자 또는 이전 버전에서 API Key로 기록된 명령어는 empty)
+     */
+    public static Optional<Long> clientIdOf(String ownerKey) {
+        if (ownerKey == null || !ownerKey.startsWith(OWNER_KEY_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.valueOf(ownerKey.substring(OWNER_KEY_PREFIX.length())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * API Key 생성
      */
@@ -136,6 +199,43 @@ public class ClientCredential {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 실행 정책 업데이트
+     *
+     * @param schedulingWeight 스케줄링 가중치 (nullable, 1 이상)
+     * @param maxConcurrentCommands 호스트 동시 실행 한도 (nullable, 1 이상)
+     * @param rateLimitPerSecond 초당 요청 한도 (nullable, 1 이상)
+     * @param rateLimitBurst 순간 최대 요청 수 (nullable, 1 이상)
+     * @throws IllegalArgumentException 값이 1 미만인 경우
+     */
+    public void updatePolicy(
+        Integer schedulingWeight,
+        Integer maxConcurrentCommands,
+        Integer rateLimitPerSecond,
+        Integer rateLimitBurst
+    ) {
+        if (schedulingWeight != null) {
+            this.schedulingWeight = requirePositive(schedulingWeight, "Scheduling weight");
+        }
+        if (maxConcurrentCommands != null) {
+            this.maxConcurrentCommands = requirePositive(maxConcurrentCommands, "Max concurrent commands");
+        }
+        if (rateLimitPerSecond != null) {
+            this.rateLimitPerSecond = requirePositive(rateLimitPerSecond, "Rate limit per second");
+        }
+        if (rateLimitBurst != null) {
+            this.rateLimitBurst = requirePositive(rateLimitBurst, "Rate limit burst");
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 적용되는 스케줄링 가중치 (미설정 시 1)
+     */
+    public int getEffectiveSchedulingWeight() {
+        return this.schedulingWeight != null ? this.schedulingWeight : 1;
+    }
+
     /**
      * API Key 재발급
      *
@@ -143,6 +243,7 @@ public class ClientCredential {
      */
     public String regenerateApiKey() {
         this.apiKey = generateApiKey();
+        revokeTokens();
         this.updatedAt = LocalDateTime.now();
         return this.apiKey;
     }
@@ -160,9 +261,21 @@ public class ClientCredential {
      */
     public void deactivate() {
         this.active = false;
+        revokeTokens();
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 발급된 액세스 토큰 전체 폐기 (토큰 세대 증가)
+     */
+    public void revokeTokens() {
+        this.tokenEpoch = getEffectiveTokenEpoch() + 1;
+    }
+
+    public int getEffectiveTokenEpoch() {
+        return this.tokenEpoch != null ? this.tokenEpoch : 0;
+    }
+
     /**
      * 마지막 연결 시간 업데이트
      */
@@ -176,4 +289,11 @@ public class ClientCredential {
     public boolean isActive() {
         return this.active != null && this.active;
     }
+
+    private static int requirePositive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1: " + value);
+        }
+        return value;
+    }
 }
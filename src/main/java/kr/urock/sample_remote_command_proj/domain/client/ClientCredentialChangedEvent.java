@@ -0,0 +1,19 @@
+package kr.urock.sample_remote_command_proj.domain.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클라이언트 변경 이벤트
+ *
+ * 등록, 연결 정보/패스워드/실행 정책 변경, API Key 재발급, 활성화/비활성화, 삭제 시 발행
+ * - 커밋 후 각 캐시가 DB의 커밋된 상태로 갱신하는 용도 (연결 정보, API Key 인덱스, 호스트 동시 실행 한도)
+ * - 호스트가 바뀌면 이전/새 호스트별로 발행
+ */
+@Getter
+@RequiredArgsConstructor
+public class ClientCredentialChangedEvent {
+
+    private final Long clientId;
+    private final String host;
+}
@@ -1,8 +1,14 @@
 package kr.urock.sample_remote_command_proj.domain.client;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +23,11 @@ public interface ClientCredentialRepository extends JpaRepository<ClientCredenti
      */
     Optional<ClientCredential> findByApiKey(String apiKey);
 
+    /**
+     * API Key 목록으로 클라이언트 조회
+     */
+    List<ClientCredential> findByApiKeyIn(Collection<String> apiKeys);
+
     /**
      * 호스트로 클라이언트 조회
      */
@@ -41,4 +52,25 @@ public interface ClientCredentialRepository extends JpaRepository<ClientCredenti
      * 호스트 존재 여부 확인
      */
     boolean existsByHost(String host);
+
+    /**
+     * 마지막 연결 시간 갱신 (엔티티 조회 없이)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ClientCredential c SET c.lastConnectedAt = :connectedAt WHERE c.id = :id")
+    int updateLastConnectedAt(@Param("id") Long id, @Param("connectedAt") LocalDateTime connectedAt);
+
+    /**
+     * 암호화 형식 전환 (조회 이후 패스워드가 변경되지 않은 경우에만 반영)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ClientCredential c SET c.encryptedPassword = :migrated "
+        + "WHERE c.id = :id AND c.encryptedPassword = :current")
+    int migrateEncryptedPassword(
+        @Param("id") Long id,
+        @Param("current") String current,
+        @Param("migrated") String migrated
+    );
 }
@@ -3,10 +3,15 @@ package kr.urock.sample_remote_command_proj.domain.client;
 import kr.urock.sample_remote_command_proj.infrastructure.util.PasswordEncryptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 클라이언트 도메인 서비스
@@ -16,6 +21,8 @@ import java.util.List;
  * - 클라이언트 조회
  * - 클라이언트 수정/삭제
  * - API Key 재발급
+ * - 실행 정책 (스케줄링 가중치, 호스트 동시 실행 한도)
+ * - 모든 변경은 ClientCredentialChangedEvent 발행 (캐시는 커밋 후 갱신, 롤백 시 변경 없음)
  */
 @Slf4j
 @Service
@@ -25,6 +32,7 @@ public class ClientService {
 
     private final ClientCredentialRepository clientCredentialRepository;
     private final PasswordEncryptor passwordEncryptor;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 클라이언트 등록
@@ -64,6 +72,7 @@ public class ClientService {
         credential = clientCredentialRepository.save(credential);
         log.info("Client registered [id={}]: {} (API Key: {})",
             credential.getId(), credential.getHost(), credential.getApiKey());
+        eventPublisher.publishEvent(new ClientCredentialChangedEvent(credential.getId(), credential.getHost()));
 
         return credential;
     }
@@ -138,14 +147,78 @@ public class ClientService {
         String description
     ) {
         ClientCredential credential = getClient(clientId);
+        String previousHost = credential.getHost();
         credential.updateInfo(host, port, username, description);
 
         credential = clientCredentialRepository.save(credential);
         log.info("Client updated [id={}]: {}", credential.getId(), credential.getHost());
 
+        eventPublisher.publishEvent(new ClientCredentialChangedEvent(credential.getId(), previousHost));
+        if (!previousHost.equals(credential.getHost())) {
+            eventPublisher.publishEvent(new ClientCredentialChangedEvent(credential.getId(), credential.getHost()));
+        }
+
         return credential;
     }
 
+    /**
+     * 클라이언트 실행 정책 수정
+     *
+     * @param clientId 클라이언트 ID
+     * @param schedulingWeight 스케줄링 가중치 (nullable)
+     * @param maxConcurrentCommands 호스트 동시 실행 한도 (nullable)
+     * @param rateLimitPerSecond 초당 요청 한도 (nullable)
+     * @param rateLimitBurst 순간 최대 요청 수 (nullable)
+     * @return 수정된 ClientCredential
+     */
+    @Transactional
+    public ClientCredential updateClientPolicy(
+        Long clientId,
+        Integer schedulingWeight,
+        Integer maxConcurrentCommands,
+        Integer rateLimitPerSecond,
+        Integer rateLimitBurst
+    ) {
+        ClientCredential credential = getClient(clientId);
+        credential.updatePolicy(schedulingWeight, maxConcurrentCommands, rateLimitPerSecond, rateLimitBurst);
+
+        credential = clientCredentialRepository.save(credential);
+        log.info("Client policy updated [id={}]: weight={}, maxConcurrent={}, rateLimit={}/s (burst {})",
+            credential.getId(), credential.getEffectiveSchedulingWeight(), credential.getMaxConcurrentCommands(),
+            credential.getRateLimitPerSecond(), credential.getRateLimitBurst());
+        eventPublisher.publishEvent(new ClientCredentialChangedEvent(credential.getId(), credential.getHost()));
+
+        return credential;
+    }
+
+    /**
+     * 명령어 소유자별 스케줄링 가중치 조회
+     *
+     * 소유자 키(client:{id})는 클라이언트 ID로, 이전 버전에서 API Key로 기록된 명령어는 API Key로 조회
+     * - 등록되지 않은 소유자(Admin 등)는 결과에 포함되지 않음
+     *
+     * @param ownerKeys 명령어 소유자 키 목록
+     * @return 소유자 키 → 가중치
+     */
+    public Map<String, Integer> getSchedulingWeights(Collection<String> ownerKeys) {
+        List<Long> clientIds = new ArrayList<>();
+        List<String> legacyApiKeys = new ArrayList<>();
+        for (String ownerKey : ownerKeys) {
+            ClientCredential.clientIdOf(ownerKey).ifPresentOrElse(clientIds::add, () -> legacyApiKeys.add(ownerKey));
+        }
+
+        Map<String, Integer> weights = new HashMap<>();
+        if (!clientIds.isEmpty()) {
+            clientCredentialRepository.findAllById(clientIds).forEach(credential ->
+                weights.put(ClientCredential.ownerKey(credential.getId()), credential.getEffectiveSchedulingWeight()));
+        }
+        if (!legacyApiKeys.isEmpty()) {
+            clientCredentialRepository.findByApiKeyIn(legacyApiKeys).forEach(credential ->
+                weights.put(credential.getApiKey(), credential.getEffectiveSchedulingWeight()));
+        }
+        return weights;
+    }
+
     /**
      * 클라이언트 패스워드 수정
      *
@@ -162,6 +235,7 @@ public class ClientService {
 
         credential = clientCredentialRepository.save(credential);
         log.info("Client password updated [id={}]", credential.getId());
+        eventPublisher.publishEvent(new ClientCredentialChangedEvent(credential.getId(), credential.getHost()));
 
         return credential;
     }
@@ -179,6 +253,7 @@ public class ClientService {
 
         clientCredentialRepository.save(credential);
         log.info("Client API key regenerated [id={}]: {}", credential.getId(), newApiKey);
+        eventPublisher.publishEvent(new ClientCredentialChangedEvent(credential.getId(), credential.getHost()));
 
         return newApiKey;
     }
@@ -194,6 +269,7 @@ public class ClientService {
         credential.activate();
         clientCredentialRepository.save(credential);
         log.info("Client activated [id={}]", credential.getId());
+        eventPublisher.publishEvent(new ClientCredentialChangedEvent(credential.getId(), credential.getHost()));
     }
 
     /**
@@ -207,6 +283,7 @@ public class ClientService {
         credential.deactivate();
         clientCredentialRepository.save(credential);
         log.info("Client deactivated [id={}]", credential.getId());
+        eventPublisher.publishEvent(new ClientCredentialChangedEvent(credential.getId(), credential.getHost()));
     }
 
     /**
@@ -219,5 +296,6 @@ public class ClientService {
         ClientCredential credential = getClient(clientId);
         clientCredentialRepository.delete(credential);
         log.info("Client deleted [id={}]: {}", credential.getId(), credential.getHost());
+        eventPublisher.publishEvent(new ClientCredentialChangedEvent(credential.getId(), credential.getHost()));
     }
 }
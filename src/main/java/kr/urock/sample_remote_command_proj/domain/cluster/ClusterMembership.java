@@ -0,0 +1,183 @@
+package kr.urock.sample_remote_command_proj.domain.cluster;
+
+import jakarta.annotation.PreDestroy;
+import kr.urock.sample_remote_command_proj.infrastructure.util.ConsistentHashRing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클러스터 멤버십 및 호스트 샤딩
+ *
+ * 같은 DB를 사용하는 노드 사이에서 대상 호스트 담당 노드를 결정
+ * - cluster_nodes 테이블에 주기적으로 하트비트 기록
+ * - 살아 있는 노드로 일관된 해싱 링을 만들고 샤드 버킷을 노드에 할당
+ * - 노드 추가/종료 시 다음 하트비트에서 재분배 (약 1/N 버킷만 이동)
+ * - 각 노드는 담당 버킷의 명령어만 선점하므로 호스트별 연결 풀이 한 노드에 유지됨
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    private final ClusterNodeRepository clusterNodeRepository;
+    private final boolean shardingEnabled;
+    private final String nodeId;
+    private final long nodeTimeoutMs;
+    private final int virtualNodes;
+
+    private volatile Assignment assignment = Assignment.EMPTY;
+    private volatile long lastHeartbeatNanos;
+    private final AtomicLong rebalances = new AtomicLong();
+
+    public ClusterMembership(
+        ClusterNodeRepository clusterNodeRepository,
+        @Value("${app.cluster.sharding.enabled:true}") boolean shardingEnabled,
+        @Value("${app.cluster.node-id:}") String nodeId,
+        @Value("${app.cluster.node-timeout-ms:15000}") long nodeTimeoutMs,
+        @Value("${app.cluster.virtual-nodes:128}") int virtualNodes
+    ) {
+        this.clusterNodeRepository = clusterNodeRepository;
+        this.shardingEnabled = shardingEnabled;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.nodeTimeoutMs = nodeTimeoutMs;
+        this.virtualNodes = virtualNodes;
+        log.info("Cluster node id: {} (sharding {})", this.nodeId, shardingEnabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * 하트비트 기록 및 멤버 변경 확인
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!shardingEnabled) {
+            return;
+        }
+        try {
+            clusterNodeRepository.heartbeat(nodeId);
+            lastHeartbeatNanos = System.nanoTime();
+
+            List<String> liveNodes = new ArrayList<>(clusterNodeRepository.findLiveNodes(nodeTimeoutMs / 1000.0)
+                .stream()
+                .map(ClusterNode::getNodeId)
+                .toList());
+            if (!liveNodes.contains(nodeId)) {
+                liveNodes.add(nodeId);
+            }
+            if (!liveNodes.equals(assignment.nodes())) {
+                rebalance(liveNodes);
+            }
+
+            // 오래전에 종료된 노드 정리
+            clusterNodeRepository.deleteExpiredNodes(nodeTimeoutMs * 10 / 1000.0);
+        } catch (Exception e) {
+            log.warn("Cluster heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정상 종료 시 즉시 탈퇴 (다른 노드가 다음 하트비트에서 인수)
+     */
+    @PreDestroy
+    public void leave() {
+        if (!shardingEnabled) {
+            return;
+        }
+        try {
+            clusterNodeRepository.deleteById(nodeId);
+            log.info("Cluster node {} left", nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to leave cluster: {}", e.getMessage());
+        }
+    }
+
+    public boolean isShardingEnabled() {
+        return shardingEnabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 이 노드가 담당하는 버킷 목록
+     *
+     * 하트비트가 node-timeout 이상 실패하면 다른 노드가 인수했을 수 있으므로 빈 목록
+     *
+     * @return 담당 버킷 (샤딩 비활성화 시 의미 없음)
+     */
+    public List<Integer> getOwnedBuckets() {
+        long sinceHeartbeat = System.nanoTime() - lastHeartbeatNanos;
+        if (lastHeartbeatNanos == 0 || sinceHeartbeat > TimeUnit.MILLISECONDS.toNanos(nodeTimeoutMs)) {
+            return List.of();
+        }
+        return assignment.ownedBuckets();
+    }
+
+    /**
+     * 대상 호스트 담당 여부
+     */
+    public boolean owns(String targetHost) {
+        return !shardingEnabled || getOwnedBuckets().contains(ShardBuckets.of(targetHost));
+    }
+
+    /**
+     * 멤버십 상태 조회
+     */
+    public ClusterStatus getStatus() {
+        Assignment current = assignment;
+        return ClusterStatus.builder()
+            .nodeId(nodeId)
+            .shardingEnabled(shardingEnabled)
+            .liveNodes(current.nodes())
+            .ownedBuckets(shardingEnabled ? getOwnedBuckets().size() : ShardBuckets.COUNT)
+            .totalBuckets(ShardBuckets.COUNT)
+            .rebalances(rebalances.get())
+            .build();
+    }
+
+    /**
+     * 살아 있는 노드로 링을 다시 만들고 담당 버킷 재계산
+     */
+    private void rebalance(List<String> liveNodes) {
+        ConsistentHashRing ring = new ConsistentHashRing(liveNodes, virtualNodes);
+        List<Integer> owned = new ArrayList<>();
+        for (int bucket = 0; bucket < ShardBuckets.COUNT; bucket++) {
+            if (nodeId.equals(ring.nodeFor(ShardBuckets.key(bucket)))) {
+                owned.add(bucket);
+            }
+        }
+
+        Assignment previous = assignment;
+        assignment = new Assignment(List.copyOf(liveNodes), List.copyOf(owned));
+        rebalances.incrementAndGet();
+        log.info("Cluster membership changed: {} -> {}. Node {} owns {}/{} buckets",
+            previous.nodes(), liveNodes, nodeId, owned.size(), ShardBuckets.COUNT);
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 멤버 목록과 담당 버킷 (불변)
+     */
+    private record Assignment(List<String> nodes, List<Integer> ownedBuckets) {
+
+        static final Assignment EMPTY = new Assignment(List.of(), List.of());
+    }
+}
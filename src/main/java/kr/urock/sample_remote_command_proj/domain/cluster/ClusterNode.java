@@ -0,0 +1,34 @@
+package kr.urock.sample_remote_command_proj.domain.cluster;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 클러스터 노드 (하트비트)
+ *
+ * 같은 DB를 사용하는 애플리케이션 노드 목록
+ * - 각 노드가 주기적으로 last_heartbeat_at 갱신 (DB 시각 기준)
+ * - 일정 시간 갱신이 없으면 종료된 노드로 판단
+ */
+@Entity
+@Table(name = "cluster_nodes", indexes = {
+    @Index(name = "idx_cluster_node_heartbeat", columnList = "last_heartbeat_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClusterNode {
+
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "last_heartbeat_at", nullable = false)
+    private LocalDateTime lastHeartbeatAt;
+}
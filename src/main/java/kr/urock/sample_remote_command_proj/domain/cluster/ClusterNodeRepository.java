@@ -0,0 +1,52 @@
+package kr.urock.sample_remote_command_proj.domain.cluster;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * ClusterNode 엔티티의 데이터 액세스 인터페이스
+ *
+ * 시각은 모두 DB 기준 (노드 간 시계 차이 무시)
+ */
+@Repository
+public interface ClusterNodeRepository extends JpaRepository<ClusterNode, String> {
+
+    /**
+     * 하트비트 기록 (없으면 등록)
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        value = "INSERT INTO cluster_nodes (node_id, started_at, last_heartbeat_at) VALUES (:nodeId, now(), now()) "
+            + "ON CONFLICT (node_id) DO UPDATE SET last_heartbeat_at = now()",
+        nativeQuery = true
+    )
+    void heartbeat(@Param("nodeId") String nodeId);
+
+    /**
+     * 살아 있는 노드 조회 (timeoutSeconds 안에 하트비트 기록)
+     */
+    @Query(
+        value = "SELECT * FROM cluster_nodes WHERE last_heartbeat_at > now() - make_interval(secs => :timeoutSeconds) "
+            + "ORDER BY node_id",
+        nativeQuery = true
+    )
+    List<ClusterNode> findLiveNodes(@Param("timeoutSeconds") double timeoutSeconds);
+
+    /**
+     * 오래된 노드 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        value = "DELETE FROM cluster_nodes WHERE last_heartbeat_at < now() - make_interval(secs => :expireSeconds)",
+        nativeQuery = true
+    )
+    int deleteExpiredNodes(@Param("expireSeconds") double expireSeconds);
+}
@@ -0,0 +1,23 @@
+package kr.urock.sample_remote_command_proj.domain.cluster;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 클러스터 멤버십 상태
+ *
+ * 불변 객체 (캡슐화)
+ */
+@Getter
+@Builder
+public class ClusterStatus {
+
+    private final String nodeId;            // 이 노드 ID
+    private final boolean shardingEnabled;
+    private final List<String> liveNodes;   // 살아 있는 노드 목록
+    private final int ownedBuckets;         // 이 노드가 담당하는 버킷 수
+    private final int totalBuckets;         // 전체 버킷 수
+    private final long rebalances;          // 멤버 변경으로 재분배된 횟수
+}
@@ -0,0 +1,38 @@
+package kr.urock.sample_remote_command_proj.domain.cluster;
+
+import kr.urock.sample_remote_command_proj.infrastructure.util.ConsistentHashRing;
+
+import java.util.Locale;
+
+/**
+ * 대상 호스트 샤드 버킷
+ *
+ * 대상 호스트를 고정 개수의 버킷으로 나누고, 버킷 단위로 노드에 할당
+ * - 같은 호스트는 항상 같은 버킷 (commands.shard_bucket 컬럼에 저장)
+ * - 버킷 수는 운영 중 변경 불가 (저장된 값과 달라짐)
+ */
+public final class ShardBuckets {
+
+    public static final int COUNT = 1024;
+
+    private ShardBuckets() {
+    }
+
+    /**
+     * 호스트의 버킷 번호
+     *
+     * @param targetHost 대상 호스트
+     * @return 0 ~ COUNT-1
+     */
+    public static int of(String targetHost) {
+        long hash = ConsistentHashRing.hash(targetHost.toLowerCase(Locale.ROOT));
+        return (int) Math.floorMod(hash, (long) COUNT);
+    }
+
+    /**
+     * 링 위치 계산용 버킷 키
+     */
+    static String key(int bucket) {
+        return "bucket-" + bucket;
+    }
+}
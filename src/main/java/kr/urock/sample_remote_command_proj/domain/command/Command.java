@@ -1,11 +1,15 @@
 package kr.urock.sample_remote_command_proj.domain.command;
 
 import jakarta.persistence.*;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+import kr.urock.sample_remote_command_proj.domain.cluster.ShardBuckets;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * 명령어 실행 이력을 나타내는 도메인 엔티티
@@ -19,14 +23,21 @@ import java.time.LocalDateTime;
 @Table(name = "commands", indexes = {
     @Index(name = "idx_command_status", columnList = "status"),
     @Index(name = "idx_command_created_at", columnList = "created_at"),
-    @Index(name = "idx_command_target_host", columnList = "target_host")
+    @Index(name = "idx_command_target_host", columnList = "target_host"),
+    @Index(name = "idx_command_status_shard", columnList = "status, shard_bucket")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Command {
 
+    /**
+     * ID 할당 단위 - 시퀀스 1회 조회로 이만큼의 ID를 확보 (일괄 INSERT 배치 가능)
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "command_id_generator")
+    @SequenceGenerator(name = "command_id_generator", sequenceName = "commands_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "target_host", nullable = false, length = 255)
@@ -48,12 +59,44 @@ public class Command {
     @Column(name = "exit_code")
     private Integer exitCode;
 
+    // 소유자 키 (클라이언트: client:{id}, 관리자: admin, 이전 버전에서 생성된 명령어는 당시 API Key)
     @Column(name = "api_key", nullable = false, length = 255)
     private String apiKey;
 
+    /**
+     * 출력 보관 방식 (null이면 FULL)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "output_mode", length = 20)
+    private OutputCaptureMode outputMode;
+
+    /**
+     * 대상 호스트 샤드 버킷 (담당 노드 결정, null이면 모든 노드가 처리)
+     */
+    @Column(name = "shard_bucket")
+    private Integer shardBucket;
+
+    /**
+     * 실행 중인 동일 명령어와 결과 공유 허용 여부 (화이트리스트 @coalesce, null이면 false)
+     */
+    @Column(name = "coalescible")
+    private Boolean coalescible;
+
+    /**
+     * 성공 결과 캐시 기간 (화이트리스트 @ttl, null이면 캐시하지 않음)
+     */
+    @Column(name = "cache_ttl_seconds")
+    private Long cacheTtlSeconds;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 실행 노드 선점 시각 (PENDING이면서 값이 있으면 선점되어 실행 대기 중)
+     */
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
     @Column(name = "executed_at")
     private LocalDateTime executedAt;
 
@@ -67,15 +110,54 @@ public class Command {
      * 새로운 명령어 생성
      */
     public static Command create(String targetHost, String commandText, String apiKey) {
+        return create(targetHost, commandText, apiKey, OutputCaptureMode.FULL);
+    }
+
+    /**
+     * 출력 보관 방식을 지정하여 새로운 명령어 생성
+     */
+    public static Command create(String targetHost, String commandText, String apiKey, OutputCaptureMode outputMode) {
+        return create(targetHost, commandText, apiKey, outputMode, false, null);
+    }
+
+    /**
+     * 출력 보관 방식과 결과 공유/캐시 정책을 지정하여 새로운 명령어 생성
+     */
+    public static Command create(
+        String targetHost,
+        String commandText,
+        String apiKey,
+        OutputCaptureMode outputMode,
+        boolean coalescible,
+        Duration cacheTtl
+    ) {
         Command command = new Command();
         command.targetHost = targetHost;
         command.commandText = commandText;
         command.apiKey = apiKey;
+        command.outputMode = outputMode != null ? outputMode : OutputCaptureMode.FULL;
+        command.shardBucket = ShardBuckets.of(targetHost);
+        command.coalescible = coalescible;
+        command.cacheTtlSeconds = cacheTtl != null ? cacheTtl.toSeconds() : null;
         command.status = CommandStatus.PENDING;
         command.createdAt = LocalDateTime.now();
         return command;
     }
 
+    /**
+     * 실행 노드 선점 (PENDING 유지, 실행 시작 시 markAsExecuting)
+     *
+     * @throws IllegalStateException 선점되지 않은 PENDING 상태가 아닌 경우
+     */
+    public void markAsClaimed() {
+        if (this.status != CommandStatus.PENDING || this.claimedAt != null) {
+            throw new IllegalStateException(
+                String.format("Cannot claim command in %s status. Expected: unclaimed PENDING", this.status)
+            );
+        }
+        this.claimedAt = LocalDateTime.now();
+    }
+
     /**
      * 명령어 실행 시작
      *
@@ -129,18 +211,43 @@ public class Command {
         calculateDuration();
     }
 
+    /**
+     * 선점 해제 (실행을 시작하지 못한 명령어를 다시 대기열로, 실행 노드 중단 등)
+     *
+     * @throws IllegalStateException 선점된 PENDING 상태가 아닌 경우
+     */
+    public void releaseClaim() {
+        if (!isClaimed()) {
+            throw new IllegalStateException(
+                String.format("Cannot release command in %s status. Expected: claimed PENDING", this.status)
+            );
+        }
+        this.claimedAt = null;
+    }
+
     /**
      * 명령어 타임아웃
      *
      * @throws IllegalStateException EXECUTING 상태가 아닌 경우
      */
     public void markAsTimeout() {
+        markAsTimeout(null);
+    }
+
+    /**
+     * 명령어 타임아웃 (종료 전까지 수신한 출력 보관)
+     *
+     * @param partialResult 종료 전까지 수신한 출력
+     * @throws IllegalStateException EXECUTING 상태가 아닌 경우
+     */
+    public void markAsTimeout(String partialResult) {
         if (this.status != CommandStatus.EXECUTING) {
             throw new IllegalStateException(
                 String.format("Cannot timeout command in %s status. Expected: EXECUTING", this.status)
             );
         }
         this.status = CommandStatus.TIMEOUT;
+        this.result = partialResult;
         this.errorMessage = "Command execution timeout";
         this.completedAt = LocalDateTime.now();
         calculateDuration();
@@ -158,6 +265,31 @@ public class Command {
         }
     }
 
+    /**
+     * 실행 중인 동일 명령어와 결과 공유 허용 여부
+     */
+    public boolean isCoalescible() {
+        return Boolean.TRUE.equals(this.coalescible);
+    }
+
+    /**
+     * 성공 결과 캐시 기간
+     *
+     * @return 캐시 기간 (캐시 대상이 아니면 empty)
+     */
+    public Optional<Duration> getCacheTtl() {
+        return cacheTtlSeconds != null && cacheTtlSeconds > 0
+            ? Optional.of(Duration.ofSeconds(cacheTtlSeconds))
+            : Optional.empty();
+    }
+
+    /**
+     * 실행 노드에 선점되어 실행 대기 중인지 여부
+     */
+    public boolean isClaimed() {
+        return this.status == CommandStatus.PENDING && this.claimedAt != null;
+    }
+
     /**
      * 명령어 실행 완료 여부
      */
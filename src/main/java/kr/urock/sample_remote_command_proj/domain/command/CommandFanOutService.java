@@ -0,0 +1,259 @@
+package kr.urock.sample_remote_command_proj.domain.command;
+
+import kr.urock.sample_remote_command_proj.application.executor.CommandAdmissionRejectedException;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
+import kr.urock.sample_remote_command_proj.domain.client.ClientService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 명령어 팬아웃 실행 서비스
+ *
+ * 같은 명령어를 여러 호스트에 실행
+ * - 호스트마다 일반 Command 행을 생성 (호스트별 이력 유지, 디스패처/호스트 한도 그대로 적용)
+ * - 동시에 접수하는 명령어 수를 parallelism으로 제한 (완료되는 만큼 다음 호스트 접수)
+ * - 완료 여부는 DB에서 확인 (다른 노드가 실행한 명령어 포함)
+ */
+@Slf4j
+@Service
+public class CommandFanOutService {
+
+    private final CommandService commandService;
+    private final CommandRepository commandRepository;
+    private final ClientService clientService;
+    private final int defaultParallelism;
+    private final int maxParallelism;
+    private final int maxHosts;
+    private final long pollIntervalMs;
+
+    public CommandFanOutService(
+        CommandService commandService,
+        CommandRepository commandRepository,
+        ClientService clientService,
+        @Value("${app.command.fan-out.default-parallelism:20}") int defaultParallelism,
+        @Value("${app.command.fan-out.max-parallelism:200}") int maxParallelism,
+        @Value("${app.command.fan-out.max-hosts:1000}") int maxHosts,
+        @Value("${app.command.fan-out.poll-interval-ms:200}") long pollIntervalMs
+    ) {
+        this.commandService = commandService;
+        this.commandRepository = commandRepository;
+        this.clientService = clientService;
+        this.defaultParallelism = defaultParallelism;
+        this.maxParallelism = maxParallelism;
+        this.maxHosts = maxHosts;
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    /**
+     * 팬아웃 시작 (첫 묶음 접수)
+     *
+     * 검증/접수 실패는 응답 스트림을 열기 전에 예외로 전달
+     *
+     * @param commandText 명령어
+     * @param hosts 대상 호스트 목록 (hostPattern과 둘 중 하나)
+     * @param hostPattern 대상 호스트 패턴 (*, ? 와일드카드, 활성 클라이언트 대상)
+     * @param parallelism 동시 실행 수 (null이면 기본값)
+     * @param outputMode 출력 보관 방식
+     * @param apiKey API 키
+     * @return 진행 중인 팬아웃
+     */
+    public FanOut start(
+        String commandText,
+        List<String> hosts,
+        String hostPattern,
+        Integer parallelism,
+        OutputCaptureMode outputMode,
+        String apiKey
+    ) {
+        List<String> targets = resolveHosts(hosts, hostPattern);
+        int effectiveParallelism = Math.min(parallelism != null ? parallelism : defaultParallelism, maxParallelism);
+
+        FanOut fanOut = new FanOut(commandText, outputMode, apiKey, effectiveParallelism, targets);
+        submitNext(fanOut);
+        log.info("Fan-out started: {} hosts, parallelism {}: {}", targets.size(), effectiveParallelism, commandText);
+        return fanOut;
+    }
+
+    /**
+     * 모든 호스트가 완료될 때까지 진행
+     *
+     * @param fanOut 진행 중인 팬아웃
+     * @param onCompleted 호스트별 완료 콜백 (완료 순서)
+     * @param active false가 되면 남은 호스트를 접수하지 않고 중단
+     */
+    public void awaitCompletion(FanOut fanOut, Consumer<Command> onCompleted, BooleanSupplier active)
+        throws InterruptedException {
+        while (!fanOut.isDone() && active.getAsBoolean()) {
+            Thread.sleep(pollIntervalMs);
+
+            if (!fanOut.inFlight.isEmpty()) {
+                for (Command command : commandRepository.findAllById(List.copyOf(fanOut.inFlight.keySet()))) {
+                    if (command.isCompleted()) {
+                        fanOut.inFlight.remove(command.getId());
+                        fanOut.completed++;
+                        onCompleted.accept(command);
+                    }
+                }
+            }
+            if (active.getAsBoolean()) {
+                submitNext(fanOut);
+            }
+        }
+        if (!fanOut.isDone()) {
+            log.warn("Fan-out stopped: {} of {} hosts not submitted", fanOut.remaining.size(), fanOut.total);
+        }
+    }
+
+    /**
+     * 빈 자리만큼 다음 호스트 접수 (대기열이 가득 차면 다음 확인 때 재시도)
+     */
+    private void submitNext(FanOut fanOut) {
+        int slots = Math.min(fanOut.parallelism - fanOut.inFlight.size(), fanOut.remaining.size());
+        if (slots <= 0) {
+            return;
+        }
+        List<String> hosts = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            hosts.add(fanOut.remaining.pollFirst());
+        }
+        List<CommandSubmission> submissions = hosts.stream()
+            .map(host -> new CommandSubmission(host, fanOut.commandText, fanOut.outputMode))
+            .toList();
+
+        try {
+            List<Long> commandIds = commandService.executeCommands(submissions, fanOut.apiKey);
+            for (int i = 0; i < commandIds.size(); i++) {
+                fanOut.inFlight.put(commandIds.get(i), hosts.get(i));
+            }
+        } catch (CommandAdmissionRejectedException e) {
+            // 첫 묶음은 호출자에게 전달, 이후에는 다음 확인 때 재시도
+            hosts.reversed().forEach(fanOut.remaining::addFirst);
+            if (fanOut.inFlight.isEmpty() && fanOut.completed == 0) {
+                throw e;
+            }
+            log.debug("Fan-out submission deferred: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대상 호스트 결정 (활성 클라이언트만)
+     */
+    private List<String> resolveHosts(List<String> hosts, String hostPattern) {
+        boolean hasHosts = hosts != null && !hosts.isEmpty();
+        boolean hasPattern = hostPattern != null && !hostPattern.isBlank();
+        if (hasHosts == hasPattern) {
+            throw new IllegalArgumentException("Specify either hosts or hostPattern");
+        }
+
+        Map<String, String> activeHosts = clientService.getAllClients().stream()
+            .filter(ClientCredential::isActive)
+            .collect(Collectors.toMap(
+                credential -> credential.getHost().toLowerCase(Locale.ROOT),
+                ClientCredential::getHost,
+                (first, second) -> first,
+                LinkedHashMap::new
+            ));
+
+        List<String> targets;
+        if (hasHosts) {
+            Set<String> requested = new LinkedHashSet<>();
+            List<String> unknown = new ArrayList<>();
+            for (String host : hosts) {
+                String registered = activeHosts.get(host.trim().toLowerCase(Locale.ROOT));
+                if (registered == null) {
+                    unknown.add(host);
+                } else {
+                    requested.add(registered);
+                }
+            }
+            if (!unknown.isEmpty()) {
+                throw new IllegalArgumentException("Unknown or inactive hosts: " + String.join(", ", unknown));
+            }
+            targets = List.copyOf(requested);
+        } else {
+            Pattern pattern = globToPattern(hostPattern.trim());
+            targets = activeHosts.values().stream()
+                .filter(host -> pattern.matcher(host).matches())
+                .toList();
+            if (targets.isEmpty()) {
+                throw new IllegalArgumentException("No active hosts match pattern: " + hostPattern);
+            }
+        }
+
+        if (targets.size() > maxHosts) {
+            throw new IllegalArgumentException(
+                "Too many target hosts: " + targets.size() + " (max " + maxHosts + ")"
+            );
+        }
+        return targets;
+    }
+
+    private static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+    }
+
+    /**
+     * 진행 중인 팬아웃 상태 (한 요청 스레드에서만 사용)
+     */
+    public static final class FanOut {
+
+        private final String commandText;
+        private final OutputCaptureMode outputMode;
+        private final String apiKey;
+        private final int parallelism;
+        private final Deque<String> remaining;
+        private final Map<Long, String> inFlight = new LinkedHashMap<>();
+
+        @Getter
+        private final int total;
+        @Getter
+        private int completed;
+
+        private FanOut(String commandText, OutputCaptureMode outputMode, String apiKey,
+                       int parallelism, List<String> hosts) {
+            this.commandText = commandText;
+            this.outputMode = outputMode;
+            this.apiKey = apiKey;
+            this.parallelism = parallelism;
+            this.remaining = new ArrayDeque<>(hosts);
+            this.total = hosts.size();
+        }
+
+        public boolean isDone() {
+            return remaining.isEmpty() && inFlight.isEmpty();
+        }
+    }
+}
@@ -2,12 +2,15 @@ package kr.urock.sample_remote_command_proj.domain.command;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,21 +41,136 @@ public interface CommandRepository extends JpaRepository<Command, Long> {
     List<Command> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     /**
-     * 특정 상태의 오래된 명령어 조회 (타임아웃 처리용)
+     * 상태 변경용 명령어 조회 (행 잠금)
+     *
+     * 실행 시작/결과 기록과 복구 스윕이 같은 행을 동시에 변경하지 않도록 직렬화
      */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Command c WHERE c.id = :id")
+    Optional<Command> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 특정 상태의 오래된 명령어 조회 (타임아웃 처리용, 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Command c WHERE c.status = :status AND c.executedAt < :beforeTime")
     List<Command> findOldExecutingCommands(
         @Param("status") CommandStatus status,
         @Param("beforeTime") LocalDateTime beforeTime
     );
 
+    /**
+     * 선점 후 오래도록 실행을 시작하지 않은 명령어 조회 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Command c "
+        + "WHERE c.status = kr.urock.sample_remote_command_proj.domain.command.CommandStatus.PENDING "
+        + "AND c.claimedAt < :beforeTime")
+    List<Command> findStaleClaimedCommands(@Param("beforeTime") LocalDateTime beforeTime);
+
+    /**
+     * API Key의 실행 대기 명령어 선점 (작업 큐)
+     *
+     * 다른 트랜잭션이 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+     * - 여러 노드가 같은 큐를 중복 없이 병렬 처리
+     * - 트랜잭션 안에서 호출하고 같은 트랜잭션에서 선점 표시(claimed_at)해야 함
+     * - allBuckets가 false이면 담당 샤드 버킷만 (shard_bucket이 없는 이전 명령어는 모든 노드가 선점 가능)
+     * - 동시 실행 한도에 도달한 호스트(excludedHosts, 소문자)는 제외
+     */
+    @Query(
+        value = "SELECT * FROM commands WHERE status = 'PENDING' AND claimed_at IS NULL AND api_key = :apiKey "
+            + "AND (:allBuckets = true OR shard_bucket IN (:buckets) OR shard_bucket IS NULL) "
+            + "AND lower(target_host) NOT IN (:excludedHosts) "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<Command> findPendingForUpdateSkipLocked(
+        @Param("apiKey") String apiKey,
+        @Param("allBuckets") boolean allBuckets,
+        @Param("buckets") Collection<Integer> buckets,
+        @Param("excludedHosts") Collection<String> excludedHosts,
+        @Param("limit") int limit
+    );
+
+    /**
+     * API Key별 실행 대기 명령어 수 (공정 분배용)
+     */
+    @Query("SELECT c.apiKey AS apiKey, COUNT(c) AS pending FROM Command c "
+        + "WHERE c.status = kr.urock.sample_remote_command_proj.domain.command.CommandStatus.PENDING "
+        + "AND c.claimedAt IS NULL "
+        + "AND (:allBuckets = true OR c.shardBucket IN :buckets OR c.shardBucket IS NULL) "
+        + "AND lower(c.targetHost) NOT IN :excludedHosts "
+        + "GROUP BY c.apiKey")
+    List<PendingCount> countPendingByApiKey(
+        @Param("allBuckets") boolean allBuckets,
+        @Param("buckets") Collection<Integer> buckets,
+        @Param("excludedHosts") Collection<String> excludedHosts
+    );
+
+    /**
+     * 상태별 명령어 개수 조회
+     */
+    long countByStatus(CommandStatus status);
+
+    /**
+     * 선점되지 않은 상태별 명령어 개수 조회 (접수 대기열 크기)
+     */
+    long countByStatusAndClaimedAtIsNull(CommandStatus status);
+
     /**
      * 대상 호스트와 상태로 명령어 개수 조회
      */
     long countByTargetHostAndStatus(String targetHost, CommandStatus status);
 
+    /**
+     * 대상 호스트별, 상태별 명령어 개수 조회 (한 번의 GROUP BY)
+     */
+    @Query("SELECT c.targetHost AS targetHost, c.status AS status, COUNT(c) AS count FROM Command c "
+        + "WHERE c.targetHost IN :targetHosts AND c.status IN :statuses "
+        + "GROUP BY c.targetHost, c.status")
+    List<HostStatusCount> countByTargetHostsAndStatuses(
+        @Param("targetHosts") Collection<String> targetHosts,
+        @Param("statuses") Collection<CommandStatus> statuses
+    );
+
     /**
      * 대상 호스트와 상태로 명령어 조회 (페이징)
      */
     Page<Command> findByTargetHostAndStatus(String targetHost, CommandStatus status, Pageable pageable);
+
+    /**
+     * ID 시퀀스를 기존 최대 ID 이후로 맞춤
+     *
+     * IDENTITY에서 pooled 시퀀스로 전환한 기존 DB에서만 변경 (이미 앞서 있으면 변경 없음)
+     *
+     * @return 변경된 시퀀스 값 (변경이 없으면 null)
+     */
+    @Query(
+        value = "SELECT setval('commands_seq', (SELECT MAX(id) FROM commands) + :allocationSize) "
+            + "WHERE (SELECT MAX(id) FROM commands) >= (SELECT last_value FROM commands_seq)",
+        nativeQuery = true
+    )
+    Long alignIdSequence(@Param("allocationSize") int allocationSize);
+
+    /**
+     * API Key별 실행 대기 명령어 수
+     */
+    interface PendingCount {
+
+        String getApiKey();
+
+        Long getPending();
+    }
+
+    /**
+     * 대상 호스트별, 상태별 명령어 수
+     */
+    interface HostStatusCount {
+
+        String getTargetHost();
+
+        CommandStatus getStatus();
+
+        Long getCount();
+    }
 }
@@ -1,24 +1,41 @@
 package kr.urock.sample_remote_command_proj.domain.command;
 
-import kr.urock.sample_remote_command_proj.application.executor.CommandExecutor;
-import kr.urock.sample_remote_command_proj.application.executor.dto.CommandRequest;
+import kr.urock.sample_remote_command_proj.application.executor.CommandAdmissionController;
+import kr.urock.sample_remote_command_proj.application.executor.CommandExecutionStartedEvent;
 import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+import kr.urock.sample_remote_command_proj.application.stream.CommandStreamRegistry;
+import kr.urock.sample_remote_command_proj.application.validator.CommandPolicy;
 import kr.urock.sample_remote_command_proj.application.validator.CommandValidator;
 import kr.urock.sample_remote_command_proj.application.validator.ValidationResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
 /**
  * 명령어 도메인 서비스
  *
  * 명령어 실행의 오케스트레이션 담당
  * - 명령어 검증
- * - 명령어 실행 요청
- * - 명령어 상태 관리
+ * - 대기열 용량 확인 (초과 시 저장 전에 거부)
+ * - 작업 큐 등록 (PENDING 저장) 및 선점
+ * - 명령어 상태 관리 (실행 시작, 결과, 타임아웃 복구)
  * - 명령어 이력 조회
  */
 @Slf4j
@@ -29,7 +46,9 @@ public class CommandService {
 
     private final CommandRepository commandRepository;
     private final CommandValidator commandValidator;
-    private final CommandExecutor commandExecutor;
+    private final CommandAdmissionController commandAdmissionController;
+    private final CommandStreamRegistry commandStreamRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 명령어 실행 요청
@@ -41,6 +60,20 @@ public class CommandService {
      */
     @Transactional
     public Long executeCommand(String targetHost, String commandText, String apiKey) {
+        return executeCommand(targetHost, commandText, apiKey, OutputCaptureMode.FULL);
+    }
+
+    /**
+     * 명령어 실행 요청 (출력 보관 방식 지정)
+     *
+     * @param targetHost 대상 호스트
+     * @param commandText 명령어
+     * @param apiKey API 키
+     * @param outputMode 출력 보관 방식 (FULL / HEAD_TAIL)
+     * @return 생성된 Command ID
+     */
+    @Transactional
+    public Long executeCommand(String targetHost, String commandText, String apiKey, OutputCaptureMode outputMode) {
         // 1. 명령어 검증
         ValidationResult validationResult = commandValidator.validate(commandText);
         if (!validationResult.isValid()) {
@@ -49,25 +82,93 @@ public class CommandService {
             );
         }
 
-        // 2. Command 엔티티 생성 및 저장
-        Command command = Command.create(targetHost, commandText, apiKey);
+        // 2. 대기열 용량 확인 (초과 시 저장하지 않고 429)
+        commandAdmissionController.admit();
+
+        // 3. Command 엔티티 생성 및 저장 (작업 큐 등록)
+        CommandPolicy policy = validationResult.getPolicy();
+        Command command = Command.create(
+            targetHost, commandText, apiKey, outputMode, policy.isCoalesce(), policy.getCacheTtl()
+        );
         command = commandRepository.save(command);
         log.info("Command created [id={}]: {}", command.getId(), commandText);
+        commandStreamRegistry.publishStatus(command.getId(), CommandStatus.PENDING);
 
-        // 3. 비동기 실행
+        // 4. 커밋 후 디스패처가 선점하여 실행
         final Long commandId = command.getId();
-        CommandRequest request = CommandRequest.of(commandId, targetHost, commandText, apiKey);
-
-        commandExecutor.execute(request)
-            .thenAccept(result -> handleCommandResult(result))
-            .exceptionally(throwable -> {
-                handleCommandFailure(commandId, throwable.getMessage());
-                return null;
-            });
+        eventPublisher.publishEvent(new CommandSubmittedEvent(commandId));
 
         return commandId;
     }
 
+    /**
+     * 명령어 일괄 실행 요청
+     *
+     * 전체를 검증/접수한 뒤 한 트랜잭션에서 저장 (하나라도 실패하면 모두 거부)
+     * - 같은 명령어 문자열은 한 번만 검증
+     * - pooled 시퀀스 ID + JDBC 배치 INSERT
+     * - 디스패처는 커밋 후 한 번만 깨움
+     *
+     * @param submissions 명령어 목록
+     * @param apiKey API 키
+     * @return 생성된 Command ID 목록 (요청 순서)
+     */
+    @Transactional
+    public List<Long> executeCommands(List<CommandSubmission> submissions, String apiKey) {
+        // 1. 명령어 검증
+        Map<String, ValidationResult> validations = new HashMap<>();
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < submissions.size(); i++) {
+            String commandText = submissions.get(i).commandText();
+            ValidationResult result = validations.computeIfAbsent(commandText, commandValidator::validate);
+            if (!result.isValid()) {
+                failures.add("[" + i + "] " + result.getReason());
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new IllegalArgumentException("Command validation failed: " + String.join(", ", failures));
+        }
+
+        // 2. 대기열 용량 확인 (초과 시 저장하지 않고 429)
+        commandAdmissionController.admit(submissions.size());
+
+        // 3. 일괄 저장 (작업 큐 등록)
+        List<Command> commands = commandRepository.saveAll(submissions.stream()
+            .map(submission -> {
+                CommandPolicy policy = validations.get(submission.commandText()).getPolicy();
+                return Command.create(
+                    submission.targetHost(),
+                    submission.commandText(),
+                    apiKey,
+                    submission.outputMode(),
+                    policy.isCoalesce(),
+                    policy.getCacheTtl()
+                );
+            })
+            .toList());
+        List<Long> commandIds = commands.stream().map(Command::getId).toList();
+        log.info("Commands created [count={}, ids={}..{}]",
+            commandIds.size(), commandIds.get(0), commandIds.get(commandIds.size() - 1));
+        commandIds.forEach(commandId -> commandStreamRegistry.publishStatus(commandId, CommandStatus.PENDING));
+
+        // 4. 커밋 후 디스패처가 선점하여 실행
+        eventPublisher.publishEvent(new CommandSubmittedEvent(commandIds.get(0), commandIds.size()));
+
+        return commandIds;
+    }
+
+    /**
+     * 기존 DB의 ID 시퀀스 보정 (IDENTITY → pooled 시퀀스 전환)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void alignIdSequence() {
+        Long aligned = commandRepository.alignIdSequence(Command.ID_ALLOCATION_SIZE);
+        if (aligned != null) {
+            log.info("Command ID sequence aligned to {}", aligned);
+        }
+    }
+
     /**
      * 명령어 조회
      *
@@ -101,9 +202,9 @@ public class CommandService {
     }
 
     /**
-     * API Key로 명령어 조회
+     * 소유자 키로 명령어 조회
      *
-     * @param apiKey API 키
+     * @param apiKey 명령어 소유자 키 (ClientCredential.ownerKey 또는 admin)
      * @param pageable 페이징 정보
      * @return 명령어 목록
      */
@@ -134,6 +235,113 @@ public class CommandService {
         return commandRepository.findByTargetHostAndStatus(targetHost, status, pageable);
     }
 
+    /**
+     * 실행 대기 명령어 선점
+     *
+     * 선점되지 않은 PENDING 명령어를 잠그고(SKIP LOCKED) 선점 표시하여 이 노드에 할당
+     * - API Key별 할당량만큼 오래된 순으로 선점
+     * - hostPermit이 거부한 명령어는 선점하지 않음 (커밋 시 잠금 해제)
+     * - 커밋 시점에 잠금이 풀리므로 다른 노드는 이미 선점된 행을 보지 못함
+     * - EXECUTING과 실행 시작 시각은 실제 실행 시작 시 기록 (handleExecutionStarted)
+     *
+     * @param quotas API Key → 선점 개수
+     * @param buckets 이 노드가 담당하는 샤드 버킷 (null이면 전체)
+     * @param excludedHosts 제외할 호스트 (소문자)
+     * @param hostPermit 호스트 동시 실행 허가
+     * @return 선점한 명령어 목록
+     */
+    @Transactional
+    public List<Command> claimPendingCommands(
+        Map<String, Integer> quotas,
+        Collection<Integer> buckets,
+        Collection<String> excludedHosts,
+        Predicate<Command> hostPermit
+    ) {
+        List<Command> claimed = new ArrayList<>();
+        quotas.forEach((apiKey, quota) -> {
+            if (quota > 0) {
+                List<Command> candidates = commandRepository.findPendingForUpdateSkipLocked(
+                    apiKey, buckets == null, bucketsOrPlaceholder(buckets), hostsOrPlaceholder(excludedHosts), quota
+                );
+                for (Command command : candidates) {
+                    if (hostPermit.test(command)) {
+                        command.markAsClaimed();
+                        claimed.add(command);
+                    }
+                }
+            }
+        });
+        return commandRepository.saveAll(claimed);
+    }
+
+    /**
+     * API Key별 실행 대기 명령어 수
+     *
+     * @param buckets 이 노드가 담당하는 샤드 버킷 (null이면 전체)
+     * @param excludedHosts 제외할 호스트 (소문자)
+     * @return API Key → 대기 명령어 수
+     */
+    public Map<String, Long> countPendingByApiKey(Collection<Integer> buckets, Collection<String> excludedHosts) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        commandRepository.countPendingByApiKey(buckets == null, bucketsOrPlaceholder(buckets), hostsOrPlaceholder(excludedHosts))
+            .forEach(count -> counts.put(count.getApiKey(), count.getPending()));
+        return counts;
+    }
+
+    /**
+     * 대상 호스트별 상태별 명령어 수 (한 번의 조회)
+     *
+     * @param targetHosts 대상 호스트
+     * @param statuses 상태
+     * @return 대상 호스트 → 상태 → 명령어 수 (명령어가 없는 조합은 포함하지 않음)
+     */
+    public Map<String, Map<CommandStatus, Long>> countByTargetHostAndStatus(
+        Collection<String> targetHosts,
+        Collection<CommandStatus> statuses
+    ) {
+        Map<String, Map<CommandStatus, Long>> counts = new HashMap<>();
+        if (targetHosts.isEmpty() || statuses.isEmpty()) {
+            return counts;
+        }
+        commandRepository.countByTargetHostsAndStatuses(targetHosts, statuses).forEach(count ->
+            counts.computeIfAbsent(count.getTargetHost(), host -> new EnumMap<>(CommandStatus.class))
+                .put(count.getStatus(), count.getCount()));
+        return counts;
+    }
+
+    /**
+     * 실행 대기 명령어 수 (선점되지 않은 명령어)
+     */
+    public long countPendingCommands() {
+        return commandRepository.countByStatusAndClaimedAtIsNull(CommandStatus.PENDING);
+    }
+
+    /**
+     * 명령어 실행 시작 기록
+     *
+     * 실행기가 원격 실행 직전에 발행한 이벤트로 EXECUTING 상태와 시작 시각 기록
+     * - 시작 시각은 타임아웃 복구 스윕의 기준이 됨
+     * - 선점된 PENDING 상태만 시작 (선점 해제로 대기열에 돌아갔거나 이미 시작/완료된 명령어는 예외 발생)
+     *
+     * @param event 실행 시작 이벤트
+     * @throws IllegalStateException 명령어가 없거나 선점된 PENDING 상태가 아닌 경우
+     */
+    @EventListener
+    @Transactional
+    public void handleExecutionStarted(CommandExecutionStartedEvent event) {
+        Command command = commandRepository.findByIdForUpdate(event.getCommandId())
+            .orElseThrow(() -> new IllegalStateException("Command not found: " + event.getCommandId()));
+        if (!command.isClaimed()) {
+            throw new IllegalStateException(
+                String.format("Command [id=%d] is %s%s, not starting", command.getId(), command.getStatus(),
+                    command.getStatus() == CommandStatus.PENDING ? " (claim released)" : "")
+            );
+        }
+        command.markAsExecuting();
+        commandRepository.save(command);
+        commandStreamRegistry.start(command.getId());
+    }
+
     /**
      * 명령어 실행 결과 처리
      *
@@ -141,30 +349,89 @@ public class CommandService {
      */
     @Transactional
     public void handleCommandResult(CommandResult result) {
-        Command command = commandRepository.findById(result.getCommandId())
+        Command command = commandRepository.findByIdForUpdate(result.getCommandId())
             .orElseThrow(() -> new IllegalStateException(
                 "Command not found: " + result.getCommandId()
             ));
 
-        // 실행 중으로 상태 변경
+        // 실행 시작이 거부된 경우 (선점 해제 등): 상태를 바꾸지 않음
+        if (result.isNotStarted()) {
+            log.warn("Command [id={}] was not started ({}), leaving it {}",
+                command.getId(), result.getErrorMessage(), command.getStatus());
+            return;
+        }
+
+        // 복구 스윕 등으로 이미 완료 처리된 경우 결과를 덮어쓰지 않음
+        if (command.isCompleted()) {
+            log.warn("Command [id={}] already {}, ignoring late result (success={})",
+                command.getId(), command.getStatus(), result.isSuccess());
+            return;
+        }
+
+        // 실행 중으로 상태 변경 (캐시 응답, 공유 결과는 실행 시작 이벤트 없음)
         if (command.getStatus() == CommandStatus.PENDING) {
             command.markAsExecuting();
         }
 
         // 결과에 따라 상태 업데이트
         if (result.isSuccess()) {
-            String fullOutput = result.getOutput();
-            if (result.getErrorOutput() != null && !result.getErrorOutput().isEmpty()) {
-                fullOutput += "\n[STDERR]\n" + result.getErrorOutput();
-            }
-            command.markAsSuccess(fullOutput, result.getExitCode());
+            command.markAsSuccess(mergeOutput(result), result.getExitCode());
             log.info("Command [id={}] completed successfully", command.getId());
+        } else if (result.isTimedOut()) {
+            command.markAsTimeout(mergeOutput(result));
+            log.warn("Command [id={}] timed out", command.getId());
         } else {
             command.markAsFailed(result.getErrorMessage());
             log.error("Command [id={}] failed: {}", command.getId(), result.getErrorMessage());
         }
 
         commandRepository.save(command);
+        commandStreamRegistry.complete(command.getId(), command.getStatus());
+    }
+
+    /**
+     * 실행이 중단된 명령어 복구 (타임아웃 처리)
+     *
+     * 기준 시각 이전에 시작되어 아직 EXECUTING인 명령어를 TIMEOUT으로 변경
+     * - 서버 재시작 등으로 결과를 기록하지 못한 명령어 정리용
+     *
+     * @param beforeTime 실행 시작 기준 시각
+     * @return 복구된 명령어 수
+     */
+    @Transactional
+    public int recoverStaleExecutions(LocalDateTime beforeTime) {
+        List<Command> staleCommands = commandRepository.findOldExecutingCommands(CommandStatus.EXECUTING, beforeTime);
+        for (Command command : staleCommands) {
+            command.markAsTimeout();
+            commandStreamRegistry.complete(command.getId(), command.getStatus());
+            log.warn("Command [id={}] left in EXECUTING since {}. Marked as TIMEOUT.",
+                command.getId(), command.getExecutedAt());
+        }
+        commandRepository.saveAll(staleCommands);
+        return staleCommands.size();
+    }
+
+    /**
+     * 선점 후 실행을 시작하지 못한 명령어 복구 (대기열로 되돌림)
+     *
+     * 기준 시각 이전에 선점되어 아직 PENDING인 명령어의 선점을 해제
+     * - 선점한 노드가 재시작 등으로 사라진 명령어 정리용
+     * - PENDING을 유지하므로 디스패처가 다시 선점하여 실행
+     * - 원래 노드가 뒤늦게 실행을 시작하려 하면 선점 상태가 아니므로 거부됨 (다시 선점된 경우 먼저 시작한 쪽만 실행)
+     *
+     * @param beforeTime 선점 기준 시각
+     * @return 복구된 명령어 수
+     */
+    @Transactional
+    public int recoverStaleClaims(LocalDateTime beforeTime) {
+        List<Command> staleCommands = commandRepository.findStaleClaimedCommands(beforeTime);
+        for (Command command : staleCommands) {
+            log.warn("Command [id={}] claimed at {} but never started. Returned to the queue.",
+                command.getId(), command.getClaimedAt());
+            command.releaseClaim();
+        }
+        commandRepository.saveAll(staleCommands);
+        return staleCommands.size();
     }
 
     /**
@@ -175,15 +442,47 @@ public class CommandService {
      */
     @Transactional
     public void handleCommandFailure(Long commandId, String errorMessage) {
-        Command command = commandRepository.findById(commandId)
+        Command command = commandRepository.findByIdForUpdate(commandId)
             .orElseThrow(() -> new IllegalStateException("Command not found: " + commandId));
 
+        if (command.isCompleted()) {
+            log.warn("Command [id={}] already {}, ignoring late failure: {}",
+                commandId, command.getStatus(), errorMessage);
+            return;
+        }
+
         if (command.getStatus() == CommandStatus.PENDING) {
             command.markAsExecuting();
         }
 
         command.markAsFailed(errorMessage);
         commandRepository.save(command);
+        commandStreamRegistry.complete(commandId, command.getStatus());
         log.error("Command [id={}] failed: {}", commandId, errorMessage);
     }
+
+    /**
+     * stdout/stderr 병합 (내부 메서드)
+     */
+    private String mergeOutput(CommandResult result) {
+        String fullOutput = result.getOutput();
+        if (result.getErrorOutput() != null && !result.getErrorOutput().isEmpty()) {
+            fullOutput += "\n[STDERR]\n" + result.getErrorOutput();
+        }
+        return fullOutput;
+    }
+
+    /**
+     * 빈 IN 절 방지 (전체 버킷 조회 시 사용되지 않는 값)
+     */
+    private static Collection<Integer> bucketsOrPlaceholder(Collection<Integer> buckets) {
+        return buckets == null || buckets.isEmpty() ? List.of(-1) : buckets;
+    }
+
+    /**
+     * 빈 NOT IN 절 방지 (호스트로 사용되지 않는 값)
+     */
+    private static Collection<String> hostsOrPlaceholder(Collection<String> hosts) {
+        return hosts == null || hosts.isEmpty() ? List.of("") : hosts;
+    }
 }
@@ -0,0 +1,13 @@
+package kr.urock.sample_remote_command_proj.domain.command;
+
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+
+/**
+ * 일괄 접수할 명령어 1건
+ *
+ * @param targetHost 대상 호스트
+ * @param commandText 명령어
+ * @param outputMode 출력 보관 방식 (null이면 FULL)
+ */
+public record CommandSubmission(String targetHost, String commandText, OutputCaptureMode outputMode) {
+}
@@ -0,0 +1,23 @@
+package kr.urock.sample_remote_command_proj.domain.command;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 명령어 접수 이벤트
+ *
+ * PENDING 명령어가 저장된 트랜잭션 안에서 발행
+ * - 커밋 후 디스패처가 즉시 작업 큐를 확인하도록 깨우는 용도
+ * - 일괄 접수는 첫 명령어 ID와 건수로 한 번만 발행
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommandSubmittedEvent {
+
+    private final Long commandId;
+    private final int count;
+
+    public CommandSubmittedEvent(Long commandId) {
+        this(commandId, 1);
+    }
+}
@@ -0,0 +1,55 @@
+package kr.urock.sample_remote_command_proj.domain.command;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * EXECUTING 상태 또는 선점 상태로 남은 명령어 정리
+ *
+ * 정상 실행은 워치독이 제한 시간에 종료하므로 결과가 기록됨
+ * - 실행 시작 후 제한 시간 + 유예 시간이 지나도 EXECUTING이면 실행 스레드가 사라진 것으로 판단 (서버 재시작 등)
+ * - 해당 명령어를 TIMEOUT으로 변경
+ * - 선점 후 claim-timeout-seconds가 지나도 실행을 시작하지 않은 명령어는 선점 해제 (PENDING으로 다시 실행)
+ */
+@Slf4j
+@Component
+public class CommandTimeoutSweeper {
+
+    private final CommandService commandService;
+    private final long staleAfterSeconds;
+    private final long claimTimeoutSeconds;
+
+    public CommandTimeoutSweeper(
+        CommandService commandService,
+        @Value("${app.ssh.timeout-seconds}") int timeoutSeconds,
+        @Value("${app.command.timeout-sweep.grace-seconds:60}") long graceSeconds,
+        @Value("${app.command.timeout-sweep.claim-timeout-seconds:900}") long claimTimeoutSeconds
+    ) {
+        this.commandService = commandService;
+        this.staleAfterSeconds = timeoutSeconds + graceSeconds;
+        this.claimTimeoutSeconds = claimTimeoutSeconds;
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.command.timeout-sweep.initial-delay-ms:10000}",
+        fixedDelayString = "${app.command.timeout-sweep.interval-ms:60000}"
+    )
+    public void sweep() {
+        try {
+            int recovered = commandService.recoverStaleExecutions(LocalDateTime.now().minusSeconds(staleAfterSeconds));
+            if (recovered > 0) {
+                log.warn("Recovered {} stale EXECUTING command(s) as TIMEOUT", recovered);
+            }
+            int requeued = commandService.recoverStaleClaims(LocalDateTime.now().minusSeconds(claimTimeoutSeconds));
+            if (requeued > 0) {
+                log.warn("Returned {} claimed but never started command(s) to the queue", requeued);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sweep stale commands: {}", e.getMessage());
+        }
+    }
+}
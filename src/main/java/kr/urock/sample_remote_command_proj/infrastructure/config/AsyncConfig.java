@@ -1,6 +1,11 @@
 package kr.urock.sample_remote_command_proj.infrastructure.config;
 
+import kr.urock.sample_remote_command_proj.infrastructure.util.BoundedVirtualThreadExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -10,33 +15,71 @@ import java.util.concurrent.Executor;
 /**
  * 비동기 실행 설정
  *
- * 명령어 실행을 비동기로 처리하기 위한 Thread Pool 설정
+ * 명령어 실행을 비동기로 처리하기 위한 실행기 설정
+ * - commandTaskExecutor: 명령어 실행 시도 전용 (SshCommandExecutor가 직접 제출)
+ * - app.executor.mode=platform: 고정 크기 Thread Pool
+ * - app.executor.mode=virtual: 작업마다 가상 스레드, 동시 실행 수는 Semaphore로 제한
  */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
-    @Override
-    public Executor getAsyncExecutor() {
+    public static final String COMMAND_TASK_EXECUTOR = "commandTaskExecutor";
+
+    @Value("${app.executor.mode:platform}")
+    private String mode;
+
+    @Value("${app.executor.platform.core-pool-size:5}")
+    private int corePoolSize;
+
+    @Value("${app.executor.platform.max-pool-size:10}")
+    private int maxPoolSize;
+
+    @Value("${app.executor.platform.queue-capacity:25}")
+    private int queueCapacity;
+
+    @Value("${app.executor.virtual.max-concurrency:1000}")
+    private int virtualMaxConcurrency;
+
+    @Value("${app.executor.await-termination-seconds:60}")
+    private int awaitTerminationSeconds;
+
+    @Bean(name = COMMAND_TASK_EXECUTOR)
+    public TaskExecutor commandTaskExecutor() {
+        if ("virtual".equalsIgnoreCase(mode)) {
+            log.info("Command executor mode: virtual (max concurrency {})", virtualMaxConcurrency);
+            return new BoundedVirtualThreadExecutor("CommandExecutor-", virtualMaxConcurrency, awaitTerminationSeconds);
+        }
+        if (!"platform".equalsIgnoreCase(mode)) {
+            throw new IllegalArgumentException("Unknown app.executor.mode: " + mode + " (platform | virtual)");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // 코어 스레드 수
-        executor.setCorePoolSize(5);
+        executor.setCorePoolSize(corePoolSize);
 
         // 최대 스레드 수
-        executor.setMaxPoolSize(10);
+        executor.setMaxPoolSize(maxPoolSize);
 
         // 큐 용량
-        executor.setQueueCapacity(25);
+        executor.setQueueCapacity(queueCapacity);
 
         // 스레드 이름 접두사
         executor.setThreadNamePrefix("CommandExecutor-");
 
         // 종료 대기
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
 
-        executor.initialize();
+        log.info("Command executor mode: platform (core {}, max {}, queue {})",
+            corePoolSize, maxPoolSize, queueCapacity);
         return executor;
     }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return commandTaskExecutor();
+    }
 }
@@ -0,0 +1,177 @@
+package kr.urock.sample_remote_command_proj.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 클라이언트 액세스 토큰 발급/검증
+ *
+ * API Key로 인증된 클라이언트에게 짧은 수명의 HMAC-SHA256 서명 토큰 발급
+ * - 형식: v1.{Base64URL(kid:clientId:role:epoch:exp)}.{Base64URL(서명)}
+ * - 검증은 서명/만료/토큰 세대 확인만 수행 (DB 조회 없음)
+ * - 키 교체: 서명은 active-key-id, 검증은 설정된 모든 키 허용
+ * - 폐기: API Key 재발급/비활성화 시 클라이언트 토큰 세대 증가 (커밋 후 ApiKeyIndex에 반영)
+ * - Mac은 호출마다 생성 (가상 스레드에서 스레드별 캐시는 재사용되지 않음)
+ */
+@Slf4j
+@Component
+public class AccessTokenService {
+
+    public static final String ROLE_CLIENT = "CLIENT";
+
+    private static final String VERSION = "v1";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final String DEFAULT_KEY_ID = "default";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ApiKeyIndex apiKeyIndex;
+    private final Duration ttl;
+    private final Map<String, SecretKeySpec> signingKeys;
+    private final String activeKeyId;
+
+    public AccessTokenService(
+        ApiKeyIndex apiKeyIndex,
+        @Value("${app.security.token.ttl-seconds:900}") long ttlSeconds,
+        @Value("${app.security.token.signing-keys:}") String signingKeys,
+        @Value("${app.security.token.active-key-id:}") String activeKeyId,
+        @Value("${app.encryption.secret-key}") String encryptionSecretKey
+    ) {
+        this.apiKeyIndex = apiKeyIndex;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.signingKeys = parseSigningKeys(signingKeys, encryptionSecretKey);
+        this.activeKeyId = activeKeyId.isBlank() ? this.signingKeys.keySet().iterator().next() : activeKeyId;
+        if (!this.signingKeys.containsKey(this.activeKeyId)) {
+            throw new IllegalStateException("Active token signing key not configured: " + this.activeKeyId);
+        }
+        log.info("Access token signing keys: {} (active: {})", this.signingKeys.keySet(), this.activeKeyId);
+    }
+
+    /**
+     * API Key로 인증된 클라이언트의 액세스 토큰 발급
+     *
+     * @param clientId 인증된 클라이언트 ID
+     * @return 발급된 토큰
+     * @throws IllegalStateException 비활성/미등록 클라이언트
+     */
+    public IssuedToken issue(Long clientId) {
+        ApiKeyIndex.Entry client = apiKeyIndex.findActiveByClientId(clientId)
+            .orElseThrow(() -> new IllegalStateException("Client is not active"));
+
+        Instant expiresAt = Instant.now().plus(ttl);
+        String payload = String.join(":",
+            activeKeyId,
+            String.valueOf(client.clientId()),
+            ROLE_CLIENT,
+            String.valueOf(client.tokenEpoch()),
+            String.valueOf(expiresAt.getEpochSecond())
+        );
+        String signingInput = VERSION + "." + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        String token = signingInput + "." + ENCODER.encodeToString(sign(activeKeyId, signingInput));
+        return new IssuedToken(token, ttl.toSeconds(), expiresAt);
+    }
+
+    /**
+     * 토큰 검증
+     *
+     * @param token Authorization 헤더의 Bearer 토큰
+     * @return 토큰의 클라이언트 (서명/만료/세대 불일치, 비활성 클라이언트면 empty)
+     */
+    public Optional<ApiKeyIndex.Entry> verify(String token) {
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        if (first < 0 || first == last || !VERSION.equals(token.substring(0, first))) {
+            return Optional.empty();
+        }
+
+        try {
+            String signingInput = token.substring(0, last);
+            String[] claims = new String(DECODER.decode(token.substring(first + 1, last)), StandardCharsets.UTF_8)
+                .split(":");
+            if (claims.length != 5 || !signingKeys.containsKey(claims[0]) || !ROLE_CLIENT.equals(claims[2])) {
+                return Optional.empty();
+            }
+            byte[] signature = DECODER.decode(token.substring(last + 1));
+            if (!MessageDigest.isEqual(signature, sign(claims[0], signingInput))) {
+                return Optional.empty();
+            }
+            if (Instant.now().getEpochSecond() >= Long.parseLong(claims[4])) {
+                return Optional.empty();
+            }
+
+            int epoch = Integer.parseInt(claims[3]);
+            return apiKeyIndex.findActiveByClientId(Long.valueOf(claims[1]))
+                .filter(client -> client.tokenEpoch() == epoch);
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 형식 오류
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String keyId, String signingInput) {
+        return newMac(keyId).doFinal(signingInput.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac(String keyId) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(signingKeys.get(keyId));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize token signing key: " + keyId, e);
+        }
+    }
+
+    /**
+     * 서명 키 파싱 ("kid:secret,kid:secret")
+     *
+     * 설정이 없으면 암호화 키에서 유도한 키 사용 (모든 노드에서 동일)
+     */
+    private static Map<String, SecretKeySpec> parseSigningKeys(String signingKeys, String encryptionSecretKey) {
+        Map<String, SecretKeySpec> keys = new LinkedHashMap<>();
+        for (String entry : signingKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new IllegalStateException("Invalid token signing key entry (expected kid:secret)");
+            }
+            String keyId = entry.substring(0, separator).trim();
+            byte[] secret = entry.substring(separator + 1).trim().getBytes(StandardCharsets.UTF_8);
+            keys.put(keyId, new SecretKeySpec(secret, MAC_ALGORITHM));
+        }
+
+        if (keys.isEmpty()) {
+            try {
+                Mac mac = Mac.getInstance(MAC_ALGORITHM);
+                mac.init(new SecretKeySpec(encryptionSecretKey.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM));
+                byte[] derived = mac.doFinal("access-token-signing".getBytes(StandardCharsets.UTF_8));
+                keys.put(DEFAULT_KEY_ID, new SecretKeySpec(derived, MAC_ALGORITHM));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to derive token signing key", e);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 발급된 토큰
+     */
+    public record IssuedToken(String token, long expiresInSeconds, Instant expiresAt) {
+    }
+}
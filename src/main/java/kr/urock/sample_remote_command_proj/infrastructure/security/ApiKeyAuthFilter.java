@@ -5,9 +5,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import kr.urock.sample_remote_command_proj.domain.admin.AdminKeyService;
-import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialRepository;
+import kr.urock.sample_remote_command_proj.infrastructure.util.TokenBucket;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,7 +23,10 @@ import java.util.Collections;
  *
  * HTTP 헤더에서 API Key를 추출하여 인증 처리
  * - X-Admin-Key: 관리자 API Key
- * - X-API-Key: 클라이언트 API Key
+ * - Authorization: Bearer 클라이언트 액세스 토큰 (서명 검증만, DB 조회 없음)
+ * - X-API-Key: 클라이언트 API Key (DB 조회 없이 ApiKeyIndex에서 확인)
+ * - 인증 후 클라이언트별 요청 속도 제한 (초과 시 429 + Retry-After)
+ * - 클라이언트 principal은 클라이언트 ID (평문 API Key를 메모리에 보관하지 않음)
  */
 @Slf4j
 @Component
@@ -31,9 +35,14 @@ public class ApiKeyAuthFilter extends OncePerRequestFilter {
 
     private static final String ADMIN_KEY_HEADER = "X-Admin-Key";
     private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String TOKEN_PATH = "/api/clients/token";
+    private static final int SC_TOO_MANY_REQUESTS = 429;
 
-    private final ClientCredentialRepository clientCredentialRepository;
+    private final ApiKeyIndex apiKeyIndex;
+    private final AccessTokenService accessTokenService;
     private final AdminKeyService adminKeyService;
+    private final ApiRateLimiter rateLimiter;
 
     @Override
     protected void doFilterInternal(
@@ -57,6 +66,9 @@ public class ApiKeyAuthFilter extends OncePerRequestFilter {
         String adminKey = request.getHeader(ADMIN_KEY_HEADER);
         if (adminKey != null) {
             if (adminKeyService.validateAdminKey(adminKey)) {
+                if (rateLimiter.isEnabled() && !applyRateLimit(rateLimiter.tryConsumeAdmin(), request, response)) {
+                    return;
+                }
                 authenticateAsAdmin();
                 filterChain.doFilter(request, response);
                 return;
@@ -68,13 +80,28 @@ public class ApiKeyAuthFilter extends OncePerRequestFilter {
             }
         }
 
+        // Client 액세스 토큰 인증 (토큰 발급은 API Key로만 가능)
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)
+            && !requestPath.equals(TOKEN_PATH)) {
+            var client = accessTokenService.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+            if (client.isPresent()) {
+                authenticateClient(client.get(), request, response, filterChain);
+                return;
+            } else {
+                log.warn("Invalid access token attempt from IP: {}", request.getRemoteAddr());
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                response.getWriter().write("{\"error\": \"Invalid, expired or revoked access token\"}");
+                return;
+            }
+        }
+
         // Client API 인증
         String clientKey = request.getHeader(API_KEY_HEADER);
         if (clientKey != null) {
-            var client = clientCredentialRepository.findByApiKey(clientKey);
-            if (client.isPresent() && client.get().isActive()) {
-                authenticateAsClient(clientKey);
-                filterChain.doFilter(request, response);
+            var client = apiKeyIndex.findActive(clientKey);
+            if (client.isPresent()) {
+                authenticateClient(client.get(), request, response, filterChain);
                 return;
             } else {
                 log.warn("Invalid client API key attempt from IP: {}", request.getRemoteAddr());
@@ -90,6 +117,54 @@ public class ApiKeyAuthFilter extends OncePerRequestFilter {
         response.getWriter().write("{\"error\": \"API key required\"}");
     }
 
+    /**
+     * 클라이언트 요청 처리 (요청 속도 제한 후 인증, principal은 클라이언트 ID)
+     */
+    private void authenticateClient(
+        ApiKeyIndex.Entry client,
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (rateLimiter.isEnabled()) {
+            var probe = rateLimiter.tryConsume(client.clientId(), client.rateLimitPerSecond(), client.rateLimitBurst());
+            if (!applyRateLimit(probe, request, response)) {
+                return;
+            }
+        }
+        authenticateAsClient(client.clientId());
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 요청 속도 제한 적용
+     *
+     * 제한 헤더를 항상 추가하고, 초과 시 429 응답
+     *
+     * @return 요청을 계속 처리할 수 있으면 true
+     */
+    private boolean applyRateLimit(
+        TokenBucket.Probe probe,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        response.setHeader("X-RateLimit-Limit", String.valueOf(probe.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.remaining()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(probe.resetSeconds()));
+        if (probe.allowed()) {
+            return true;
+        }
+
+        log.warn("Rate limit exceeded: {} {} from IP: {}",
+            request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        response.setStatus(SC_TOO_MANY_REQUESTS);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(probe.retryAfterSeconds()));
+        response.getWriter().write(
+            "{\"error\": \"Rate limit exceeded\", \"retryAfterSeconds\": " + probe.retryAfterSeconds() + "}"
+        );
+        return false;
+    }
+
     /**
      * 관리자로 인증
      */
@@ -107,14 +182,14 @@ public class ApiKeyAuthFilter extends OncePerRequestFilter {
     /**
      * 클라이언트로 인증
      */
-    private void authenticateAsClient(String apiKey) {
+    private void authenticateAsClient(Long clientId) {
         var authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_CLIENT"));
         var authentication = new UsernamePasswordAuthenticationToken(
-            apiKey,
+            String.valueOf(clientId),
             null,
             authorities
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        log.debug("Authenticated as client with API key: {}", apiKey.substring(0, 10) + "...");
+        log.debug("Authenticated as client [id={}]", clientId);
     }
 }
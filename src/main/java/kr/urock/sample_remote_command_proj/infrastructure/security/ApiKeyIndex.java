@@ -0,0 +1,185 @@
+package kr.urock.sample_remote_command_proj.infrastructure.security;
+
+import jakarta.annotation.PostConstruct;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialChangedEvent;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트 API Key 인메모리 인덱스
+ *
+ * 요청마다 DB를 조회하지 않도록 API Key 해시(SHA-256) → 클라이언트 정보를 보관 (평문 키는 보관하지 않음)
+ * - 시작 시 전체 적재, 클라이언트 변경은 커밋 후 DB에서 다시 읽어 반영 (롤백된 변경은 반영되지 않음)
+ * - 다른 노드의 변경은 주기적 재동기화로 반영 (reconcile)
+ * - 요청의 키는 해시로 조회 후 저장된 해시와 상수 시간 비교 (MessageDigest.isEqual, 원문 키는 비교하지 않음)
+ * - 액세스 토큰 검증용 클라이언트 ID 조회 (토큰 세대 포함)
+ * - 조회는 락 없음, 변경/재동기화 적용만 직렬화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyIndex {
+
+    private final ClientCredentialRepository clientCredentialRepository;
+
+    private final ConcurrentMap<String, Entry> entriesByHash = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String> hashesByClientId = new ConcurrentHashMap<>();
+
+    // 즉시 반영 횟수 (재동기화 중 변경이 있으면 오래된 스냅샷을 적용하지 않음)
+    private final AtomicLong modifications = new AtomicLong();
+
+    @PostConstruct
+    public void preload() {
+        reconcile();
+        log.info("API key index loaded: {} clients", entriesByHash.size());
+    }
+
+    /**
+     * API Key로 활성 클라이언트 조회
+     *
+     * @param apiKey 요청 헤더의 API Key
+     * @return 활성 클라이언트 (없거나 비활성이면 empty)
+     */
+    public Optional<Entry> findActive(String apiKey) {
+        byte[] digest = sha256(apiKey);
+        Entry entry = entriesByHash.get(HexFormat.of().formatHex(digest));
+        if (entry == null || !MessageDigest.isEqual(entry.keyHash(), digest) || !entry.active()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * 클라이언트 ID로 활성 클라이언트 조회 (액세스 토큰 인증)
+     *
+     * @param clientId 클라이언트 ID
+     * @return 활성 클라이언트 (없거나 비활성이면 empty)
+     */
+    public Optional<Entry> findActiveByClientId(Long clientId) {
+        String hash = hashesByClientId.get(clientId);
+        Entry entry = hash != null ? entriesByHash.get(hash) : null;
+        if (entry == null || !entry.clientId().equals(clientId) || !entry.active()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * 클라이언트 변경 커밋 후 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClientCredentialChanged(ClientCredentialChangedEvent event) {
+        try {
+            refresh(event.getClientId());
+        } catch (RuntimeException e) {
+            // 다음 재동기화에서 반영
+            log.warn("Failed to refresh API key index for client [id={}]: {}", event.getClientId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 한 클라이언트를 DB의 커밋된 상태로 갱신 (없으면 제거)
+     *
+     * 조회와 적용을 함께 직렬화하여 나중에 읽은 상태가 나중에 적용됨
+     */
+    public synchronized void refresh(Long clientId) {
+        modifications.incrementAndGet();
+        clientCredentialRepository.findById(clientId)
+            .ifPresentOrElse(this::apply, () -> evict(clientId));
+    }
+
+    /**
+     * DB와 재동기화 (다른 노드에서의 등록/재발급/비활성화/삭제 반영)
+     */
+    @Scheduled(
+        initialDelayString = "${app.security.api-key-index.reconcile-interval-ms:30000}",
+        fixedDelayString = "${app.security.api-key-index.reconcile-interval-ms:30000}"
+    )
+    public void reconcile() {
+        long version = modifications.get();
+        List<ClientCredential> credentials = clientCredentialRepository.findAll();
+
+        synchronized (this) {
+            if (modifications.get() != version) {
+                log.debug("API key index changed during reconcile, retrying on next run");
+                return;
+            }
+            Map<Long, ClientCredential> current = new HashMap<>();
+            for (ClientCredential credential : credentials) {
+                current.put(credential.getId(), credential);
+                apply(credential);
+            }
+            hashesByClientId.keySet().stream()
+                .filter(clientId -> !current.containsKey(clientId))
+                .toList()
+                .forEach(this::evict);
+        }
+    }
+
+    private void apply(ClientCredential credential) {
+        byte[] keyHash = sha256(credential.getApiKey());
+        String hash = HexFormat.of().formatHex(keyHash);
+        Entry entry = new Entry(
+            credential.getId(),
+            keyHash,
+            credential.isActive(),
+            credential.getEffectiveTokenEpoch(),
+            credential.getRateLimitPerSecond(),
+            credential.getRateLimitBurst()
+        );
+        // 새 키를 먼저 등록한 뒤 이전 키 제거 (재발급 시 이전 키 즉시 무효화)
+        entriesByHash.put(hash, entry);
+        String previous = hashesByClientId.put(credential.getId(), hash);
+        if (previous != null && !previous.equals(hash)) {
+            entriesByHash.remove(previous);
+        }
+    }
+
+    private void evict(Long clientId) {
+        String hash = hashesByClientId.remove(clientId);
+        if (hash != null) {
+            entriesByHash.remove(hash);
+        }
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 인덱스 항목 (인증 및 요청 속도 제한에 필요한 정보만 보관)
+     *
+     * 인증 principal은 clientId, 평문 키 대신 키 해시(SHA-256)만 보관
+     */
+    public record Entry(
+        Long clientId,
+        byte[] keyHash,
+        boolean active,
+        int tokenEpoch,
+        Integer rateLimitPerSecond,
+        Integer rateLimitBurst
+    ) {
+    }
+}
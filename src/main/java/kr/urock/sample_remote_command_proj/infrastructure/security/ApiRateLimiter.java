@@ -0,0 +1,102 @@
+package kr.urock.sample_remote_command_proj.infrastructure.security;
+
+import kr.urock.sample_remote_command_proj.infrastructure.util.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 클라이언트별 요청 속도 제한
+ *
+ * 인증된 클라이언트마다 토큰 버킷을 두어 요청 수 제한 (API Key 재발급 후에도 같은 버킷)
+ * - 버킷은 락 없이 CAS로 갱신 (TokenBucket)
+ * - 클라이언트 한도는 ClientCredential의 정책, 없으면 기본값
+ * - 관리자 키는 별도 한도
+ * - 가득 찬(유휴) 버킷은 주기적으로 제거
+ */
+@Slf4j
+@Component
+public class ApiRateLimiter {
+
+    private static final String ADMIN_BUCKET_KEY = "admin";
+
+    private final boolean enabled;
+    private final double clientRequestsPerSecond;
+    private final int clientBurst;
+    private final double adminRequestsPerSecond;
+    private final int adminBurst;
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public ApiRateLimiter(
+        @Value("${app.security.rate-limit.enabled:true}") boolean enabled,
+        @Value("${app.security.rate-limit.client.requests-per-second:10}") double clientRequestsPerSecond,
+        @Value("${app.security.rate-limit.client.burst:20}") int clientBurst,
+        @Value("${app.security.rate-limit.admin.requests-per-second:20}") double adminRequestsPerSecond,
+        @Value("${app.security.rate-limit.admin.burst:50}") int adminBurst
+    ) {
+        this.enabled = enabled;
+        this.clientRequestsPerSecond = clientRequestsPerSecond;
+        this.clientBurst = clientBurst;
+        this.adminRequestsPerSecond = adminRequestsPerSecond;
+        this.adminBurst = adminBurst;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 클라이언트 요청 1건 소비
+     *
+     * @param clientId 인증된 클라이언트 ID
+     * @param rateLimitPerSecond 클라이언트 초당 한도 (null이면 기본값)
+     * @param rateLimitBurst 클라이언트 순간 최대 요청 수 (null이면 기본값)
+     * @return 소비 결과
+     */
+    public TokenBucket.Probe tryConsume(Long clientId, Integer rateLimitPerSecond, Integer rateLimitBurst) {
+        double requestsPerSecond = rateLimitPerSecond != null
+            ? rateLimitPerSecond
+            : clientRequestsPerSecond;
+        int burst = rateLimitBurst != null
+            ? rateLimitBurst
+            : Math.max(clientBurst, (int) Math.ceil(requestsPerSecond));
+        return bucketFor(String.valueOf(clientId), burst, requestsPerSecond).tryConsume();
+    }
+
+    /**
+     * 관리자 요청 1건 소비
+     */
+    public TokenBucket.Probe tryConsumeAdmin() {
+        return bucketFor(ADMIN_BUCKET_KEY, adminBurst, adminRequestsPerSecond).tryConsume();
+    }
+
+    /**
+     * 유휴 버킷 정리 (가득 찬 버킷은 새로 만들어도 같은 상태)
+     */
+    @Scheduled(fixedDelayString = "${app.security.rate-limit.idle-eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        int before = buckets.size();
+        buckets.values().removeIf(TokenBucket::isFull);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets", evicted);
+        }
+    }
+
+    private TokenBucket bucketFor(String key, int burst, double requestsPerSecond) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null && bucket.hasLimits(burst, requestsPerSecond)) {
+            return bucket;
+        }
+        // 최초 요청 또는 정책 변경 시에만 교체
+        return buckets.compute(key, (k, existing) ->
+            existing != null && existing.hasLimits(burst, requestsPerSecond)
+                ? existing
+                : new TokenBucket(burst, requestsPerSecond));
+    }
+}
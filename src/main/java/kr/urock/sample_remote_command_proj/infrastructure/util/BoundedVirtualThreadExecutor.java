@@ -0,0 +1,95 @@
+package kr.urock.sample_remote_command_proj.infrastructure.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 실행 수가 제한된 가상 스레드 실행기
+ *
+ * 작업마다 가상 스레드 하나를 생성하고, 동시 실행 수는 Semaphore로 제한
+ * - 블로킹 I/O 대기 중에는 캐리어(플랫폼) 스레드를 점유하지 않음
+ * - 허가를 기다리는 작업도 가상 스레드에서 대기 (스택 수 KB 수준)
+ * - synchronized 블록 안에서 블로킹하면 캐리어 스레드가 고정(pinning)되므로
+ *   이 실행기에서 실행되는 코드는 ReentrantLock 사용
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements TaskExecutor, AutoCloseable {
+
+    private final int maxConcurrency;
+    private final long awaitTerminationSeconds;
+    private final Semaphore permits;
+    private final ExecutorService delegate;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, long awaitTerminationSeconds) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(() -> {
+            waiting.incrementAndGet();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Virtual thread task interrupted while waiting for a permit");
+                return;
+            } finally {
+                waiting.decrementAndGet();
+            }
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * 실행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * 허가를 기다리는 작업 수
+     */
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 새 작업 거부 후 실행 중인 작업 종료 대기
+     */
+    @Override
+    public void close() {
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS)) {
+                log.warn("Virtual thread executor did not terminate in {} seconds", awaitTerminationSeconds);
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            delegate.shutdownNow();
+        }
+    }
+}
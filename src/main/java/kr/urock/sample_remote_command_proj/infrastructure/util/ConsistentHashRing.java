@@ -0,0 +1,65 @@
+package kr.urock.sample_remote_command_proj.infrastructure.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 일관된 해싱 링
+ *
+ * 노드마다 여러 개의 가상 노드를 링에 배치하고, 키는 시계 방향으로 처음 만나는 노드에 할당
+ * - 노드 추가/제거 시 약 1/N의 키만 이동
+ * - 해시는 JVM과 무관하게 동일 (MD5 상위 8바이트), 모든 노드가 같은 링을 계산
+ * - 불변 객체 (멤버 변경 시 새로 생성)
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    /**
+     * @param nodes 노드 ID 목록
+     * @param virtualNodes 노드당 가상 노드 수
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        for (String node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    /**
+     * 키를 담당하는 노드
+     *
+     * @param key 키
+     * @return 노드 ID (노드가 없으면 null)
+     */
+    public String nodeFor(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    /**
+     * 64비트 해시 (MD5 상위 8바이트)
+     */
+    public static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package kr.urock.sample_remote_command_proj.infrastructure.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시드 타이밍 휠 기반 타이머
+ *
+ * 대량의 타임아웃을 O(1)로 등록/취소
+ * - 단일 워커 스레드가 tick 단위로 버킷을 순회
+ * - 등록/취소는 락 없이 큐에 추가만 하고, 버킷은 워커 스레드만 접근
+ * - 만료 작업은 별도 Executor에서 실행 (워커의 tick 정확도 유지)
+ */
+@Slf4j
+public class HashedWheelTimer implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Executor taskExecutor;
+    private final Thread worker;
+    private final long startTime;
+
+    private volatile boolean running = true;
+
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel, Executor taskExecutor) {
+        if (Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("ticksPerWheel must be a power of 2: " + ticksPerWheel);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = ticksPerWheel - 1;
+        this.wheel = new Bucket[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.taskExecutor = taskExecutor;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 타임아웃 등록
+     *
+     * @param task 만료 시 실행할 작업
+     * @param delay 지연 시간
+     * @param unit 시간 단위
+     * @return 취소 가능한 타임아웃 핸들
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timer is stopped");
+        }
+        long deadline = System.nanoTime() - startTime + unit.toNanos(delay);
+        WheelTimeout timeout = new WheelTimeout(task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 타이머 종료 (등록된 타임아웃은 실행되지 않음)
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    // close() 호출 시 종료
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            transferPendingTimeouts(tick);
+            expireTimeouts(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /**
+     * 새로 등록된 타임아웃을 버킷에 배치
+     */
+    private void transferPendingTimeouts(long currentTick) {
+        WheelTimeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculatedTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculatedTick - currentTick) / wheel.length;
+
+            // 이미 지난 기한은 현재 tick에서 처리
+            long targetTick = Math.max(calculatedTick, currentTick);
+            wheel[(int) (targetTick & mask)].timeouts.add(timeout);
+        }
+    }
+
+    /**
+     * 현재 버킷의 만료된 타임아웃 실행
+     */
+    private void expireTimeouts(Bucket bucket) {
+        Iterator<WheelTimeout> iterator = bucket.timeouts.iterator();
+        while (iterator.hasNext()) {
+            WheelTimeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    /**
+     * 타임아웃 핸들
+     */
+    public interface Timeout {
+
+        /**
+         * 취소
+         *
+         * @return 만료 전에 취소되었으면 true
+         */
+        boolean cancel();
+
+        /**
+         * 만료(작업 실행) 여부
+         */
+        boolean isExpired();
+    }
+
+    /**
+     * 휠 버킷 (워커 스레드만 접근)
+     */
+    private static final class Bucket {
+
+        private final List<WheelTimeout> timeouts = new ArrayList<>();
+    }
+
+    private final class WheelTimeout implements Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+        private long remainingRounds;
+
+        private WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            return state.compareAndSet(ST_INIT, ST_CANCELLED);
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        private boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            try {
+                taskExecutor.execute(task);
+            } catch (RuntimeException e) {
+                log.warn("Failed to run expired timer task: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -1,52 +1,155 @@
 package kr.urock.sample_remote_command_proj.infrastructure.util;
 
-import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
+import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
 import org.jasypt.iv.RandomIvGenerator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
 /**
  * 패스워드 암호화/복호화 유틸리티
  *
- * Jasypt를 사용한 AES-256 암호화
+ * AES-256-GCM 암호화 ("v2:" 형식)
  * - 외부에서 암호화 키를 주입받아 사용 (환경변수)
+ * - 데이터 키는 시작 시 PBKDF2로 한 번만 유도 (호출마다 키 유도 없음)
+ * - 암호화마다 임의 nonce 사용 (공유 SecureRandom), Cipher는 호출마다 생성 (가상 스레드에서 스레드별 캐시는 재사용되지 않음)
+ * - 이전 Jasypt 형식은 복호화만 지원 (needsMigration → 재암호화 후 저장)
  * - 암호화된 패스워드를 DB에 저장
  */
 @Component
 public class PasswordEncryptor {
 
-    private final StandardPBEStringEncryptor encryptor;
+    public static final String V2_PREFIX = "v2:";
+
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final String KDF = "PBKDF2WithHmacSHA256";
+    private static final int KEY_BITS = 256;
+    private static final int NONCE_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey dataKey;
+    private final SecureRandom random = new SecureRandom();
+    private final PooledPBEStringEncryptor legacyEncryptor;
 
-    public PasswordEncryptor(@Value("${app.encryption.secret-key}") String secretKey) {
-        this.encryptor = new StandardPBEStringEncryptor();
-        this.encryptor.setPassword(secretKey);
-        this.encryptor.setAlgorithm("PBEWithHMACSHA512AndAES_256");
-        this.encryptor.setIvGenerator(new RandomIvGenerator());
+    public PasswordEncryptor(
+        @Value("${app.encryption.secret-key}") String secretKey,
+        @Value("${app.encryption.kdf-salt:sample-remote-command-proj}") String kdfSalt,
+        @Value("${app.encryption.kdf-iterations:310000}") int kdfIterations
+    ) {
+        this.dataKey = deriveKey(secretKey, kdfSalt, kdfIterations);
+
+        this.legacyEncryptor = new PooledPBEStringEncryptor();
+        this.legacyEncryptor.setPassword(secretKey);
+        this.legacyEncryptor.setAlgorithm("PBEWithHMACSHA512AndAES_256");
+        this.legacyEncryptor.setIvGenerator(new RandomIvGenerator());
+        this.legacyEncryptor.setPoolSize(Runtime.getRuntime().availableProcessors());
     }
 
     /**
      * 평문 패스워드 암호화
      *
      * @param plainPassword 평문 패스워드
-     * @return 암호화된 패스워드
+     * @return 암호화된 패스워드 ("v2:" + Base64(nonce || 암호문 || 태그))
      */
     public String encrypt(String plainPassword) {
         if (plainPassword == null || plainPassword.isEmpty()) {
             throw new IllegalArgumentException("Password cannot be null or empty");
         }
-        return encryptor.encrypt(plainPassword);
+        byte[] nonce = new byte[NONCE_BYTES];
+        random.nextBytes(nonce);
+        byte[] plain = plainPassword.getBytes(StandardCharsets.UTF_8);
+        try {
+            Cipher cipher = newCipher();
+            cipher.init(Cipher.ENCRYPT_MODE, dataKey, new GCMParameterSpec(TAG_BITS, nonce));
+            ByteBuffer out = ByteBuffer.allocate(NONCE_BYTES + cipher.getOutputSize(plain.length));
+            out.put(nonce);
+            cipher.doFinal(ByteBuffer.wrap(plain), out);
+            return V2_PREFIX + Base64.getEncoder().encodeToString(out.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt password", e);
+        } finally {
+            Arrays.fill(plain, (byte) 0);
+        }
     }
 
     /**
      * 암호화된 패스워드 복호화
      *
-     * @param encryptedPassword 암호화된 패스워드
+     * @param encryptedPassword 암호화된 패스워드 (v2 또는 이전 Jasypt 형식)
      * @return 평문 패스워드
      */
     public String decrypt(String encryptedPassword) {
         if (encryptedPassword == null || encryptedPassword.isEmpty()) {
             throw new IllegalArgumentException("Encrypted password cannot be null or empty");
         }
-        return encryptor.decrypt(encryptedPassword);
+        if (needsMigration(encryptedPassword)) {
+            return legacyEncryptor.decrypt(encryptedPassword);
+        }
+
+        byte[] data = Base64.getDecoder().decode(encryptedPassword.substring(V2_PREFIX.length()));
+        if (data.length <= NONCE_BYTES) {
+            throw new IllegalArgumentException("Malformed encrypted password");
+        }
+        byte[] plain = null;
+        try {
+            Cipher cipher = newCipher();
+            cipher.init(Cipher.DECRYPT_MODE, dataKey, new GCMParameterSpec(TAG_BITS, data, 0, NONCE_BYTES));
+            plain = cipher.doFinal(data, NONCE_BYTES, data.length - NONCE_BYTES);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to decrypt password", e);
+        } finally {
+            if (plain != null) {
+                Arrays.fill(plain, (byte) 0);
+            }
+        }
+    }
+
+    /**
+     * 이전 형식(Jasypt) 여부 - true이면 복호화 후 encrypt()로 재암호화하여 저장
+     */
+    public boolean needsMigration(String encryptedPassword) {
+        return !encryptedPassword.startsWith(V2_PREFIX);
+    }
+
+    private static SecretKey deriveKey(String secretKey, String salt, int iterations) {
+        if (secretKey == null || secretKey.isEmpty()) {
+            throw new IllegalArgumentException("Encryption secret key cannot be null or empty");
+        }
+        PBEKeySpec spec = new PBEKeySpec(
+            secretKey.toCharArray(), salt.getBytes(StandardCharsets.UTF_8), iterations, KEY_BITS
+        );
+        try {
+            byte[] encoded = SecretKeyFactory.getInstance(KDF).generateSecret(spec).getEncoded();
+            try {
+                return new SecretKeySpec(encoded, "AES");
+            } finally {
+                Arrays.fill(encoded, (byte) 0);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive encryption key", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(CIPHER);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM is not available", e);
+        }
     }
 }
@@ -0,0 +1,102 @@
+package kr.urock.sample_remote_command_proj.infrastructure.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷
+ *
+ * 버킷 상태를 AtomicLong 하나(가득 차는 시각)로 표현하여 CAS로만 갱신 (GCRA 방식)
+ * - 토큰 1개 소비 = 가득 차는 시각을 충전 간격만큼 뒤로 이동
+ * - 가득 차는 시각이 현재 + 버킷 크기 x 충전 간격을 넘으면 거부
+ * - 별도 충전 스레드나 락이 없음 (경합 시 CAS 재시도)
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerSecond;
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+
+    // 버킷이 다시 가득 차는 시각 (System.nanoTime 기준)
+    private final AtomicLong fullAt;
+
+    /**
+     * @param capacity 버킷 크기 (순간 최대 요청 수)
+     * @param tokensPerSecond 초당 충전 토큰 수
+     */
+    public TokenBucket(long capacity, double tokensPerSecond) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+        }
+        if (tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("tokensPerSecond must be positive: " + tokensPerSecond);
+        }
+        this.capacity = capacity;
+        this.tokensPerSecond = tokensPerSecond;
+        this.refillIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / tokensPerSecond));
+        this.burstNanos = capacity * refillIntervalNanos;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @return 소비 결과 (허용 여부, 남은 토큰, 재시도 대기 시간)
+     */
+    public Probe tryConsume() {
+        long now = System.nanoTime();
+        while (true) {
+            long current = fullAt.get();
+            long base = current - now > 0 ? current : now;
+            long next = base + refillIntervalNanos;
+            long debt = next - now;
+
+            if (debt > burstNanos) {
+                return new Probe(false, capacity, 0, base - now, debt - burstNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Probe(true, capacity, (burstNanos - debt) / refillIntervalNanos, debt, 0);
+            }
+        }
+    }
+
+    /**
+     * 같은 설정의 버킷인지 확인 (정책 변경 감지)
+     */
+    public boolean hasLimits(long capacity, double tokensPerSecond) {
+        return this.capacity == capacity && Double.compare(this.tokensPerSecond, tokensPerSecond) == 0;
+    }
+
+    /**
+     * 버킷이 가득 찬 상태인지 (유휴 버킷 정리용)
+     */
+    public boolean isFull() {
+        return fullAt.get() - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 토큰 소비 결과
+     *
+     * @param allowed 허용 여부
+     * @param limit 버킷 크기
+     * @param remaining 남은 토큰 수
+     * @param resetNanos 버킷이 가득 찰 때까지 남은 시간
+     * @param retryAfterNanos 다음 토큰까지 대기 시간 (허용 시 0)
+     */
+    public record Probe(boolean allowed, long limit, long remaining, long resetNanos, long retryAfterNanos) {
+
+        public long resetSeconds() {
+            return toSecondsCeil(resetNanos);
+        }
+
+        public long retryAfterSeconds() {
+            return Math.max(1, toSecondsCeil(retryAfterNanos));
+        }
+
+        private static long toSecondsCeil(long nanos) {
+            long second = TimeUnit.SECONDS.toNanos(1);
+            return (nanos + second - 1) / second;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package kr.urock.sample_remote_command_proj.presentation.api;
+
+import kr.urock.sample_remote_command_proj.application.cache.CommandResultCache;
+import kr.urock.sample_remote_command_proj.application.cache.dto.CommandResultCacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin API - 명령어 결과 캐시 관리
+ *
+ * 캐시 적중/미스/제거 통계 조회 및 초기화
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminCacheController {
+
+    private final CommandResultCache commandResultCache;
+
+    /**
+     * 캐시 통계 조회
+     */
+    @GetMapping
+    public ResponseEntity<CommandResultCacheStats> getStats() {
+        return ResponseEntity.ok(commandResultCache.getStats());
+    }
+
+    /**
+     * 캐시 전체 초기화
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        log.info("Clearing command result cache");
+        commandResultCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -5,6 +5,7 @@ import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
 import kr.urock.sample_remote_command_proj.domain.client.ClientService;
 import kr.urock.sample_remote_command_proj.presentation.api.dto.ClientResponse;
 import kr.urock.sample_remote_command_proj.presentation.api.dto.RegisterClientRequest;
+import kr.urock.sample_remote_command_proj.presentation.api.dto.UpdateClientPolicyRequest;
 import kr.urock.sample_remote_command_proj.presentation.api.dto.UpdateClientRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
  * - 클라이언트 등록/조회/수정/삭제
  * - API Key 재발급
  * - 활성화/비활성화
+ * - 실행 정책 수정
  */
 @Slf4j
 @RestController
@@ -91,6 +93,25 @@ public class AdminClientController {
         return ResponseEntity.ok(ClientResponse.from(credential));
     }
 
+    /**
+     * 클라이언트 실행 정책 수정
+     */
+    @PutMapping("/{id}/policy")
+    public ResponseEntity<ClientResponse> updateClientPolicy(
+        @PathVariable Long id,
+        @Valid @RequestBody UpdateClientPolicyRequest request
+    ) {
+        ClientCredential credential = clientService.updateClientPolicy(
+            id,
+            request.getSchedulingWeight(),
+            request.getMaxConcurrentCommands(),
+            request.getRateLimitPerSecond(),
+            request.getRateLimitBurst()
+        );
+
+        return ResponseEntity.ok(ClientResponse.from(credential));
+    }
+
     /**
      * API Key 재발급
      */
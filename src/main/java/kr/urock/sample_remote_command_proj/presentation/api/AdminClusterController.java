@@ -0,0 +1,32 @@
+package kr.urock.sample_remote_command_proj.presentation.api;
+
+import kr.urock.sample_remote_command_proj.domain.cluster.ClusterMembership;
+import kr.urock.sample_remote_command_proj.domain.cluster.ClusterStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin API - 클러스터 상태 조회
+ *
+ * 노드 멤버십과 호스트 샤드 할당 상태 모니터링
+ */
+@RestController
+@RequestMapping("/api/admin/cluster")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminClusterController {
+
+    private final ClusterMembership clusterMembership;
+
+    /**
+     * 이 노드 기준 클러스터 상태 조회
+     */
+    @GetMapping
+    public ResponseEntity<ClusterStatus> getClusterStatus() {
+        return ResponseEntity.ok(clusterMembership.getStatus());
+    }
+}
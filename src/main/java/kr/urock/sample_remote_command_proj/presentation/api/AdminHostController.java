@@ -0,0 +1,40 @@
+package kr.urock.sample_remote_command_proj.presentation.api;
+
+import kr.urock.sample_remote_command_proj.application.executor.HostBulkhead;
+import kr.urock.sample_remote_command_proj.application.executor.dto.HostBulkheadStats;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
+import kr.urock.sample_remote_command_proj.domain.client.ClientService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Admin API - 호스트별 실행 상태 조회
+ *
+ * 대상 호스트별 동시 실행 한도와 실행/대기 현황 모니터링
+ */
+@RestController
+@RequestMapping("/api/admin/hosts")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminHostController {
+
+    private final HostBulkhead hostBulkhead;
+    private final ClientService clientService;
+
+    /**
+     * 호스트별 동시 실행 제한 상태 조회
+     */
+    @GetMapping("/bulkheads")
+    public ResponseEntity<List<HostBulkheadStats>> getBulkheads() {
+        List<String> hosts = clientService.getAllClients().stream()
+            .map(ClientCredential::getHost)
+            .toList();
+        return ResponseEntity.ok(hostBulkhead.getStats(hosts));
+    }
+}
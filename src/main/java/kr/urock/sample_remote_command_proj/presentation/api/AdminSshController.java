@@ -0,0 +1,67 @@
+package kr.urock.sample_remote_command_proj.presentation.api;
+
+import kr.urock.sample_remote_command_proj.application.ssh.SshCircuitBreakerRegistry;
+import kr.urock.sample_remote_command_proj.application.ssh.SshConnectionManager;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshCircuitBreakerStats;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshPoolStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Admin API - SSH 연결 상태 조회
+ *
+ * SSH 연결 관리자의 런타임 상태 모니터링
+ * - 호스트별 연결 풀 통계
+ * - 호스트별 서킷 브레이커 상태 조회 및 초기화
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/ssh")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminSshController {
+
+    private final SshConnectionManager sshConnectionManager;
+    private final SshCircuitBreakerRegistry circuitBreakerRegistry;
+
+    /**
+     * 호스트별 연결 풀 통계 조회
+     */
+    @GetMapping("/pools")
+    public ResponseEntity<List<SshPoolStats>> getPoolStats() {
+        return ResponseEntity.ok(sshConnectionManager.getPoolStats());
+    }
+
+    /**
+     * 호스트별 서킷 브레이커 상태 조회
+     */
+    @GetMapping("/circuit-breakers")
+    public ResponseEntity<List<SshCircuitBreakerStats>> getCircuitBreakers() {
+        return ResponseEntity.ok(sshConnectionManager.getCircuitBreakerStats());
+    }
+
+    /**
+     * 서킷 브레이커 강제 초기화 (CLOSED)
+     */
+    @PostMapping("/circuit-breakers/{host}/reset")
+    public ResponseEntity<Void> resetCircuitBreaker(
+        @PathVariable String host,
+        @RequestParam(defaultValue = "22") int port
+    ) {
+        log.info("Resetting SSH circuit breaker: {}:{}", host, port);
+        if (!circuitBreakerRegistry.reset(host, port)) {
+            throw new IllegalArgumentException("Circuit breaker not found: " + host + ":" + port);
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -3,6 +3,8 @@ package kr.urock.sample_remote_command_proj.presentation.api;
 import jakarta.validation.Valid;
 import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
 import kr.urock.sample_remote_command_proj.domain.client.ClientService;
+import kr.urock.sample_remote_command_proj.infrastructure.security.AccessTokenService;
+import kr.urock.sample_remote_command_proj.presentation.api.dto.AccessTokenResponse;
 import kr.urock.sample_remote_command_proj.presentation.api.dto.ClientResponse;
 import kr.urock.sample_remote_command_proj.presentation.api.dto.RegisterClientRequest;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
  * Client API - 자가 등록 및 조회
  *
  * 클라이언트가 스스로 등록하고 정보를 조회하는 API
+ * - 액세스 토큰 발급 (API Key 교환)
  */
 @Slf4j
 @RestController
@@ -24,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class ClientController {
 
     private final ClientService clientService;
+    private final AccessTokenService accessTokenService;
 
     /**
      * 클라이언트 자가 등록
@@ -52,12 +56,23 @@ public class ClientController {
     /**
      * 내 정보 조회
      *
-     * API Key로 인증된 클라이언트 자신의 정보 조회
+     * 인증된 클라이언트 자신의 정보 조회 (principal은 클라이언트 ID)
      */
     @GetMapping("/me")
     public ResponseEntity<ClientResponse> getMyInfo(Authentication authentication) {
-        String apiKey = authentication.getName();
-        ClientCredential credential = clientService.getClientByApiKey(apiKey);
+        ClientCredential credential = clientService.getClient(Long.valueOf(authentication.getName()));
         return ResponseEntity.ok(ClientResponse.from(credential));
     }
+
+    /**
+     * 액세스 토큰 발급
+     *
+     * X-API-Key로만 발급 가능 (토큰으로 재발급 불가)
+     * 이후 요청은 Authorization: Bearer 헤더로 인증
+     */
+    @PostMapping("/token")
+    public ResponseEntity<AccessTokenResponse> issueToken(Authentication authentication) {
+        AccessTokenService.IssuedToken token = accessTokenService.issue(Long.valueOf(authentication.getName()));
+        return ResponseEntity.ok(AccessTokenResponse.from(token));
+    }
 }
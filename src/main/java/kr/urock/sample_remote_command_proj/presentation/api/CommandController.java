@@ -4,10 +4,14 @@ import jakarta.validation.Valid;
 import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
 import kr.urock.sample_remote_command_proj.domain.client.ClientService;
 import kr.urock.sample_remote_command_proj.domain.command.Command;
+import kr.urock.sample_remote_command_proj.domain.command.CommandFanOutService;
 import kr.urock.sample_remote_command_proj.domain.command.CommandService;
 import kr.urock.sample_remote_command_proj.domain.command.CommandStatus;
+import kr.urock.sample_remote_command_proj.domain.command.CommandSubmission;
+import kr.urock.sample_remote_command_proj.presentation.api.dto.BatchExecuteCommandRequest;
 import kr.urock.sample_remote_command_proj.presentation.api.dto.CommandResponse;
 import kr.urock.sample_remote_command_proj.presentation.api.dto.ExecuteCommandRequest;
+import kr.urock.sample_remote_command_proj.presentation.api.dto.FanOutCommandRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -15,13 +19,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -37,6 +45,9 @@ public class CommandController {
 
     private final CommandService commandService;
     private final ClientService clientService;
+    private final CommandStreamEmitter commandStreamEmitter;
+    private final CommandFanOutService commandFanOutService;
+    private final CommandFanOutEmitter commandFanOutEmitter;
 
     /**
      * 명령어 실행 요청
@@ -46,13 +57,14 @@ public class CommandController {
         @Valid @RequestBody ExecuteCommandRequest request,
         Authentication authentication
     ) {
-        String apiKey = authentication.getName();
+        String owner = ownerOf(authentication);
 
         // 명령어 실행
         Long commandId = commandService.executeCommand(
             request.getTargetHost(),
             request.getCommand(),
-            apiKey
+            owner,
+            request.getOutputMode()
         );
 
         // 응답
@@ -64,6 +76,60 @@ public class CommandController {
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
 
+    /**
+     * 명령어 일괄 실행 요청
+     *
+     * 전체가 검증/접수되어야 저장 (하나라도 거부되면 모두 거부)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Object>> executeCommands(
+        @Valid @RequestBody BatchExecuteCommandRequest request,
+        Authentication authentication
+    ) {
+        String owner = ownerOf(authentication);
+
+        List<CommandSubmission> submissions = request.getCommands().stream()
+            .map(command -> new CommandSubmission(
+                command.getTargetHost(), command.getCommand(), command.getOutputMode()))
+            .toList();
+        List<Long> commandIds = commandService.executeCommands(submissions, owner);
+
+        // 응답
+        Map<String, Object> response = new HashMap<>();
+        response.put("commandIds", commandIds);
+        response.put("count", commandIds.size());
+        response.put("status", "PENDING");
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 명령어 팬아웃 실행 (NDJSON 스트림)
+     *
+     * 같은 명령어를 여러 호스트에 실행하고 호스트가 완료되는 순서대로 결과 전송
+     * - 호스트마다 Command가 생성되어 기존 조회 API로도 확인 가능
+     * - 마지막 줄은 성공/실패/타임아웃 수와 지연 시간 백분위 요약
+     */
+    @PostMapping("/fan-out")
+    public ResponseEntity<ResponseBodyEmitter> fanOutCommand(
+        @Valid @RequestBody FanOutCommandRequest request,
+        Authentication authentication
+    ) {
+        // 검증/접수 실패는 스트림을 열기 전에 오류 응답
+        CommandFanOutService.FanOut fanOut = commandFanOutService.start(
+            request.getCommand(),
+            request.getHosts(),
+            request.getHostPattern(),
+            request.getParallelism(),
+            request.getOutputMode(),
+            ownerOf(authentication)
+        );
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(commandFanOutEmitter.stream(fanOut));
+    }
+
     /**
      * 명령어 상태 조회
      */
@@ -73,6 +139,23 @@ public class CommandController {
         return ResponseEntity.ok(CommandResponse.from(command));
     }
 
+    /**
+     * 명령어 실행 스트림 (Server-Sent Events)
+     *
+     * 실행 중 stdout/stderr 청크와 상태 변화를 실시간 전송
+     * - event: status / stdout / stderr
+     * - 구독 이전에 발행된 이벤트부터 재생 (다른 노드에서 실행 중이면 상태 변화와 최종 결과만)
+     * - Last-Event-ID 헤더로 재연결 시 이어받기
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCommand(
+        @PathVariable Long id,
+        @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        Command command = commandService.getCommand(id);
+        return commandStreamEmitter.subscribe(command, lastEventId);
+    }
+
     /**
      * 명령어 이력 조회 (페이징)
      *
@@ -92,8 +175,7 @@ public class CommandController {
     ) {
         // clientId 또는 targetHost 파라미터는 Admin만 사용 가능
         boolean isAdminOnlyParamUsed = (clientId != null || targetHost != null);
-        boolean isAdmin = authentication.getAuthorities().stream()
-            .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+        boolean isAdmin = isAdmin(authentication);
 
         if (isAdminOnlyParamUsed && !isAdmin) {
             throw new AccessDeniedException(
@@ -106,7 +188,7 @@ public class CommandController {
         if (isAdmin) {
             commands = getCommandsForAdmin(pageable, status, clientId, targetHost);
         } else {
-            commands = getCommandsForClient(pageable, authentication.getName());
+            commands = getCommandsForClient(pageable, ownerOf(authentication));
         }
 
         Page<CommandResponse> response = commands.map(CommandResponse::from);
@@ -146,10 +228,28 @@ public class CommandController {
         }
     }
 
+    /**
+     * 명령어 소유자 키 (내부 메서드)
+     *
+     * 클라이언트는 principal(클라이언트 ID)로 소유자 키 생성 (DB 조회 없음, 평문 API Key를 사용하지 않음)
+     * 관리자는 principal 그대로 사용
+     */
+    private String ownerOf(Authentication authentication) {
+        if (isAdmin(authentication)) {
+            return authentication.getName();
+        }
+        return ClientCredential.ownerKey(Long.valueOf(authentication.getName()));
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+            .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+    }
+
     /**
      * Client용 명령어 조회 (내부 메서드)
      */
-    private Page<Command> getCommandsForClient(Pageable pageable, String apiKey) {
-        return commandService.getCommandsByApiKey(apiKey, pageable);
+    private Page<Command> getCommandsForClient(Pageable pageable, String owner) {
+        return commandService.getCommandsByApiKey(owner, pageable);
     }
 }
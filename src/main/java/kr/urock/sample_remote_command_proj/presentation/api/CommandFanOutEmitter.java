@@ -0,0 +1,112 @@
+package kr.urock.sample_remote_command_proj.presentation.api;
+
+import jakarta.annotation.PreDestroy;
+import kr.urock.sample_remote_command_proj.domain.command.CommandFanOutService;
+import kr.urock.sample_remote_command_proj.presentation.api.dto.FanOutEventResponse;
+import kr.urock.sample_remote_command_proj.presentation.api.dto.FanOutSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 팬아웃 결과 NDJSON 전송기
+ *
+ * 요청마다 전용 가상 스레드가 팬아웃을 진행하며 결과를 한 줄씩 전송
+ * - 호스트가 완료되는 순서대로 result 줄 전송
+ * - 마지막에 summary 줄 전송 후 종료
+ * - 클라이언트 연결이 끊기면 남은 호스트는 접수하지 않음 (접수된 명령어는 계속 실행)
+ */
+@Slf4j
+@Component
+public class CommandFanOutEmitter {
+
+    private final CommandFanOutService commandFanOutService;
+    private final long emitterTimeoutMs;
+
+    private final ExecutorService senderExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-sender-", 0).factory());
+
+    public CommandFanOutEmitter(
+        CommandFanOutService commandFanOutService,
+        @Value("${app.command.fan-out.emitter-timeout-ms:3600000}") long emitterTimeoutMs
+    ) {
+        this.commandFanOutService = commandFanOutService;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    /**
+     * 팬아웃 결과 스트림 시작
+     *
+     * @param fanOut 첫 묶음이 접수된 팬아웃
+     * @return NDJSON Emitter
+     */
+    public ResponseBodyEmitter stream(CommandFanOutService.FanOut fanOut) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(emitterTimeoutMs);
+
+        AtomicBoolean active = new AtomicBoolean(true);
+        emitter.onCompletion(() -> active.set(false));
+        emitter.onTimeout(() -> active.set(false));
+        emitter.onError(e -> active.set(false));
+
+        senderExecutor.execute(() -> pump(fanOut, emitter, active));
+        return emitter;
+    }
+
+    /**
+     * 팬아웃 진행 및 결과 전송 (요청 전용 가상 스레드)
+     */
+    private void pump(CommandFanOutService.FanOut fanOut, ResponseBodyEmitter emitter, AtomicBoolean active) {
+        long startedAt = System.nanoTime();
+        // 완료된 명령어는 전송 후 버리고 개수와 실행 시간만 누적
+        FanOutSummaryResponse.Tally completed = new FanOutSummaryResponse.Tally();
+        try {
+            commandFanOutService.awaitCompletion(fanOut, command -> {
+                completed.add(command);
+                sendLine(emitter, FanOutEventResponse.result(command));
+            }, active::get);
+
+            if (active.get()) {
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                sendLine(emitter, FanOutEventResponse.summary(completed.toSummary(fanOut.getTotal(), elapsedMs)));
+                emitter.complete();
+            }
+        } catch (UncheckedIOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            log.debug("Fan-out subscriber disconnected after {}/{} hosts: {}",
+                completed.getCompleted(), fanOut.getTotal(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (RuntimeException e) {
+            log.error("Fan-out failed after {}/{} hosts: {}",
+                completed.getCompleted(), fanOut.getTotal(), e.getMessage(), e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendLine(ResponseBodyEmitter emitter, FanOutEventResponse event) {
+        try {
+            emitter.send(event, MediaType.APPLICATION_JSON);
+            emitter.send("\n", MediaType.TEXT_PLAIN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 종료 시 전송 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        senderExecutor.shutdownNow();
+    }
+}
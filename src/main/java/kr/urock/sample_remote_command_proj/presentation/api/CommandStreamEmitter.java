@@ -0,0 +1,210 @@
+package kr.urock.sample_remote_command_proj.presentation.api;
+
+import jakarta.annotation.PreDestroy;
+import kr.urock.sample_remote_command_proj.application.stream.CommandStream;
+import kr.urock.sample_remote_command_proj.application.stream.CommandStreamRegistry;
+import kr.urock.sample_remote_command_proj.application.stream.dto.CommandStreamEvent;
+import kr.urock.sample_remote_command_proj.domain.cluster.ClusterMembership;
+import kr.urock.sample_remote_command_proj.domain.command.Command;
+import kr.urock.sample_remote_command_proj.domain.command.CommandService;
+import kr.urock.sample_remote_command_proj.domain.command.CommandStatus;
+import kr.urock.sample_remote_command_proj.presentation.api.dto.CommandResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 명령어 실행 스트림 SSE 전송기
+ *
+ * 구독자마다 전용 가상 스레드가 스트림을 읽어 SSE로 전송
+ * - 실행 시작 이후 발행된 이벤트를 재생 버퍼에서 재생한 뒤 실시간 전송 (버퍼 한도를 넘은 앞부분은 생략 표시)
+ * - Last-Event-ID 헤더로 재연결 시 이어받기 지원
+ * - 보관 기간이 지난 완료 명령어는 저장된 결과로 응답
+ * - 다른 노드가 실행하는 명령어(호스트 샤드 미담당)는 DB 상태를 주기적으로 조회하여 전송
+ */
+@Slf4j
+@Component
+public class CommandStreamEmitter {
+
+    private final CommandStreamRegistry commandStreamRegistry;
+    private final CommandService commandService;
+    private final ClusterMembership clusterMembership;
+    private final long emitterTimeoutMs;
+    private final long heartbeatIntervalMs;
+    private final long statusPollIntervalMs;
+
+    private final ExecutorService senderExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-sender-", 0).factory());
+
+    public CommandStreamEmitter(
+        CommandStreamRegistry commandStreamRegistry,
+        CommandService commandService,
+        ClusterMembership clusterMembership,
+        @Value("${app.command.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+        @Value("${app.command.stream.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+        @Value("${app.command.stream.status-poll-interval-ms:2000}") long statusPollIntervalMs
+    ) {
+        this.commandStreamRegistry = commandStreamRegistry;
+        this.commandService = commandService;
+        this.clusterMembership = clusterMembership;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.statusPollIntervalMs = statusPollIntervalMs;
+    }
+
+    /**
+     * 명령어 스트림 구독
+     *
+     * @param command 명령어
+     * @param lastEventId 마지막으로 수신한 이벤트 ID (재연결 시, nullable)
+     * @return SSE Emitter
+     */
+    public SseEmitter subscribe(Command command, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+
+        Optional<CommandStream> existing = commandStreamRegistry.find(command.getId());
+        if (existing.isEmpty() && command.isCompleted()) {
+            sendSnapshot(emitter, command);
+            return emitter;
+        }
+
+        AtomicBoolean active = new AtomicBoolean(true);
+        emitter.onCompletion(() -> active.set(false));
+        emitter.onTimeout(() -> active.set(false));
+        emitter.onError(e -> active.set(false));
+
+        // 다른 노드가 실행 중: 로컬 스트림에는 이벤트가 오지 않으므로 DB 상태 조회
+        if (existing.isEmpty() && !clusterMembership.owns(command.getTargetHost())) {
+            senderExecutor.execute(() -> pollStatus(command, emitter, active));
+            return emitter;
+        }
+
+        CommandStream stream = existing.orElseGet(() -> commandStreamRegistry.open(command.getId()));
+        long fromSequence = lastEventId != null ? lastEventId + 1 : 0;
+
+        senderExecutor.execute(() -> pump(stream, fromSequence, emitter, active, lastEventId == null));
+        return emitter;
+    }
+
+    /**
+     * 스트림 이벤트를 SSE로 전송 (구독자 전용 가상 스레드)
+     *
+     * 새 이벤트 없이 heartbeat 간격이 지나면 DB 상태도 확인 (완료 이벤트 유실 대비)
+     */
+    private void pump(CommandStream stream, long fromSequence, SseEmitter emitter,
+                      AtomicBoolean active, boolean firstConnect) {
+        long cursor = fromSequence;
+        try {
+            if (firstConnect) {
+                emitter.send(SseEmitter.event().comment("command " + stream.getCommandId()));
+            }
+
+            while (active.get()) {
+                CommandStream.Batch batch = stream.awaitEvents(cursor, heartbeatIntervalMs);
+
+                if (batch.skipped()) {
+                    emitter.send(SseEmitter.event().comment("earlier output omitted (replay buffer limit)"));
+                }
+                for (CommandStreamEvent event : batch.events()) {
+                    emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getSequence()))
+                        .name(event.getType().name().toLowerCase(Locale.ROOT))
+                        .data(event.getData()));
+                }
+                cursor = batch.nextSequence();
+
+                if (batch.completed()) {
+                    emitter.complete();
+                    return;
+                }
+                if (batch.events().isEmpty()) {
+                    Command latest = commandService.getCommand(stream.getCommandId());
+                    if (latest.isCompleted()) {
+                        sendSnapshot(emitter, latest);
+                        return;
+                    }
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            log.debug("SSE subscriber for command [id={}] disconnected: {}", stream.getCommandId(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    /**
+     * DB 상태를 주기적으로 조회하여 전송 (다른 노드가 실행하는 명령어)
+     *
+     * 상태가 바뀔 때 status 이벤트, 완료되면 저장된 결과 전송 후 종료
+     */
+    private void pollStatus(Command command, SseEmitter emitter, AtomicBoolean active) {
+        CommandStatus lastStatus = command.getStatus();
+        long lastSentAt = System.currentTimeMillis();
+        try {
+            emitter.send(SseEmitter.event().comment("command " + command.getId() + " (executing on another node)"));
+            emitter.send(SseEmitter.event().name("status").data(lastStatus.name()));
+
+            while (active.get()) {
+                Thread.sleep(statusPollIntervalMs);
+                Command latest = commandService.getCommand(command.getId());
+                if (latest.isCompleted()) {
+                    sendSnapshot(emitter, latest);
+                    return;
+                }
+                if (latest.getStatus() != lastStatus) {
+                    lastStatus = latest.getStatus();
+                    emitter.send(SseEmitter.event().name("status").data(lastStatus.name()));
+                    lastSentAt = System.currentTimeMillis();
+                } else if (System.currentTimeMillis() - lastSentAt >= heartbeatIntervalMs) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                    lastSentAt = System.currentTimeMillis();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE subscriber for command [id={}] disconnected: {}", command.getId(), e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // 조회 중 명령어 삭제
+            emitter.completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    /**
+     * 저장된 최종 결과 전송 후 종료
+     */
+    private void sendSnapshot(SseEmitter emitter, Command command) {
+        try {
+            emitter.send(SseEmitter.event()
+                .name("result")
+                .data(CommandResponse.from(command), MediaType.APPLICATION_JSON));
+            emitter.send(SseEmitter.event()
+                .name("status")
+                .data(command.getStatus().name()));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 종료 시 전송 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        senderExecutor.shutdownNow();
+    }
+}
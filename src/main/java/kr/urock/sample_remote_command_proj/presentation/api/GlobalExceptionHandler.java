@@ -1,6 +1,8 @@
 package kr.urock.sample_remote_command_proj.presentation.api;
 
+import kr.urock.sample_remote_command_proj.application.executor.CommandAdmissionRejectedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -79,6 +81,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    /**
+     * 실행 용량 초과 처리 (Backpressure)
+     */
+    @ExceptionHandler(CommandAdmissionRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleAdmissionRejectedException(
+        CommandAdmissionRejectedException ex
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        response.put("error", "Too Many Requests");
+        response.put("message", ex.getMessage());
+        response.put("retryAfterSeconds", ex.getRetryAfterSeconds());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(response);
+    }
+
     /**
      * 일반 예외 처리
      */
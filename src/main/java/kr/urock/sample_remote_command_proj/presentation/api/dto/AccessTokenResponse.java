@@ -0,0 +1,29 @@
+package kr.urock.sample_remote_command_proj.presentation.api.dto;
+
+import kr.urock.sample_remote_command_proj.infrastructure.security.AccessTokenService;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * 액세스 토큰 응답 DTO
+ */
+@Data
+@Builder
+public class AccessTokenResponse {
+
+    private String accessToken;
+    private String tokenType;
+    private Long expiresIn;
+    private Instant expiresAt;
+
+    public static AccessTokenResponse from(AccessTokenService.IssuedToken token) {
+        return AccessTokenResponse.builder()
+            .accessToken(token.token())
+            .tokenType("Bearer")
+            .expiresIn(token.expiresInSeconds())
+            .expiresAt(token.expiresAt())
+            .build();
+    }
+}
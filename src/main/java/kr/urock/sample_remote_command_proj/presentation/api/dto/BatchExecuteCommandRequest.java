@@ -0,0 +1,19 @@
+package kr.urock.sample_remote_command_proj.presentation.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 명령어 일괄 실행 요청 DTO
+ */
+@Data
+public class BatchExecuteCommandRequest {
+
+    @NotEmpty(message = "Commands are required")
+    @Size(max = 1000, message = "At most 1000 commands per batch")
+    private List<@Valid ExecuteCommandRequest> commands;
+}
@@ -20,6 +20,10 @@ public class ClientResponse {
     private String apiKey;
     private String description;
     private Boolean active;
+    private Integer schedulingWeight;
+    private Integer maxConcurrentCommands;
+    private Integer rateLimitPerSecond;
+    private Integer rateLimitBurst;
     private LocalDateTime createdAt;
     private LocalDateTime lastConnectedAt;
 
@@ -35,6 +39,10 @@ public class ClientResponse {
             .apiKey(credential.getApiKey())
             .description(credential.getDescription())
             .active(credential.getActive())
+            .schedulingWeight(credential.getEffectiveSchedulingWeight())
+            .maxConcurrentCommands(credential.getMaxConcurrentCommands())
+            .rateLimitPerSecond(credential.getRateLimitPerSecond())
+            .rateLimitBurst(credential.getRateLimitBurst())
             .createdAt(credential.getCreatedAt())
             .lastConnectedAt(credential.getLastConnectedAt())
             .build();
@@ -1,5 +1,6 @@
 package kr.urock.sample_remote_command_proj.presentation.api.dto;
 
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
 import kr.urock.sample_remote_command_proj.domain.command.Command;
 import kr.urock.sample_remote_command_proj.domain.command.CommandStatus;
 import lombok.Builder;
@@ -18,6 +19,7 @@ public class CommandResponse {
     private String targetHost;
     private String command;
     private CommandStatus status;
+    private OutputCaptureMode outputMode;
     private String result;
     private String errorMessage;
     private Integer exitCode;
@@ -35,6 +37,7 @@ public class CommandResponse {
             .targetHost(command.getTargetHost())
             .command(command.getCommandText())
             .status(command.getStatus())
+            .outputMode(command.getOutputMode())
             .result(command.getResult())
             .errorMessage(command.getErrorMessage())
             .exitCode(command.getExitCode())
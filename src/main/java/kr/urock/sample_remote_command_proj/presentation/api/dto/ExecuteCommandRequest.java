@@ -1,6 +1,7 @@
 package kr.urock.sample_remote_command_proj.presentation.api.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
 import lombok.Data;
 
 /**
@@ -14,4 +15,10 @@ public class ExecuteCommandRequest {
 
     @NotBlank(message = "Command is required")
     private String command;
+
+    /**
+     * 출력 보관 방식 (선택, 기본 FULL)
+     * HEAD_TAIL: ping 등 출력이 많은 명령어는 앞/뒤 일부만 보관
+     */
+    private OutputCaptureMode outputMode;
 }
@@ -0,0 +1,45 @@
+package kr.urock.sample_remote_command_proj.presentation.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 명령어 팬아웃 실행 요청 DTO
+ *
+ * hosts와 hostPattern 중 하나만 지정
+ */
+@Data
+public class FanOutCommandRequest {
+
+    @NotBlank(message = "Command is required")
+    private String command;
+
+    /**
+     * 대상 호스트 목록
+     */
+    @Size(max = 1000, message = "At most 1000 hosts per fan-out")
+    private List<String> hosts;
+
+    /**
+     * 대상 호스트 패턴 (*, ? 와일드카드) - 등록된 활성 클라이언트 중 일치하는 호스트
+     */
+    private String hostPattern;
+
+    /**
+     * 동시 실행 수 (선택, 기본 app.command.fan-out.default-parallelism)
+     */
+    @Min(value = 1, message = "Parallelism must be at least 1")
+    @Max(value = 200, message = "Parallelism must be at most 200")
+    private Integer parallelism;
+
+    /**
+     * 출력 보관 방식 (선택, 기본 FULL)
+     */
+    private OutputCaptureMode outputMode;
+}
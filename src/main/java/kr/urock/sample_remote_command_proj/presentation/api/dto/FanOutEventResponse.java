@@ -0,0 +1,36 @@
+package kr.urock.sample_remote_command_proj.presentation.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.urock.sample_remote_command_proj.domain.command.Command;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 팬아웃 스트림 이벤트 DTO (NDJSON 한 줄)
+ *
+ * - result: 호스트 1개의 실행 결과 (완료 순서)
+ * - summary: 마지막 줄, 전체 집계
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FanOutEventResponse {
+
+    private final String type;
+    private final CommandResponse command;
+    private final FanOutSummaryResponse summary;
+
+    public static FanOutEventResponse result(Command command) {
+        return FanOutEventResponse.builder()
+            .type("result")
+            .command(CommandResponse.from(command))
+            .build();
+    }
+
+    public static FanOutEventResponse summary(FanOutSummaryResponse summary) {
+        return FanOutEventResponse.builder()
+            .type("summary")
+            .summary(summary)
+            .build();
+    }
+}
@@ -0,0 +1,89 @@
+package kr.urock.sample_remote_command_proj.presentation.api.dto;
+
+import kr.urock.sample_remote_command_proj.domain.command.Command;
+import kr.urock.sample_remote_command_proj.domain.command.CommandStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+/**
+ * 팬아웃 실행 집계 DTO
+ *
+ * 지연 시간은 호스트별 실행 시간(executionDurationMs) 기준 (nearest-rank 백분위)
+ */
+@Getter
+@Builder
+public class FanOutSummaryResponse {
+
+    private final int total;
+    private final int completed;
+    private final long success;
+    private final long failed;
+    private final long timeout;
+    private final long elapsedMs;
+    private final Long latencyP50Ms;
+    private final Long latencyP90Ms;
+    private final Long latencyP99Ms;
+    private final Long latencyMaxMs;
+
+    /**
+     * 완료된 명령어 집계기
+     *
+     * 명령어 엔티티(결과 출력)는 보관하지 않고 상태별 개수와 실행 시간만 누적
+     */
+    public static final class Tally {
+
+        private final Map<CommandStatus, Long> counts = new EnumMap<>(CommandStatus.class);
+        private final LongStream.Builder durations = LongStream.builder();
+        private int completed;
+
+        /**
+         * 완료된 명령어 1건 반영
+         */
+        public void add(Command command) {
+            completed++;
+            counts.merge(command.getStatus(), 1L, Long::sum);
+            if (command.getExecutionDurationMs() != null) {
+                durations.add(command.getExecutionDurationMs());
+            }
+        }
+
+        public int getCompleted() {
+            return completed;
+        }
+
+        /**
+         * 집계 결과 생성 (한 번만 호출)
+         *
+         * @param total 전체 호스트 수
+         * @param elapsedMs 팬아웃 소요 시간
+         */
+        public FanOutSummaryResponse toSummary(int total, long elapsedMs) {
+            long[] latencies = durations.build().sorted().toArray();
+
+            return FanOutSummaryResponse.builder()
+                .total(total)
+                .completed(completed)
+                .success(counts.getOrDefault(CommandStatus.SUCCESS, 0L))
+                .failed(counts.getOrDefault(CommandStatus.FAILED, 0L))
+                .timeout(counts.getOrDefault(CommandStatus.TIMEOUT, 0L))
+                .elapsedMs(elapsedMs)
+                .latencyP50Ms(percentile(latencies, 50))
+                .latencyP90Ms(percentile(latencies, 90))
+                .latencyP99Ms(percentile(latencies, 99))
+                .latencyMaxMs(latencies.length > 0 ? latencies[latencies.length - 1] : null)
+                .build();
+        }
+    }
+
+    private static Long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return null;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
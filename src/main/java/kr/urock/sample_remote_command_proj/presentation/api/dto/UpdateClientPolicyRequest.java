@@ -0,0 +1,42 @@
+package kr.urock.sample_remote_command_proj.presentation.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * 클라이언트 실행 정책 수정 요청 DTO
+ *
+ * null인 항목은 변경하지 않음
+ */
+@Data
+public class UpdateClientPolicyRequest {
+
+    /**
+     * 스케줄링 가중치 - 실행 대기 명령어가 많을 때 다른 API Key 대비 배분 비율
+     */
+    @Min(value = 1, message = "Scheduling weight must be at least 1")
+    @Max(value = 100, message = "Scheduling weight must be at most 100")
+    private Integer schedulingWeight;
+
+    /**
+     * 호스트 동시 실행 한도 - 초과분은 호스트별 대기열에서 대기
+     */
+    @Min(value = 1, message = "Max concurrent commands must be at least 1")
+    @Max(value = 100, message = "Max concurrent commands must be at most 100")
+    private Integer maxConcurrentCommands;
+
+    /**
+     * 초당 요청 한도 - 초과 시 429
+     */
+    @Min(value = 1, message = "Rate limit per second must be at least 1")
+    @Max(value = 10000, message = "Rate limit per second must be at most 10000")
+    private Integer rateLimitPerSecond;
+
+    /**
+     * 순간 최대 요청 수 (토큰 버킷 크기)
+     */
+    @Min(value = 1, message = "Rate limit burst must be at least 1")
+    @Max(value = 10000, message = "Rate limit burst must be at most 10000")
+    private Integer rateLimitBurst;
+}
@@ -0,0 +1,88 @@
+package kr.urock.sample_remote_command_proj.application.cache;
+
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryCommandResultCacheTest {
+
+    private final InMemoryCommandResultCache cache = new InMemoryCommandResultCache(1024 * 1024, 4096, 60);
+
+    @Test
+    void returnsStoredResult() {
+        cache.put("key", CommandResult.success(1L, "output", "", 0));
+
+        assertThat(cache.get("key")).hasValueSatisfying(result -> {
+            assertThat(result.getOutput()).isEqualTo("output");
+            assertThat(result.getExitCode()).isZero();
+        });
+        assertThat(cache.get("other")).isEmpty();
+        assertThat(cache.getStats().getHitCount()).isEqualTo(1);
+        assertThat(cache.getStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void expiresEachEntryByItsOwnTtl() throws InterruptedException {
+        cache.put("short", CommandResult.success(1L, "a", "", 0), Duration.ofMillis(50));
+        cache.put("long", CommandResult.success(2L, "b", "", 0), Duration.ofSeconds(60));
+
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        assertThat(cache.get("short")).isEmpty();
+        assertThat(cache.get("long")).isPresent();
+    }
+
+    @Test
+    void readDoesNotExtendTtl() throws InterruptedException {
+        cache.put("key", CommandResult.success(1L, "a", "", 0), Duration.ofMillis(150));
+
+        TimeUnit.MILLISECONDS.sleep(80);
+        assertThat(cache.get("key")).isPresent();
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        assertThat(cache.get("key")).isEmpty();
+    }
+
+    @Test
+    void skipsResultLargerThanEntryLimit() {
+        cache.put("large", CommandResult.success(1L, "x".repeat(4096), "", 0));
+
+        assertThat(cache.get("large")).isEmpty();
+        assertThat(cache.getStats().getEntries()).isZero();
+    }
+
+    @Test
+    void tracksUsedBytesByEstimatedSize() {
+        CommandResult result = CommandResult.success(1L, "x".repeat(100), "", 0);
+        cache.put("key", result);
+
+        // (키 3자 + 출력 100자) x 2바이트 + 항목 오버헤드 160바이트
+        assertThat(cache.getStats().getUsedBytes()).isEqualTo(366);
+    }
+
+    @Test
+    void invalidatesEntries() {
+        cache.put("a", CommandResult.success(1L, "a", "", 0));
+        cache.put("b", CommandResult.success(2L, "b", "", 0));
+
+        cache.invalidate("a");
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.get("b")).isPresent();
+
+        cache.clear();
+        assertThat(cache.get("b")).isEmpty();
+    }
+
+    @Test
+    void keyNormalizesHostAndCommandButSeparatesOutputMode() {
+        assertThat(CommandResultCache.key("SERVER1", OutputCaptureMode.FULL, " hostname "))
+            .isEqualTo(CommandResultCache.key("server1", null, "hostname"));
+        assertThat(CommandResultCache.key("server1", OutputCaptureMode.HEAD_TAIL, "hostname"))
+            .isNotEqualTo(CommandResultCache.key("server1", OutputCaptureMode.FULL, "hostname"));
+    }
+}
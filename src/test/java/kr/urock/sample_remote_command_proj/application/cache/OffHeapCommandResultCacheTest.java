@@ -0,0 +1,195 @@
+package kr.urock.sample_remote_command_proj.application.cache;
+
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapCommandResultCacheTest {
+
+    // 직렬화 크기: 헤더 6바이트 + 문자열 3개(길이 4바이트씩) + 출력 100바이트 = 118바이트 → 세그먼트당 2개
+    private static final int SEGMENT_BYTES = 256;
+    private static final String OUTPUT = "x".repeat(100);
+
+    @Test
+    void roundTripsResult() {
+        OffHeapCommandResultCache cache = direct(3);
+        cache.put("ok", CommandResult.success(1L, "한글 output", "warn", 0));
+        cache.put("timeout", CommandResult.timeout(2L, "partial", null));
+
+        assertThat(cache.get("ok")).hasValueSatisfying(result -> {
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getOutput()).isEqualTo("한글 output");
+            assertThat(result.getErrorOutput()).isEqualTo("warn");
+            assertThat(result.getExitCode()).isZero();
+        });
+        assertThat(cache.get("timeout")).hasValueSatisfying(result -> {
+            assertThat(result.isTimedOut()).isTrue();
+            assertThat(result.getErrorOutput()).isNull();
+            assertThat(result.getExitCode()).isNull();
+        });
+    }
+
+    @Test
+    void recyclesOldestSegmentWhenFull() {
+        OffHeapCommandResultCache cache = direct(3);
+        for (int i = 0; i < 6; i++) {
+            cache.put("key" + i, result(i));
+        }
+        assertThat(cache.getStats().getEntries()).isEqualTo(6);
+
+        // 네 번째 세그먼트가 필요하므로 첫 세그먼트(key0, key1) 재사용
+        cache.put("key6", result(6));
+
+        assertThat(cache.get("key0")).isEmpty();
+        assertThat(cache.get("key1")).isEmpty();
+        for (int i = 2; i <= 6; i++) {
+            assertThat(cache.get("key" + i)).isPresent();
+        }
+        assertThat(cache.getStats().getEvictionCount()).isEqualTo(2);
+        assertThat(cache.getStats().getEvictedBytes()).isEqualTo(2 * 118);
+    }
+
+    @Test
+    void keepsEntryRewrittenAfterItsSegmentWasRecycled() {
+        OffHeapCommandResultCache cache = direct(2);
+        cache.put("key0", result(0));
+        cache.put("key1", result(1));
+        cache.put("key2", result(2));
+        cache.put("key3", result(3));
+
+        // 첫 세그먼트 재사용 후 같은 위치에 새 결과 기록, 이전 세대 항목과 섞이지 않음
+        cache.put("key0", CommandResult.success(10L, "y".repeat(100), "", 0));
+        cache.put("key4", result(4));
+
+        assertThat(cache.get("key0")).hasValueSatisfying(result ->
+            assertThat(result.getOutput()).isEqualTo("y".repeat(100)));
+        assertThat(cache.get("key1")).isEmpty();
+        assertThat(cache.get("key4")).isPresent();
+    }
+
+    @Test
+    void concurrentReadersNeverSeeRecycledBytes() throws InterruptedException {
+        OffHeapCommandResultCache cache = direct(2);
+        AtomicBoolean mismatch = new AtomicBoolean();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // 세그먼트를 계속 재사용하는 동안 읽은 결과는 항상 자기 키의 출력이어야 함
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                cache.put("key" + (i % 16), CommandResult.success((long) i, outputOf(i % 16), "", 0));
+            }
+            running.set(false);
+        });
+        Thread[] readers = new Thread[4];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                while (running.get()) {
+                    for (int k = 0; k < 16; k++) {
+                        int key = k;
+                        cache.get("key" + key).ifPresent(result -> {
+                            if (!outputOf(key).equals(result.getOutput())) {
+                                mismatch.set(true);
+                            }
+                        });
+                    }
+                }
+            });
+        }
+
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertThat(mismatch).isFalse();
+    }
+
+    @Test
+    void doesNotCountExpiredOrInvalidatedEntriesAsEvictions() throws InterruptedException {
+        OffHeapCommandResultCache cache = direct(2);
+        cache.put("expired", result(0), Duration.ofMillis(20));
+        cache.put("invalidated", result(1));
+        cache.invalidate("invalidated");
+        cache.put("key2", result(2));
+        cache.put("key3", result(3));
+
+        TimeUnit.MILLISECONDS.sleep(50);
+        cache.put("key4", result(4));
+
+        assertThat(cache.get("expired")).isEmpty();
+        assertThat(cache.getStats().getEvictionCount()).isZero();
+    }
+
+    @Test
+    void expiresEntriesByTtl() throws InterruptedException {
+        OffHeapCommandResultCache cache = direct(2);
+        cache.put("short", result(0), Duration.ofMillis(20));
+        cache.put("long", result(1));
+
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        assertThat(cache.get("short")).isEmpty();
+        assertThat(cache.get("long")).isPresent();
+        assertThat(cache.getStats().getEntries()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsResultLargerThanSegment() {
+        OffHeapCommandResultCache cache = direct(2);
+        cache.put("large", CommandResult.success(1L, "x".repeat(SEGMENT_BYTES), "", 0));
+
+        assertThat(cache.get("large")).isEmpty();
+        assertThat(cache.getStats().getEntries()).isZero();
+    }
+
+    @Test
+    void storesInMappedFileAndDeletesItOnClose(@TempDir Path dir) {
+        Path file = dir.resolve("cache.dat");
+        OffHeapCommandResultCache cache = new OffHeapCommandResultCache(
+            OffHeapCommandResultCache.Storage.MAPPED, 2L * SEGMENT_BYTES, SEGMENT_BYTES, file, Duration.ofMinutes(1)
+        );
+        for (int i = 0; i < 5; i++) {
+            cache.put("key" + i, result(i));
+        }
+
+        assertThat(file).exists();
+        assertThat(cache.get("key0")).isEmpty();
+        assertThat(cache.get("key4")).hasValueSatisfying(result -> assertThat(result.getOutput()).isEqualTo(OUTPUT));
+
+        cache.close();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void rejectsBudgetSmallerThanSegment() {
+        assertThatThrownBy(() -> new OffHeapCommandResultCache(
+            OffHeapCommandResultCache.Storage.DIRECT, SEGMENT_BYTES - 1, SEGMENT_BYTES, null, Duration.ofMinutes(1)
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static OffHeapCommandResultCache direct(int segments) {
+        return new OffHeapCommandResultCache(
+            OffHeapCommandResultCache.Storage.DIRECT, (long) segments * SEGMENT_BYTES, SEGMENT_BYTES, null, Duration.ofMinutes(1)
+        );
+    }
+
+    private static String outputOf(int key) {
+        return String.format("%03d", key).repeat(33);
+    }
+
+    private static CommandResult result(long id) {
+        return CommandResult.success(id, OUTPUT, "", 0);
+    }
+}
@@ -0,0 +1,102 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommandAdmissionControllerTest {
+
+    private static final TaskExecutor DIRECT = Runnable::run;
+
+    @Test
+    void admitsUntilPendingLimitThenRejectsWithMaxRetryAfter() {
+        CommandAdmissionController controller = new CommandAdmissionController(DIRECT, 4, 2, 0.3, 60);
+
+        controller.admit();
+        controller.admit();
+
+        assertThat(controller.getPendingBacklog()).isEqualTo(2);
+        assertThatThrownBy(controller::admit)
+            .isInstanceOfSatisfying(CommandAdmissionRejectedException.class,
+                e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(60));
+        assertThat(controller.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pendingBacklogFollowsDatabaseCount() {
+        CommandAdmissionController controller = new CommandAdmissionController(DIRECT, 4, 2, 0.3, 60);
+        controller.admit();
+        controller.admit();
+
+        // 디스패처가 선점한 만큼 대기열이 줄어듦
+        controller.updatePendingBacklog(1);
+
+        controller.admit();
+        assertThat(controller.getPendingBacklog()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsWholeBatchThatDoesNotFit() {
+        CommandAdmissionController controller = new CommandAdmissionController(DIRECT, 4, 5, 0.3, 60);
+        controller.updatePendingBacklog(3);
+
+        assertThatThrownBy(() -> controller.admit(3)).isInstanceOf(CommandAdmissionRejectedException.class);
+        assertThat(controller.getPendingBacklog()).isEqualTo(3);
+
+        controller.admit(2);
+        assertThat(controller.getPendingBacklog()).isEqualTo(5);
+    }
+
+    @Test
+    void concurrentAdmitsNeverExceedPendingLimit() throws InterruptedException {
+        int limit = 100;
+        CommandAdmissionController controller = new CommandAdmissionController(DIRECT, 4, limit, 0.3, 60);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 400; i++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        controller.admit();
+                        admitted.incrementAndGet();
+                    } catch (CommandAdmissionRejectedException | InterruptedException ignored) {
+                        // 한도 초과
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(admitted.get()).isEqualTo(limit);
+        assertThat(controller.getPendingBacklog()).isEqualTo(limit);
+        assertThat(controller.getRejectedCount()).isEqualTo(300);
+    }
+
+    @Test
+    void grantsOnlyFreeExecutionSlots() {
+        CommandAdmissionController controller = new CommandAdmissionController(DIRECT, 4, 10, 0.3, 60);
+
+        assertThat(controller.tryAcquire(3)).isEqualTo(3);
+        assertThat(controller.tryAcquire(3)).isEqualTo(1);
+        assertThat(controller.tryAcquire(1)).isZero();
+
+        controller.release();
+        controller.release(1);
+        assertThat(controller.getInFlight()).isEqualTo(2);
+        assertThat(controller.tryAcquire(5)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,153 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputCaptureMode;
+import kr.urock.sample_remote_command_proj.domain.command.Command;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommandCoalescerTest {
+
+    private final CommandCoalescer coalescer = new CommandCoalescer();
+
+    @Test
+    void followerSharesLeaderResultWithOwnId() {
+        CompletableFuture<CommandResult> execution = new CompletableFuture<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<CommandResult> leader = coalescer.execute(command(1L, "server1", "ipconfig /all"), () -> {
+            executions.incrementAndGet();
+            return execution;
+        });
+        // 호스트 대소문자/명령어 앞뒤 공백은 같은 실행으로 취급
+        CompletableFuture<CommandResult> follower = coalescer.execute(command(2L, "SERVER1", " ipconfig /all "), () -> {
+            executions.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(leader).isNotDone();
+        assertThat(follower).isNotDone();
+
+        execution.complete(CommandResult.success(1L, "output", "", 0));
+
+        assertThat(leader.join().getCommandId()).isEqualTo(1L);
+        assertThat(follower.join().getCommandId()).isEqualTo(2L);
+        assertThat(follower.join().getOutput()).isEqualTo("output");
+    }
+
+    @Test
+    void notifiesFollowerWithLeaderId() {
+        List<Long> attachedTo = new ArrayList<>();
+
+        coalescer.execute(command(1L, "server1", "hostname"), CompletableFuture::new, attachedTo::add);
+        coalescer.execute(command(2L, "server1", "hostname"), CompletableFuture::new, attachedTo::add);
+
+        // 리더 자신은 알림 없음
+        assertThat(attachedTo).containsExactly(1L);
+    }
+
+    @Test
+    void rejectedAttachDoesNotJoin() {
+        CompletableFuture<CommandResult> execution = new CompletableFuture<>();
+        coalescer.execute(command(1L, "server1", "hostname"), () -> execution);
+
+        assertThatThrownBy(() -> coalescer.execute(command(2L, "server1", "hostname"), CompletableFuture::new,
+            leaderId -> {
+                throw new IllegalStateException("claim released");
+            })).isInstanceOf(IllegalStateException.class);
+
+        // 리더 실행은 영향 없음
+        execution.complete(CommandResult.success(1L, "host", "", 0));
+        AtomicInteger executions = new AtomicInteger();
+        coalescer.execute(command(3L, "server1", "hostname"), () -> pending(executions));
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void followerSeesLeaderFailure() {
+        CompletableFuture<CommandResult> execution = new CompletableFuture<>();
+        CompletableFuture<CommandResult> leader = coalescer.execute(command(1L, "server1", "hostname"), () -> execution);
+        CompletableFuture<CommandResult> follower = coalescer.execute(command(2L, "server1", "hostname"), CompletableFuture::new);
+
+        execution.completeExceptionally(new IllegalStateException("connection lost"));
+
+        assertThat(leader).isCompletedExceptionally();
+        assertThatThrownBy(follower::join).hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void startsNewExecutionAfterCompletion() {
+        AtomicInteger executions = new AtomicInteger();
+
+        for (long id = 1; id <= 2; id++) {
+            long commandId = id;
+            coalescer.execute(command(id, "server1", "hostname"), () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture(CommandResult.success(commandId, "host", "", 0));
+            }).join();
+        }
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void releasesKeyWhenExecutionThrows() {
+        CompletableFuture<CommandResult> failed = coalescer.execute(command(1L, "server1", "hostname"), () -> {
+            throw new IllegalStateException("rejected");
+        });
+        assertThat(failed).isCompletedExceptionally();
+
+        AtomicInteger executions = new AtomicInteger();
+        coalescer.execute(command(2L, "server1", "hostname"), () -> {
+            executions.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotShareAcrossHostsOrOutputModes() {
+        AtomicInteger executions = new AtomicInteger();
+
+        coalescer.execute(command(1L, "server1", "hostname"), () -> pending(executions));
+        coalescer.execute(command(2L, "server2", "hostname"), () -> pending(executions));
+        coalescer.execute(command(3L, "server1", "hostname", OutputCaptureMode.HEAD_TAIL, true), () -> pending(executions));
+
+        assertThat(executions.get()).isEqualTo(3);
+    }
+
+    @Test
+    void executesNonCoalescibleCommandsIndependently() {
+        AtomicInteger executions = new AtomicInteger();
+
+        coalescer.execute(command(1L, "server1", "hostname", OutputCaptureMode.FULL, false), () -> pending(executions));
+        coalescer.execute(command(2L, "server1", "hostname", OutputCaptureMode.FULL, false), () -> pending(executions));
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private static CompletableFuture<CommandResult> pending(AtomicInteger executions) {
+        executions.incrementAndGet();
+        return new CompletableFuture<>();
+    }
+
+    private static Command command(Long id, String host, String commandText) {
+        return command(id, host, commandText, OutputCaptureMode.FULL, true);
+    }
+
+    private static Command command(Long id, String host, String commandText, OutputCaptureMode mode, boolean coalescible) {
+        Command command = Command.create(host, commandText, "api-key", mode, coalescible, null);
+        ReflectionTestUtils.setField(command, "id", id);
+        return command;
+    }
+}
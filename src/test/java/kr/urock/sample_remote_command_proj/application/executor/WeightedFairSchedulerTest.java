@@ -0,0 +1,99 @@
+package kr.urock.sample_remote_command_proj.application.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeightedFairSchedulerTest {
+
+    private final WeightedFairScheduler scheduler = new WeightedFairScheduler(1);
+
+    @Test
+    void splitsSlotsByWeight() {
+        Map<String, Integer> grants = scheduler.allocate(pending("a", 100, "b", 100), Map.of("a", 3, "b", 1), 8);
+
+        assertThat(grants).containsEntry("a", 6).containsEntry("b", 2);
+    }
+
+    @Test
+    void missingWeightCountsAsOne() {
+        Map<String, Integer> grants = scheduler.allocate(pending("a", 100, "b", 100), Map.of("a", 2), 6);
+
+        assertThat(grants).containsEntry("a", 4).containsEntry("b", 2);
+    }
+
+    @Test
+    void givesUnusedShareToKeysWithBacklog() {
+        Map<String, Integer> grants = scheduler.allocate(pending("a", 1, "b", 100), Map.of(), 10);
+
+        assertThat(grants).containsEntry("a", 1).containsEntry("b", 9);
+    }
+
+    @Test
+    void neverGrantsMoreThanPending() {
+        Map<String, Integer> grants = scheduler.allocate(pending("a", 2, "b", 3), Map.of("a", 5), 100);
+
+        assertThat(grants).containsEntry("a", 2).containsEntry("b", 3);
+    }
+
+    @Test
+    void keepsRoundOrderBetweenCalls() {
+        Map<String, Long> pending = pending("a", 100, "b", 100);
+
+        assertThat(scheduler.allocate(pending, Map.of(), 1)).containsOnlyKeys("a");
+        assertThat(scheduler.allocate(pending, Map.of(), 1)).containsOnlyKeys("b");
+        assertThat(scheduler.allocate(pending, Map.of(), 1)).containsOnlyKeys("a");
+    }
+
+    @Test
+    void refundedSlotsAreGrantedAgain() {
+        Map<String, Long> pending = pending("a", 100, "b", 100);
+        scheduler.allocate(pending, Map.of(), 2);
+
+        scheduler.refund("a", 1);
+
+        assertThat(scheduler.allocate(pending, Map.of(), 2)).containsEntry("a", 2).doesNotContainKey("b");
+    }
+
+    @Test
+    void refundNeverGrowsDeficitBeyondShare() {
+        Map<String, Long> pending = pending("a", 100, "b", 100);
+        scheduler.allocate(pending, Map.of(), 2);
+
+        // 호스트 한도로 계속 거부되어 반복 반환되어도 deficit은 quantum x weight(1)까지만
+        for (int i = 0; i < 50; i++) {
+            scheduler.refund("a", 1);
+        }
+
+        assertThat(scheduler.allocate(pending, Map.of(), 10)).containsEntry("a", 6).containsEntry("b", 4);
+    }
+
+    @Test
+    void drainedKeyDoesNotCarryDeficit() {
+        scheduler.allocate(pending("a", 100, "b", 100), Map.of(), 2);
+        scheduler.refund("a", 5);
+
+        // a의 대기열이 비면 deficit 초기화
+        scheduler.allocate(pending("b", 100), Map.of(), 1);
+        Map<String, Integer> grants = scheduler.allocate(pending("a", 100, "b", 100), Map.of(), 3);
+
+        assertThat(grants).containsEntry("b", 2).containsEntry("a", 1);
+    }
+
+    @Test
+    void rejectsNonPositiveQuantum() {
+        assertThatThrownBy(() -> new WeightedFairScheduler(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, Long> pending(Object... keyAndCounts) {
+        Map<String, Long> pending = new LinkedHashMap<>();
+        for (int i = 0; i < keyAndCounts.length; i += 2) {
+            pending.put((String) keyAndCounts[i], ((Integer) keyAndCounts[i + 1]).longValue());
+        }
+        return pending;
+    }
+}
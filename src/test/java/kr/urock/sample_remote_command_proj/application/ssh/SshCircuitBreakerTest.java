@@ -0,0 +1,125 @@
+package kr.urock.sample_remote_command_proj.application.ssh;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SshCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(10);
+    private static final long OPEN_MILLIS = 50;
+
+    private final SshCircuitBreaker breaker = new SshCircuitBreaker("host", 22, new SshCircuitBreaker.Settings(
+        4, 4, 50f, 100f, TimeUnit.SECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(OPEN_MILLIS), 1
+    ));
+
+    @Test
+    void staysClosedUntilMinimumCalls() {
+        failures(3);
+
+        assertThat(breaker.getState()).isEqualTo(SshCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        successes(2);
+        failures(2);
+
+        assertThat(breaker.getState()).isEqualTo(SshCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.getStats().getNotPermittedCalls()).isEqualTo(1);
+        assertThat(breaker.getStats().getOpenTransitions()).isEqualTo(1);
+    }
+
+    @Test
+    void slidingWindowForgetsOldFailures() {
+        failures(1);
+        successes(3);
+        // 윈도우 4개: 가장 오래된 실패가 밀려남
+        successes(1);
+        failures(1);
+
+        assertThat(breaker.getState()).isEqualTo(SshCircuitBreaker.State.CLOSED);
+        assertThat(breaker.getStats().getFailedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void opensOnSlowCalls() {
+        SshCircuitBreaker slowSensitive = new SshCircuitBreaker("host", 22, new SshCircuitBreaker.Settings(
+            2, 2, 100f, 50f, TimeUnit.SECONDS.toNanos(5), TimeUnit.SECONDS.toNanos(30), 1
+        ));
+        slowSensitive.tryAcquirePermission();
+        slowSensitive.onSuccess(FAST);
+        slowSensitive.tryAcquirePermission();
+        slowSensitive.onSuccess(SLOW);
+
+        assertThat(slowSensitive.getState()).isEqualTo(SshCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpenAllowsOneProbeAndClosesOnSuccess() throws InterruptedException {
+        failures(4);
+        TimeUnit.MILLISECONDS.sleep(OPEN_MILLIS + 20);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(SshCircuitBreaker.State.HALF_OPEN);
+        // 탐침 진행 중에는 다른 호출 거부
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.onSuccess(FAST);
+        assertThat(breaker.getState()).isEqualTo(SshCircuitBreaker.State.CLOSED);
+        assertThat(breaker.getStats().getBufferedCalls()).isZero();
+    }
+
+    @Test
+    void halfOpenReopensOnFailedProbe() throws InterruptedException {
+        failures(4);
+        TimeUnit.MILLISECONDS.sleep(OPEN_MILLIS + 20);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onFailure(FAST);
+
+        assertThat(breaker.getState()).isEqualTo(SshCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.getStats().getOpenTransitions()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoredProbeReleasesPermission() throws InterruptedException {
+        failures(4);
+        TimeUnit.MILLISECONDS.sleep(OPEN_MILLIS + 20);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onIgnored();
+
+        assertThat(breaker.getState()).isEqualTo(SshCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void resetCloses() {
+        failures(4);
+        breaker.reset();
+
+        assertThat(breaker.getState()).isEqualTo(SshCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    private void successes(int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onSuccess(FAST);
+        }
+    }
+
+    private void failures(int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onFailure(FAST);
+        }
+    }
+}
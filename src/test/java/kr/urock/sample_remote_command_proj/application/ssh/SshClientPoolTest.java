@@ -0,0 +1,165 @@
+package kr.urock.sample_remote_command_proj.application.ssh;
+
+import kr.urock.sample_remote_command_proj.application.ssh.dto.ConnectionInfo;
+import kr.urock.sample_remote_command_proj.application.ssh.dto.SshPoolStats;
+import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.transport.Transport;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SshClientPoolTest {
+
+    private static final ConnectionInfo INFO = ConnectionInfo.of("server1", 22, "user", "password");
+
+    private final List<FakeConnection> connections = new ArrayList<>();
+
+    @Test
+    void sharesConnectionUntilSessionLimit() throws IOException {
+        SshClientPool pool = pool(0, 2, 2, 300_000);
+
+        SshClientPool.PooledSshClient first = pool.borrow(INFO);
+        SshClientPool.PooledSshClient second = pool.borrow(INFO);
+        SshClientPool.PooledSshClient third = pool.borrow(INFO);
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(connections).hasSize(2);
+        assertThat(stats(pool).getActiveSessions()).isEqualTo(3);
+        assertThat(stats(pool).getReused()).isEqualTo(1);
+    }
+
+    @Test
+    void timesOutWhenAllSessionsAreLeased() throws IOException {
+        SshClientPool pool = pool(0, 1, 2, 300_000);
+        pool.borrow(INFO);
+        pool.borrow(INFO);
+
+        assertThatThrownBy(() -> pool.borrow(INFO))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Timed out");
+        assertThat(connections).hasSize(1);
+    }
+
+    @Test
+    void reusesReleasedSession() throws IOException {
+        SshClientPool pool = pool(0, 1, 1, 300_000);
+        SshClientPool.PooledSshClient client = pool.borrow(INFO);
+
+        pool.release(client);
+
+        assertThat(pool.borrow(INFO)).isSameAs(client);
+        assertThat(stats(pool).getCreated()).isEqualTo(1);
+        assertThat(stats(pool).getIdle()).isZero();
+    }
+
+    @Test
+    void retiresInvalidatedConnectionAfterLastLeaseReturns() throws IOException {
+        SshClientPool pool = pool(0, 2, 2, 300_000);
+        SshClientPool.PooledSshClient first = pool.borrow(INFO);
+        SshClientPool.PooledSshClient second = pool.borrow(INFO);
+
+        pool.invalidate(first);
+
+        // 다른 세션이 사용 중이면 종료하지 않지만 새 세션은 할당하지 않음
+        verify(connections.get(0).ssh, never()).disconnect();
+        SshClientPool.PooledSshClient next = pool.borrow(INFO);
+        assertThat(next).isNotSameAs(first);
+
+        pool.release(second);
+        verify(connections.get(0).ssh).disconnect();
+        assertThat(stats(pool).getConnections()).isEqualTo(1);
+        assertThat(stats(pool).getDestroyed()).isEqualTo(1);
+    }
+
+    @Test
+    void replacesDeadConnectionOnBorrow() throws IOException {
+        SshClientPool pool = pool(0, 1, 1, 300_000);
+        SshClientPool.PooledSshClient client = pool.borrow(INFO);
+        pool.release(client);
+
+        connections.get(0).running.set(false);
+        SshClientPool.PooledSshClient replaced = pool.borrow(INFO);
+
+        assertThat(replaced).isNotSameAs(client);
+        assertThat(stats(pool).getValidationFailures()).isEqualTo(1);
+        assertThat(stats(pool).getConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void opensNewConnectionWhenServerLowersSessionLimit() throws IOException {
+        SshClientPool pool = pool(0, 2, 4, 300_000);
+        SshClientPool.PooledSshClient first = pool.borrow(INFO);
+        SshClientPool.PooledSshClient rejected = pool.borrow(INFO);
+
+        // 두 번째 세션 개설이 거부됨 → 연결당 1개로 제한
+        pool.limitSessions(rejected);
+        pool.release(rejected);
+
+        assertThat(pool.borrow(INFO)).isNotSameAs(first);
+        assertThat(connections).hasSize(2);
+    }
+
+    @Test
+    void evictsIdleConnectionsAndKeepsMinIdle() throws IOException, InterruptedException {
+        SshClientPool pool = pool(1, 3, 1, 0);
+        List<SshClientPool.PooledSshClient> leased = List.of(pool.borrow(INFO), pool.borrow(INFO), pool.borrow(INFO));
+        leased.forEach(pool::release);
+        TimeUnit.MILLISECONDS.sleep(5);
+
+        pool.evictIdle();
+
+        assertThat(stats(pool).getConnections()).isEqualTo(1);
+        assertThat(stats(pool).getDestroyed()).isEqualTo(2);
+
+        // 남은 연결이 끊어지면 제거 후 min-idle만큼 다시 연결
+        connections.stream().filter(connection -> connection.running.get()).forEach(c -> c.running.set(false));
+        pool.evictIdle();
+
+        assertThat(stats(pool).getConnections()).isEqualTo(1);
+        assertThat(stats(pool).getCreated()).isEqualTo(4);
+    }
+
+    private SshClientPool pool(int minIdle, int maxTotal, int maxSessions, long idleTimeoutMs) {
+        return new SshClientPool(minIdle, maxTotal, maxSessions, 50, idleTimeoutMs, true, 30) {
+            @Override
+            public SSHClient connect(ConnectionInfo info) {
+                FakeConnection connection = new FakeConnection();
+                connections.add(connection);
+                return connection.ssh;
+            }
+        };
+    }
+
+    private static SshPoolStats stats(SshClientPool pool) {
+        return pool.getStats().get(0);
+    }
+
+    /**
+     * 연결 상태를 바꿀 수 있는 SSHClient 목
+     */
+    private static final class FakeConnection {
+
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final SSHClient ssh = mock(SSHClient.class);
+
+        private FakeConnection() {
+            Transport transport = mock(Transport.class);
+            when(transport.isRunning()).thenAnswer(invocation -> running.get());
+            when(ssh.isConnected()).thenAnswer(invocation -> running.get());
+            when(ssh.isAuthenticated()).thenReturn(true);
+            when(ssh.getTransport()).thenReturn(transport);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package kr.urock.sample_remote_command_proj.application.ssh.output;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeadTailOutputCaptureTest {
+
+    @Test
+    void keepsWholeOutputWhenItFits() {
+        HeadTailOutputCapture capture = new HeadTailOutputCapture(4, 4);
+        append(capture, "abc");
+        append(capture, "def");
+
+        assertThat(capture.isTruncated()).isFalse();
+        assertThat(capture.getContent()).isEqualTo("abcdef");
+    }
+
+    @Test
+    void wrapsTailAcrossSmallChunks() {
+        HeadTailOutputCapture capture = new HeadTailOutputCapture(4, 4);
+        append(capture, "abcd");
+        append(capture, "12");
+        append(capture, "345");
+        append(capture, "67");
+
+        assertThat(capture.isTruncated()).isTrue();
+        assertThat(capture.getTotalChars()).isEqualTo(11);
+        assertThat(capture.getContent())
+            .startsWith("abcd")
+            .endsWith("4567")
+            .contains("[3 chars, ~0 lines omitted | total: 11 chars, 0 lines] ...");
+    }
+
+    @Test
+    void keepsOnlyTheEndOfChunksLongerThanTheTail() {
+        HeadTailOutputCapture capture = new HeadTailOutputCapture(4, 4);
+        append(capture, "abcd0123456789");
+
+        assertThat(capture.getContent()).startsWith("abcd").endsWith("6789");
+
+        // 긴 청크 이후에도 링 버퍼 순서 유지
+        append(capture, "xy");
+        assertThat(capture.getContent()).startsWith("abcd").endsWith("89xy");
+    }
+
+    @Test
+    void reportsOmittedLinesAndBytes() {
+        HeadTailOutputCapture capture = new HeadTailOutputCapture(2, 2);
+        append(capture, "a\nb\nc\nd\ne\n");
+        capture.complete(10);
+
+        assertThat(capture.getContent())
+            .startsWith("a\n")
+            .endsWith("e\n")
+            .contains("~3 lines omitted")
+            .contains("total: 10 chars, 5 lines, 10 bytes");
+    }
+
+    @Test
+    void discardsEverythingAfterHeadWhenTailIsEmpty() {
+        HeadTailOutputCapture capture = new HeadTailOutputCapture(3, 0);
+        append(capture, "abcdef");
+
+        assertThat(capture.isTruncated()).isTrue();
+        assertThat(capture.getContent()).startsWith("abc").contains("[3 chars");
+    }
+
+    private static void append(HeadTailOutputCapture capture, String text) {
+        char[] chars = text.toCharArray();
+        capture.append(chars, 0, chars.length);
+    }
+}
@@ -0,0 +1,107 @@
+package kr.urock.sample_remote_command_proj.application.ssh.output;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpillingOutputCaptureTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void keepsSmallOutputInMemory() throws IOException {
+        try (SpillingOutputCapture capture = new SpillingOutputCapture(16, 100, spillDirectory)) {
+            append(capture, "hello\n");
+            append(capture, "world\n");
+
+            assertThat(capture.getContent()).isEqualTo("hello\nworld\n");
+            assertThat(capture.isTruncated()).isFalse();
+            assertThat(spillFiles()).isZero();
+        }
+    }
+
+    @Test
+    void returnsHeadTailAndKeepsSpillFileAboveThreshold() throws IOException {
+        SpillingOutputCapture capture = new SpillingOutputCapture(8, 100, spillDirectory);
+        append(capture, "12345");
+        append(capture, "67890");
+        append(capture, "abc");
+
+        // 결과는 앞/뒤 각 4자 + 전체 출력 파일 위치 (파일을 힙으로 읽지 않음)
+        assertThat(spillFiles()).isEqualTo(1);
+        assertThat(capture.isTruncated()).isTrue();
+        assertThat(capture.getTotalChars()).isEqualTo(13);
+        assertThat(capture.getContent())
+            .startsWith("1234")
+            .contains("0abc")
+            .doesNotContain("5678")
+            .contains("[full output: 13 of 13 chars kept in " + spillDirectory.toAbsolutePath());
+
+        // 닫은 뒤에도 전체 출력 파일은 보관 기간까지 유지
+        capture.close();
+        Path spillFile;
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            spillFile = files.findFirst().orElseThrow();
+        }
+        assertThat(Files.readString(spillFile)).isEqualTo("1234567890abc");
+    }
+
+    @Test
+    void dropsOutputBeyondMaxCharsAndMarksTruncation() throws IOException {
+        try (SpillingOutputCapture capture = new SpillingOutputCapture(16, 10, spillDirectory)) {
+            append(capture, "0123456789");
+            append(capture, "overflow");
+
+            assertThat(capture.isTruncated()).isTrue();
+            assertThat(capture.getTotalChars()).isEqualTo(18);
+            assertThat(capture.getContent())
+                .startsWith("0123456789")
+                .contains("[output truncated: 10 of 18 chars kept]");
+        }
+    }
+
+    @Test
+    void stopsWritingSpillFileAtMaxChars() throws IOException {
+        try (SpillingOutputCapture capture = new SpillingOutputCapture(4, 10, spillDirectory)) {
+            append(capture, "0123456789");
+            append(capture, "overflow");
+
+            assertThat(capture.getContent()).contains("[full output: 10 of 18 chars kept in");
+        }
+    }
+
+    @Test
+    void deletesOnlyExpiredSpillFiles() throws IOException {
+        Path expired = Files.createFile(spillDirectory.resolve("ssh-output-1.log"));
+        Files.setLastModifiedTime(expired, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        Path recent = Files.createFile(spillDirectory.resolve("ssh-output-2.log"));
+        Path other = Files.createFile(spillDirectory.resolve("other.log"));
+        Files.setLastModifiedTime(other, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        assertThat(SpillingOutputCapture.deleteExpired(spillDirectory, Duration.ofHours(1))).isEqualTo(1);
+        assertThat(expired).doesNotExist();
+        assertThat(recent).exists();
+        assertThat(other).exists();
+    }
+
+    private static void append(OutputCapture capture, String text) throws IOException {
+        char[] chars = text.toCharArray();
+        capture.append(chars, 0, chars.length);
+    }
+
+    private long spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.count();
+        }
+    }
+}
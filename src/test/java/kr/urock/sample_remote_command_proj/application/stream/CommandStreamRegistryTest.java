@@ -0,0 +1,149 @@
+package kr.urock.sample_remote_command_proj.application.stream;
+
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputListener;
+import kr.urock.sample_remote_command_proj.application.ssh.output.OutputType;
+import kr.urock.sample_remote_command_proj.application.stream.dto.CommandStreamEvent;
+import kr.urock.sample_remote_command_proj.domain.command.CommandStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommandStreamRegistryTest {
+
+    @Test
+    void lateSubscriberReplaysOutputFromExecutionStart() throws InterruptedException {
+        CommandStreamRegistry registry = registry(1024, 4096);
+
+        registry.start(1L);
+        OutputListener listener = registry.outputListener(1L);
+        listener.onOutput(OutputType.STDOUT, "line 1\n");
+        listener.onOutput(OutputType.STDERR, "warning\n");
+
+        // 실행 도중 구독
+        CommandStream.Batch batch = registry.find(1L).orElseThrow().awaitEvents(0, 0);
+
+        assertThat(batch.skipped()).isFalse();
+        assertThat(batch.events()).extracting(CommandStreamEvent::getType).containsExactly(
+            CommandStreamEvent.Type.STATUS, CommandStreamEvent.Type.STDOUT, CommandStreamEvent.Type.STDERR);
+        assertThat(batch.events()).extracting(CommandStreamEvent::getData)
+            .containsExactly("EXECUTING", "line 1\n", "warning\n");
+    }
+
+    @Test
+    void followerReceivesLeaderOutputBeforeAndAfterAttach() throws InterruptedException {
+        CommandStreamRegistry registry = registry(1024, 4096);
+        registry.start(1L);
+        OutputListener listener = registry.outputListener(1L);
+        listener.onOutput(OutputType.STDOUT, "before\n");
+
+        // 합류: 자신의 EXECUTING 이후 리더의 이전 출력과 이후 출력을 받음 (리더 상태는 제외)
+        registry.start(2L);
+        registry.follow(1L, 2L);
+        listener.onOutput(OutputType.STDERR, "after\n");
+        registry.complete(1L, CommandStatus.SUCCESS);
+        listener.onOutput(OutputType.STDOUT, "late\n");
+        registry.complete(2L, CommandStatus.SUCCESS);
+
+        CommandStream.Batch batch = registry.find(2L).orElseThrow().awaitEvents(0, 0);
+
+        assertThat(batch.events()).extracting(CommandStreamEvent::getType).containsExactly(
+            CommandStreamEvent.Type.STATUS, CommandStreamEvent.Type.STDOUT,
+            CommandStreamEvent.Type.STDERR, CommandStreamEvent.Type.STATUS);
+        assertThat(batch.events()).extracting(CommandStreamEvent::getData)
+            .containsExactly("EXECUTING", "before\n", "after\n", "SUCCESS");
+        assertThat(batch.completed()).isTrue();
+    }
+
+    @Test
+    void pendingStatusIsBufferedOnlyForSubscribedCommands() {
+        CommandStreamRegistry registry = registry(1024, 4096);
+
+        registry.publishStatus(1L, CommandStatus.PENDING);
+        registry.complete(1L, CommandStatus.FAILED);
+
+        assertThat(registry.find(1L)).isEmpty();
+    }
+
+    @Test
+    void resumesAfterLastEventIdAndEndsOnCompletion() throws InterruptedException {
+        CommandStreamRegistry registry = registry(1024, 4096);
+        registry.start(1L);
+        OutputListener listener = registry.outputListener(1L);
+        listener.onOutput(OutputType.STDOUT, "a");
+        listener.onOutput(OutputType.STDOUT, "b");
+        registry.complete(1L, CommandStatus.SUCCESS);
+
+        CommandStream.Batch batch = registry.find(1L).orElseThrow().awaitEvents(2, 0);
+
+        assertThat(batch.events()).extracting(CommandStreamEvent::getData).containsExactly("b", "SUCCESS");
+        assertThat(batch.completed()).isTrue();
+    }
+
+    @Test
+    void subscriberWaitingForOutputIsWokenByPublish() throws Exception {
+        CommandStreamRegistry registry = registry(1024, 4096);
+        CommandStream stream = registry.open(1L);
+
+        CompletableFuture<CommandStream.Batch> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return stream.awaitEvents(0, 5000);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        TimeUnit.MILLISECONDS.sleep(50);
+        registry.start(1L);
+
+        assertThat(waiting.get(1, TimeUnit.SECONDS).events()).hasSize(1);
+    }
+
+    @Test
+    void dropsOldestOutputBeyondPerStreamLimit() throws InterruptedException {
+        CommandStreamRegistry registry = registry(8, 4096);
+        registry.start(1L);
+        OutputListener listener = registry.outputListener(1L);
+        listener.onOutput(OutputType.STDOUT, "12345");
+        listener.onOutput(OutputType.STDOUT, "67890");
+
+        CommandStream.Batch batch = registry.find(1L).orElseThrow().awaitEvents(0, 0);
+
+        assertThat(batch.skipped()).isTrue();
+        assertThat(batch.events()).extracting(CommandStreamEvent::getData).containsExactly("67890");
+    }
+
+    @Test
+    void sharesTotalBudgetAcrossStreams() throws InterruptedException {
+        CommandStreamRegistry registry = registry(100, 30);
+        registry.outputListener(1L).onOutput(OutputType.STDOUT, "x".repeat(20));
+        registry.outputListener(2L).onOutput(OutputType.STDOUT, "y".repeat(10));
+
+        // 합계 한도를 넘으면 새 출력을 쓰는 스트림의 오래된 출력부터 제거
+        registry.outputListener(2L).onOutput(OutputType.STDOUT, "z".repeat(10));
+
+        List<CommandStreamEvent> second = registry.find(2L).orElseThrow().awaitEvents(0, 0).events();
+        assertThat(second).extracting(CommandStreamEvent::getData).containsExactly("z".repeat(10));
+        assertThat(registry.find(1L).orElseThrow().awaitEvents(0, 0).events()).hasSize(1);
+    }
+
+    @Test
+    void evictionReturnsBudget() throws InterruptedException {
+        CommandStreamRegistry registry = new CommandStreamRegistry(100, 30, 0, 3_600_000);
+        registry.outputListener(1L).onOutput(OutputType.STDOUT, "x".repeat(20));
+        registry.complete(1L, CommandStatus.SUCCESS);
+        TimeUnit.MILLISECONDS.sleep(5);
+
+        registry.evictExpired();
+        registry.outputListener(2L).onOutput(OutputType.STDOUT, "y".repeat(20));
+
+        assertThat(registry.find(1L)).isEmpty();
+        assertThat(registry.find(2L).orElseThrow().awaitEvents(0, 0).skipped()).isFalse();
+    }
+
+    private static CommandStreamRegistry registry(long perStream, long total) {
+        return new CommandStreamRegistry(perStream, total, 60_000, 3_600_000);
+    }
+}
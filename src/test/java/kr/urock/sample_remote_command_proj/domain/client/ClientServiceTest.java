@@ -0,0 +1,52 @@
+package kr.urock.sample_remote_command_proj.domain.client;
+
+import kr.urock.sample_remote_command_proj.infrastructure.util.PasswordEncryptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClientServiceTest {
+
+    private final ClientCredentialRepository repository = mock(ClientCredentialRepository.class);
+    private final ClientService service = new ClientService(
+        repository,
+        mock(PasswordEncryptor.class),
+        mock(ApplicationEventPublisher.class)
+    );
+
+    @Test
+    void ownerKeyRoundTripsClientIdOnly() {
+        assertThat(ClientCredential.clientIdOf(ClientCredential.ownerKey(7L))).contains(7L);
+        // 관리자, 이전 버전 API Key는 클라이언트 ID 없음
+        assertThat(ClientCredential.clientIdOf("admin")).isEmpty();
+        assertThat(ClientCredential.clientIdOf("client-3f2a9c1e")).isEmpty();
+        assertThat(ClientCredential.clientIdOf("client:abc")).isEmpty();
+    }
+
+    @Test
+    void schedulingWeightsResolveOwnerKeysByIdAndLegacyKeysByApiKey() {
+        ClientCredential current = client(1L, 3);
+        ClientCredential legacy = client(2L, 5);
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(current));
+        // 클라이언트 ID가 없는 소유자(이전 API Key, admin)는 API Key로 조회
+        when(repository.findByApiKeyIn(List.of(legacy.getApiKey(), "admin"))).thenReturn(List.of(legacy));
+
+        assertThat(service.getSchedulingWeights(List.of("client:1", legacy.getApiKey(), "admin")))
+            .containsEntry("client:1", 3)
+            .containsEntry(legacy.getApiKey(), 5)
+            .doesNotContainKey("admin");
+    }
+
+    private ClientCredential client(Long id, int weight) {
+        ClientCredential credential = ClientCredential.create("host-" + id, 22, "user", "encrypted", null);
+        ReflectionTestUtils.setField(credential, "id", id);
+        credential.updatePolicy(weight, null, null, null);
+        return credential;
+    }
+}
@@ -0,0 +1,80 @@
+package kr.urock.sample_remote_command_proj.domain.cluster;
+
+import kr.urock.sample_remote_command_proj.infrastructure.util.ConsistentHashRing;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardBucketsTest {
+
+    private static final int VIRTUAL_NODES = 128;
+
+    @Test
+    void sameHostAlwaysMapsToSameBucket() {
+        int bucket = ShardBuckets.of("Server-01.example.com");
+
+        assertThat(bucket).isBetween(0, ShardBuckets.COUNT - 1);
+        assertThat(ShardBuckets.of("server-01.EXAMPLE.com")).isEqualTo(bucket);
+        assertThat(ShardBuckets.of("Server-01.example.com")).isEqualTo(bucket);
+    }
+
+    @Test
+    void ringDoesNotDependOnMemberOrder() {
+        Map<Integer, String> forward = assign(List.of("node-a", "node-b", "node-c"));
+        Map<Integer, String> reversed = assign(List.of("node-c", "node-b", "node-a"));
+
+        assertThat(reversed).isEqualTo(forward);
+    }
+
+    @Test
+    void joiningNodeOnlyTakesBucketsFromOthers() {
+        Map<Integer, String> before = assign(List.of("node-a", "node-b", "node-c"));
+        Map<Integer, String> after = assign(List.of("node-a", "node-b", "node-c", "node-d"));
+
+        int moved = 0;
+        for (int bucket = 0; bucket < ShardBuckets.COUNT; bucket++) {
+            if (!before.get(bucket).equals(after.get(bucket))) {
+                // 이동한 버킷은 모두 새 노드로만 이동
+                assertThat(after.get(bucket)).isEqualTo("node-d");
+                moved++;
+            }
+        }
+        // 약 1/4 이동 (가상 노드 분산 오차 허용)
+        assertThat(moved).isBetween(ShardBuckets.COUNT / 8, ShardBuckets.COUNT * 3 / 8);
+    }
+
+    @Test
+    void leavingNodeOnlyReleasesItsOwnBuckets() {
+        Map<Integer, String> before = assign(List.of("node-a", "node-b", "node-c"));
+        Map<Integer, String> after = assign(List.of("node-a", "node-b"));
+
+        for (int bucket = 0; bucket < ShardBuckets.COUNT; bucket++) {
+            if (!before.get(bucket).equals("node-c")) {
+                assertThat(after.get(bucket)).isEqualTo(before.get(bucket));
+            } else {
+                assertThat(after.get(bucket)).isIn("node-a", "node-b");
+            }
+        }
+    }
+
+    @Test
+    void emptyRingHasNoOwner() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(), VIRTUAL_NODES);
+
+        assertThat(ring.isEmpty()).isTrue();
+        assertThat(ring.nodeFor(ShardBuckets.key(0))).isNull();
+    }
+
+    private static Map<Integer, String> assign(List<String> nodes) {
+        ConsistentHashRing ring = new ConsistentHashRing(nodes, VIRTUAL_NODES);
+        Map<Integer, String> owners = new HashMap<>();
+        for (int bucket = 0; bucket < ShardBuckets.COUNT; bucket++) {
+            owners.put(bucket, ring.nodeFor(ShardBuckets.key(bucket)));
+        }
+        return owners;
+    }
+}
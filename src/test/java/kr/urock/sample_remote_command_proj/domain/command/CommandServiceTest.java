@@ -0,0 +1,172 @@
+package kr.urock.sample_remote_command_proj.domain.command;
+
+import kr.urock.sample_remote_command_proj.application.executor.CommandAdmissionController;
+import kr.urock.sample_remote_command_proj.application.executor.CommandExecutionStartedEvent;
+import kr.urock.sample_remote_command_proj.application.executor.dto.CommandResult;
+import kr.urock.sample_remote_command_proj.application.stream.CommandStreamRegistry;
+import kr.urock.sample_remote_command_proj.application.validator.CommandValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommandServiceTest {
+
+    private final CommandRepository repository = mock(CommandRepository.class);
+    private final CommandStreamRegistry streams = mock(CommandStreamRegistry.class);
+    private final CommandService service = new CommandService(
+        repository,
+        mock(CommandValidator.class),
+        mock(CommandAdmissionController.class),
+        streams,
+        mock(ApplicationEventPublisher.class)
+    );
+
+    @Test
+    void claimsOnlyPermittedCommands() {
+        Command permitted = command(1L);
+        Command refused = command(2L);
+        when(repository.findPendingForUpdateSkipLocked(eq("key"), anyBoolean(), any(), any(), anyInt()))
+            .thenReturn(List.of(permitted, refused));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Command> claimed = service.claimPendingCommands(Map.of("key", 2), null, List.of(),
+            command -> command == permitted);
+
+        assertThat(claimed).containsExactly(permitted);
+        assertThat(permitted.isClaimed()).isTrue();
+        assertThat(permitted.getStatus()).isEqualTo(CommandStatus.PENDING);
+        assertThat(refused.isClaimed()).isFalse();
+    }
+
+    @Test
+    void startsClaimedCommand() {
+        Command command = claimed(1L);
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(command));
+
+        service.handleExecutionStarted(new CommandExecutionStartedEvent(1L));
+
+        assertThat(command.getStatus()).isEqualTo(CommandStatus.EXECUTING);
+        assertThat(command.getExecutedAt()).isNotNull();
+        verify(streams).start(1L);
+    }
+
+    @Test
+    void rejectsStartOfUnclaimedOrAlreadyStartedCommand() {
+        Command unclaimed = command(1L);
+        Command executing = claimed(2L);
+        executing.markAsExecuting();
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(unclaimed));
+        when(repository.findByIdForUpdate(2L)).thenReturn(Optional.of(executing));
+
+        assertThatThrownBy(() -> service.handleExecutionStarted(new CommandExecutionStartedEvent(1L)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service.handleExecutionStarted(new CommandExecutionStartedEvent(2L)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(unclaimed.getStatus()).isEqualTo(CommandStatus.PENDING);
+        verify(streams, never()).start(any());
+    }
+
+    @Test
+    void requeuesStaleClaimsAndRejectsLateStart() {
+        Command command = claimed(1L);
+        LocalDateTime beforeTime = LocalDateTime.now().plusSeconds(1);
+        when(repository.findStaleClaimedCommands(beforeTime)).thenReturn(List.of(command));
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(command));
+
+        assertThat(service.recoverStaleClaims(beforeTime)).isEqualTo(1);
+
+        // PENDING을 유지하고 선점만 해제 (다시 선점 가능)
+        assertThat(command.getStatus()).isEqualTo(CommandStatus.PENDING);
+        assertThat(command.getClaimedAt()).isNull();
+        assertThat(command.getCompletedAt()).isNull();
+
+        // 원래 노드가 뒤늦게 시작하려 하면 거부
+        assertThatThrownBy(() -> service.handleExecutionStarted(new CommandExecutionStartedEvent(1L)))
+            .isInstanceOf(IllegalStateException.class);
+
+        // 다시 선점되면 시작 가능
+        command.markAsClaimed();
+        service.handleExecutionStarted(new CommandExecutionStartedEvent(1L));
+        assertThat(command.getStatus()).isEqualTo(CommandStatus.EXECUTING);
+    }
+
+    @Test
+    void ignoresNotStartedResult() {
+        Command command = command(1L);
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(command));
+
+        service.handleCommandResult(CommandResult.notStarted(1L, "claim released"));
+
+        assertThat(command.getStatus()).isEqualTo(CommandStatus.PENDING);
+        verify(repository, never()).save(any());
+        verify(streams, never()).complete(any(), any());
+    }
+
+    @Test
+    void countsHostsAndStatusesInOneQuery() {
+        when(repository.countByTargetHostsAndStatuses(List.of("server1", "server2"),
+            List.of(CommandStatus.PENDING, CommandStatus.EXECUTING)))
+            .thenReturn(List.of(
+                hostStatusCount("server1", CommandStatus.PENDING, 3L),
+                hostStatusCount("server1", CommandStatus.EXECUTING, 1L),
+                hostStatusCount("server2", CommandStatus.EXECUTING, 2L)
+            ));
+
+        Map<String, Map<CommandStatus, Long>> counts = service.countByTargetHostAndStatus(
+            List.of("server1", "server2"), List.of(CommandStatus.PENDING, CommandStatus.EXECUTING));
+
+        assertThat(counts.get("server1")).containsEntry(CommandStatus.PENDING, 3L).containsEntry(CommandStatus.EXECUTING, 1L);
+        assertThat(counts.get("server2")).containsOnlyKeys(CommandStatus.EXECUTING);
+        verify(repository, never()).countByTargetHostAndStatus(any(), any());
+        // 호스트가 없으면 조회하지 않음
+        assertThat(service.countByTargetHostAndStatus(List.of(), List.of(CommandStatus.PENDING))).isEmpty();
+    }
+
+    private static CommandRepository.HostStatusCount hostStatusCount(String host, CommandStatus status, Long count) {
+        return new CommandRepository.HostStatusCount() {
+            @Override
+            public String getTargetHost() {
+                return host;
+            }
+
+            @Override
+            public CommandStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private static Command claimed(Long id) {
+        Command command = command(id);
+        command.markAsClaimed();
+        return command;
+    }
+
+    private static Command command(Long id) {
+        Command command = Command.create("server1", "hostname", "key");
+        ReflectionTestUtils.setField(command, "id", id);
+        return command;
+    }
+}
@@ -0,0 +1,138 @@
+package kr.urock.sample_remote_command_proj.infrastructure.security;
+
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccessTokenServiceTest {
+
+    private static final String ENCRYPTION_KEY = "test-encryption-key-32-characters!!";
+
+    private final ClientCredentialRepository repository = mock(ClientCredentialRepository.class);
+    private final ApiKeyIndex index = new ApiKeyIndex(repository);
+    private ClientCredential client;
+
+    @BeforeEach
+    void setUp() {
+        client = ClientCredential.create("server1", 22, "user", "v2:password", null);
+        ReflectionTestUtils.setField(client, "id", 1L);
+        when(repository.findAll()).thenReturn(List.of(client));
+        when(repository.findById(1L)).thenReturn(Optional.of(client));
+        index.reconcile();
+    }
+
+    @Test
+    void verifiesIssuedToken() {
+        AccessTokenService service = service(900, "", "");
+
+        AccessTokenService.IssuedToken issued = service.issue(1L);
+
+        assertThat(issued.expiresInSeconds()).isEqualTo(900);
+        assertThat(issued.token()).startsWith("v1.");
+        assertThat(service.verify(issued.token())).hasValueSatisfying(entry -> assertThat(entry.clientId()).isEqualTo(1L));
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        AccessTokenService service = service(900, "", "");
+        String token = service.issue(1L).token();
+        String[] parts = token.split("\\.");
+
+        // 서명은 그대로 두고 클라이언트 ID만 변경
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+            .replaceFirst(":1:", ":2:");
+        String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertThat(service.verify(forged)).isEmpty();
+        char first = parts[2].charAt(0);
+        String resigned = parts[0] + "." + parts[1] + "." + (first == 'A' ? 'B' : 'A') + parts[2].substring(1);
+        assertThat(service.verify(resigned)).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherSecret() {
+        String token = service(900, "", "").issue(1L).token();
+        AccessTokenService other = new AccessTokenService(index, 900, "", "", "another-encryption-key-32-chars!!!");
+
+        assertThat(other.verify(token)).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        AccessTokenService service = service(900, "", "");
+
+        assertThat(service.verify("")).isEmpty();
+        assertThat(service.verify("v1.only-one-part")).isEmpty();
+        assertThat(service.verify("v2.a.b")).isEmpty();
+        assertThat(service.verify("v1.!!!.???")).isEmpty();
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        AccessTokenService service = service(0, "", "");
+
+        assertThat(service.verify(service.issue(1L).token())).isEmpty();
+    }
+
+    @Test
+    void revokesTokensWhenEpochAdvances() {
+        AccessTokenService service = service(900, "", "");
+        String token = service.issue(1L).token();
+
+        client.revokeTokens();
+        index.refresh(1L);
+
+        assertThat(service.verify(token)).isEmpty();
+        assertThat(service.verify(service.issue(1L).token())).isPresent();
+    }
+
+    @Test
+    void rejectsTokenOfDeactivatedClient() {
+        AccessTokenService service = service(900, "", "");
+        String token = service.issue(1L).token();
+
+        client.deactivate();
+        index.refresh(1L);
+
+        assertThat(service.verify(token)).isEmpty();
+        assertThatThrownBy(() -> service.issue(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void acceptsTokensSignedWithRetiredKeyAfterRotation() {
+        AccessTokenService before = service(900, "k1:first-secret", "k1");
+        AccessTokenService rotated = service(900, "k1:first-secret,k2:second-secret", "k2");
+        AccessTokenService retired = service(900, "k2:second-secret", "k2");
+
+        String oldToken = before.issue(1L).token();
+        String newToken = rotated.issue(1L).token();
+
+        assertThat(rotated.verify(oldToken)).isPresent();
+        assertThat(before.verify(newToken)).isEmpty();
+        assertThat(retired.verify(newToken)).isPresent();
+        assertThat(retired.verify(oldToken)).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidKeyConfiguration() {
+        assertThatThrownBy(() -> service(900, "k1:secret", "k2")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service(900, "k1", "")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private AccessTokenService service(long ttlSeconds, String signingKeys, String activeKeyId) {
+        return new AccessTokenService(index, ttlSeconds, signingKeys, activeKeyId, ENCRYPTION_KEY);
+    }
+}
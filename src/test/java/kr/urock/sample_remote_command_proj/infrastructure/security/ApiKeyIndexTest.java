@@ -0,0 +1,146 @@
+package kr.urock.sample_remote_command_proj.infrastructure.security;
+
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredential;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialChangedEvent;
+import kr.urock.sample_remote_command_proj.domain.client.ClientCredentialRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApiKeyIndexTest {
+
+    private final ClientCredentialRepository repository = mock(ClientCredentialRepository.class);
+    private final ApiKeyIndex index = new ApiKeyIndex(repository);
+
+    @Test
+    void findsActiveClientByKeyAndId() throws NoSuchAlgorithmException {
+        ClientCredential client = client(1L);
+        when(repository.findAll()).thenReturn(List.of(client));
+        index.reconcile();
+
+        // 평문 키가 아닌 SHA-256 해시만 보관
+        byte[] keyHash = sha256(client.getApiKey());
+        assertThat(index.findActive(client.getApiKey())).hasValueSatisfying(entry -> {
+            assertThat(entry.clientId()).isEqualTo(1L);
+            assertThat(entry.tokenEpoch()).isZero();
+            assertThat(entry.keyHash()).isEqualTo(keyHash);
+        });
+        assertThat(index.findActiveByClientId(1L)).isPresent();
+        assertThat(index.findActive("client-unknown")).isEmpty();
+    }
+
+    @Test
+    void refreshReplacesRegeneratedKey() {
+        ClientCredential client = client(1L);
+        when(repository.findAll()).thenReturn(List.of(client));
+        index.reconcile();
+        String oldKey = client.getApiKey();
+
+        String newKey = client.regenerateApiKey();
+        when(repository.findById(1L)).thenReturn(Optional.of(client));
+        index.onClientCredentialChanged(new ClientCredentialChangedEvent(1L, client.getHost()));
+
+        assertThat(index.findActive(oldKey)).isEmpty();
+        assertThat(index.findActive(newKey)).hasValueSatisfying(entry -> assertThat(entry.tokenEpoch()).isEqualTo(1));
+    }
+
+    @Test
+    void refreshHidesDeactivatedClient() {
+        ClientCredential client = client(1L);
+        when(repository.findAll()).thenReturn(List.of(client));
+        index.reconcile();
+
+        client.deactivate();
+        when(repository.findById(1L)).thenReturn(Optional.of(client));
+        index.refresh(1L);
+
+        assertThat(index.findActive(client.getApiKey())).isEmpty();
+        assertThat(index.findActiveByClientId(1L)).isEmpty();
+    }
+
+    @Test
+    void refreshEvictsDeletedClient() {
+        ClientCredential client = client(1L);
+        when(repository.findAll()).thenReturn(List.of(client));
+        index.reconcile();
+
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        index.refresh(1L);
+
+        assertThat(index.findActive(client.getApiKey())).isEmpty();
+        assertThat(index.findActiveByClientId(1L)).isEmpty();
+    }
+
+    @Test
+    void reconcileEvictsClientsMissingFromDatabase() {
+        ClientCredential kept = client(1L);
+        ClientCredential deleted = client(2L);
+        when(repository.findAll()).thenReturn(List.of(kept, deleted));
+        index.reconcile();
+
+        when(repository.findAll()).thenReturn(List.of(kept));
+        index.reconcile();
+
+        assertThat(index.findActive(kept.getApiKey())).isPresent();
+        assertThat(index.findActive(deleted.getApiKey())).isEmpty();
+    }
+
+    @Test
+    void reconcileDiscardsSnapshotReadBeforeConcurrentRefresh() {
+        ClientCredential stale = client(1L);
+        when(repository.findAll()).thenReturn(List.of(stale));
+        index.reconcile();
+
+        // 재동기화가 전체 목록을 읽는 동안 재발급이 커밋되고 즉시 반영됨
+        ClientCredential regenerated = client(1L);
+        when(repository.findById(1L)).thenReturn(Optional.of(regenerated));
+        when(repository.findAll()).thenAnswer(invocation -> {
+            index.refresh(1L);
+            return List.of(stale);
+        });
+        index.reconcile();
+
+        assertThat(index.findActive(regenerated.getApiKey())).isPresent();
+        assertThat(index.findActive(stale.getApiKey())).isEmpty();
+
+        // 다음 재동기화는 최신 목록 적용
+        doReturn(List.of(regenerated)).when(repository).findAll();
+        index.reconcile();
+        assertThat(index.findActive(regenerated.getApiKey())).isPresent();
+    }
+
+    @Test
+    void failedRefreshIsLeftToNextReconcile() {
+        ClientCredential client = client(1L);
+        when(repository.findAll()).thenReturn(List.of(client));
+        index.reconcile();
+
+        String newKey = client.regenerateApiKey();
+        when(repository.findById(1L)).thenThrow(new IllegalStateException("database unavailable"));
+        index.onClientCredentialChanged(new ClientCredentialChangedEvent(1L, client.getHost()));
+        assertThat(index.findActive(newKey)).isEmpty();
+
+        index.reconcile();
+        assertThat(index.findActive(newKey)).isPresent();
+    }
+
+    private static byte[] sha256(String value) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ClientCredential client(Long id) {
+        ClientCredential credential = ClientCredential.create("server" + id, 22, "user", "v2:password", null);
+        ReflectionTestUtils.setField(credential, "id", id);
+        return credential;
+    }
+}
@@ -0,0 +1,91 @@
+package kr.urock.sample_remote_command_proj.infrastructure.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedWheelTimerTest {
+
+    // 5ms tick, 4칸 휠 = 한 바퀴 20ms
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-wheel", 5, TimeUnit.MILLISECONDS, 4, Runnable::run);
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    void runsTaskNoEarlierThanItsDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        AtomicLong firedAfter = new AtomicLong();
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(() -> {
+            firedAfter.set(System.nanoTime() - start);
+            fired.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(firedAfter.get()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    void waitsMultipleRoundsForDelaysLongerThanTheWheel() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        AtomicLong firedAfter = new AtomicLong();
+
+        timer.schedule(() -> {
+            firedAfter.set(System.nanoTime() - start);
+            fired.countDown();
+        }, 70, TimeUnit.MILLISECONDS);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAfter.get()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(70));
+    }
+
+    @Test
+    void cancelledTimeoutNeverRuns() throws InterruptedException {
+        CountDownLatch cancelledFired = new CountDownLatch(1);
+        CountDownLatch laterFired = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout cancelled = timer.schedule(cancelledFired::countDown, 10, TimeUnit.MILLISECONDS);
+        assertThat(cancelled.cancel()).isTrue();
+        timer.schedule(laterFired::countDown, 40, TimeUnit.MILLISECONDS);
+
+        assertThat(laterFired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelledFired.getCount()).isEqualTo(1);
+        assertThat(cancelled.isExpired()).isFalse();
+        assertThat(cancelled.cancel()).isFalse();
+    }
+
+    @Test
+    void cannotCancelAfterExpiry() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        HashedWheelTimer.Timeout timeout = timer.schedule(fired::countDown, 1, TimeUnit.MILLISECONDS);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    void rejectsScheduleAfterClose() {
+        timer.close();
+
+        assertThatThrownBy(() -> timer.schedule(() -> { }, 1, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void requiresPowerOfTwoWheel() {
+        assertThatThrownBy(() -> new HashedWheelTimer("bad", 1, TimeUnit.MILLISECONDS, 3, Runnable::run))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package kr.urock.sample_remote_command_proj.infrastructure.util;
+
+import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
+import org.jasypt.iv.RandomIvGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 패스워드 암호화 처리량 비교 (JMH)
+ *
+ * 이전 방식(단일 StandardPBEStringEncryptor, 호출마다 키 유도)과 v2(AES-GCM, 키 1회 유도) 비교
+ * - 실행: main 메서드 (테스트 클래스패스), 코어 수만큼의 스레드로 동시 호출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class PasswordEncryptorBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-encryption-key-32-chars!!";
+    private static final String PASSWORD = "P@ssw0rd-for-remote-host";
+
+    private StandardPBEStringEncryptor legacyEncryptor;
+    private PasswordEncryptor passwordEncryptor;
+    private String legacyCiphertext;
+    private String v2Ciphertext;
+
+    @Setup
+    public void setUp() {
+        legacyEncryptor = new StandardPBEStringEncryptor();
+        legacyEncryptor.setPassword(SECRET_KEY);
+        legacyEncryptor.setAlgorithm("PBEWithHMACSHA512AndAES_256");
+        legacyEncryptor.setIvGenerator(new RandomIvGenerator());
+        legacyCiphertext = legacyEncryptor.encrypt(PASSWORD);
+
+        passwordEncryptor = new PasswordEncryptor(SECRET_KEY, "sample-remote-command-proj", 310000);
+        v2Ciphertext = passwordEncryptor.encrypt(PASSWORD);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() {
+        return legacyEncryptor.encrypt(PASSWORD);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() {
+        return legacyEncryptor.decrypt(legacyCiphertext);
+    }
+
+    @Benchmark
+    public String v2Encrypt() {
+        return passwordEncryptor.encrypt(PASSWORD);
+    }
+
+    @Benchmark
+    public String v2Decrypt() {
+        return passwordEncryptor.decrypt(v2Ciphertext);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PasswordEncryptorBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,109 @@
+package kr.urock.sample_remote_command_proj.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    @Test
+    void allowsBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(3, 1);
+
+        assertThat(bucket.tryConsume().remaining()).isEqualTo(2);
+        assertThat(bucket.tryConsume().remaining()).isEqualTo(1);
+        TokenBucket.Probe last = bucket.tryConsume();
+        assertThat(last.allowed()).isTrue();
+        assertThat(last.remaining()).isZero();
+
+        TokenBucket.Probe rejected = bucket.tryConsume();
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.limit()).isEqualTo(3);
+        assertThat(rejected.remaining()).isZero();
+    }
+
+    @Test
+    void retryAfterIsTimeUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(1, 0.5);
+        bucket.tryConsume();
+
+        TokenBucket.Probe rejected = bucket.tryConsume();
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterNanos())
+            .isPositive()
+            .isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(2);
+        assertThat(rejected.resetSeconds()).isEqualTo(2);
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        // 50ms마다 토큰 1개
+        TokenBucket bucket = new TokenBucket(2, 20);
+        bucket.tryConsume();
+        bucket.tryConsume();
+        assertThat(bucket.tryConsume().allowed()).isFalse();
+        assertThat(bucket.isFull()).isFalse();
+
+        TimeUnit.MILLISECONDS.sleep(60);
+        assertThat(bucket.tryConsume().allowed()).isTrue();
+        assertThat(bucket.tryConsume().allowed()).isFalse();
+
+        TimeUnit.MILLISECONDS.sleep(110);
+        assertThat(bucket.isFull()).isTrue();
+    }
+
+    @Test
+    void concurrentConsumersNeverExceedCapacity() throws InterruptedException {
+        // 충전이 무시될 만큼 느린 버킷
+        TokenBucket bucket = new TokenBucket(100, 0.001);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (bucket.tryConsume().allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    @Test
+    void detectsPolicyChange() {
+        TokenBucket bucket = new TokenBucket(5, 2.5);
+
+        assertThat(bucket.hasLimits(5, 2.5)).isTrue();
+        assertThat(bucket.hasLimits(5, 3)).isFalse();
+        assertThat(bucket.hasLimits(6, 2.5)).isFalse();
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}